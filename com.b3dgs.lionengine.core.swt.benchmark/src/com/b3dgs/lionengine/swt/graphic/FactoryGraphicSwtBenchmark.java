@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+
+/**
+ * Benchmark {@link FactoryGraphicSwt#generateTileset(ImageBuffer[], Media)}. Image size is the tileset size, filled
+ * with tiles of {@link #TILE} pixels.
+ */
+public class FactoryGraphicSwtBenchmark extends ImageSwtBenchmark
+{
+    /** Tile size. */
+    private static final int TILE = 16;
+
+    /** Factory reference. */
+    private final FactoryGraphicSwt factory = new FactoryGraphicSwt();
+    /** Tiles. */
+    private ImageBuffer[] tiles;
+    /** Tileset output. */
+    private Media media;
+
+    /**
+     * Create tiles.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        Medias.setResourcesDirectory(System.getProperty("java.io.tmpdir"));
+        media = Medias.create("benchmark-tileset.png");
+
+        final int count = size / TILE * (size / TILE);
+        tiles = new ImageBuffer[count];
+        for (int i = 0; i < count; i++)
+        {
+            tiles[i] = new ImageBufferSwt(ToolsSwt.getDisplay(), createData(TILE, TILE, transparency));
+            tiles[i].prepare();
+        }
+    }
+
+    /**
+     * Dispose tiles and delete tileset.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        for (final ImageBuffer tile : tiles)
+        {
+            tile.dispose();
+        }
+        media.getFile().delete();
+        Medias.setResourcesDirectory(null);
+    }
+
+    /**
+     * Generate tileset.
+     * 
+     * @return The tileset media.
+     */
+    @Benchmark
+    public Media generateTileset()
+    {
+        factory.generateTileset(tiles, media);
+        return media;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+
+/**
+ * Benchmark {@link GraphicSwt} draw calls on a canvas buffer, drawn image is parameterized.
+ */
+public class GraphicSwtBenchmark extends ImageSwtBenchmark
+{
+    /** Canvas size. */
+    private static final int CANVAS = 1024;
+    /** Drawn tiles per pass. */
+    private static final int TILES = 64;
+    /** Tile size. */
+    private static final int TILE = 16;
+    /** Cycled colors. */
+    private static final ColorRgba[] COLORS =
+    {
+        ColorRgba.RED, ColorRgba.GREEN, ColorRgba.BLUE, ColorRgba.WHITE
+    };
+
+    /** Canvas buffer. */
+    private ImageBufferSwt canvas;
+    /** Drawn image. */
+    private ImageBufferSwt image;
+    /** Drawn tile. */
+    private ImageBufferSwt tile;
+    /** Canvas graphic. */
+    private Graphic g;
+
+    /**
+     * Create canvas and drawn images.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        canvas = new ImageBufferSwt(ToolsSwt.getDisplay(), createData(CANVAS, CANVAS, transparency));
+        canvas.prepare();
+        image = new ImageBufferSwt(ToolsSwt.getDisplay(), createData());
+        image.prepare();
+        tile = new ImageBufferSwt(ToolsSwt.getDisplay(), createData(TILE, TILE, transparency));
+        tile.prepare();
+        g = canvas.createGraphic();
+    }
+
+    /**
+     * Dispose canvas and drawn images.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        g.dispose();
+        tile.dispose();
+        image.dispose();
+        canvas.dispose();
+    }
+
+    /**
+     * Draw the image.
+     * 
+     * @return The graphic.
+     */
+    @Benchmark
+    public Graphic drawImage()
+    {
+        g.drawImage(image, 0, 0);
+        return g;
+    }
+
+    /**
+     * Draw tiles as a map row would.
+     * 
+     * @return The graphic.
+     */
+    @Benchmark
+    public Graphic drawTiles()
+    {
+        for (int i = 0; i < TILES; i++)
+        {
+            g.drawImage(tile, i * TILE % CANVAS, i * TILE / CANVAS * TILE);
+        }
+        return g;
+    }
+
+    /**
+     * Fill a rectangle of image size.
+     * 
+     * @return The graphic.
+     */
+    @Benchmark
+    public Graphic fillRect()
+    {
+        g.setColor(ColorRgba.BLUE);
+        g.drawRect(0, 0, size, size, true);
+        return g;
+    }
+
+    /**
+     * Draw lines with color changes.
+     * 
+     * @return The graphic.
+     */
+    @Benchmark
+    public Graphic drawLines()
+    {
+        for (int i = 0; i < TILES; i++)
+        {
+            g.setColor(COLORS[i % COLORS.length]);
+            g.drawLine(0, i, size, size - i);
+        }
+        return g;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+
+/**
+ * Benchmark {@link ImageBufferSwt} pixel access, with pending writes sent to the native image once per pass.
+ * <p>
+ * Legacy variants reproduce the previous behavior, where the native image was rebuilt on each write.
+ * </p>
+ */
+public class ImageBufferSwtBenchmark extends ImageSwtBenchmark
+{
+    /** Buffer reference. */
+    private ImageBufferSwt buffer;
+    /** Line buffer. */
+    private int[] line;
+    /** Legacy data. */
+    private ImageData legacyData;
+    /** Legacy image. */
+    private Image legacy;
+
+    /**
+     * Create buffer.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        buffer = new ImageBufferSwt(ToolsSwt.getDisplay(), createData());
+        buffer.prepare();
+        line = new int[size];
+        legacyData = createData();
+        legacy = new Image(ToolsSwt.getDisplay(), legacyData);
+    }
+
+    /**
+     * Dispose buffer.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        buffer.dispose();
+        legacy.dispose();
+    }
+
+    /**
+     * Read all pixels one by one.
+     * 
+     * @return The pixels sum.
+     */
+    @Benchmark
+    public int getRgb()
+    {
+        int sum = 0;
+        for (int y = 0; y < size; y++)
+        {
+            for (int x = 0; x < size; x++)
+            {
+                sum += buffer.getRgb(x, y);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Read all pixels line by line.
+     * 
+     * @return The last line.
+     */
+    @Benchmark
+    public int[] getRgbLine()
+    {
+        for (int y = 0; y < size; y++)
+        {
+            buffer.getRgb(0, y, size, 1, line, 0, size);
+        }
+        return line;
+    }
+
+    /**
+     * Write one pixel over eight, then send them to the native image.
+     * 
+     * @return The buffer.
+     */
+    @Benchmark
+    public ImageBufferSwt setRgb()
+    {
+        final int color = ColorRgba.BLUE.getRgba();
+        for (int y = 0; y < size; y += 8)
+        {
+            for (int x = 0; x < size; x += 8)
+            {
+                buffer.setRgb(x, y, color);
+            }
+        }
+        buffer.commit();
+        return buffer;
+    }
+
+    /**
+     * Write one pixel over eight, rebuilding the native image on each write (legacy).
+     * 
+     * @return The image.
+     */
+    @Benchmark
+    public Image setRgbLegacy()
+    {
+        final int pixel = legacyData.palette.getPixel(new RGB(0, 0, 255));
+        for (int y = 0; y < size; y += 8)
+        {
+            for (int x = 0; x < size; x += 8)
+            {
+                legacyData.setPixel(x, y, pixel);
+                legacy.dispose();
+                legacy = new Image(ToolsSwt.getDisplay(), legacyData);
+            }
+        }
+        return legacy;
+    }
+
+    /**
+     * Write all pixels line by line, rebuilding the native image on each line (legacy).
+     * 
+     * @return The image.
+     */
+    @Benchmark
+    public Image setRgbLineLegacy()
+    {
+        for (int y = 0; y < size; y++)
+        {
+            legacyData.setPixels(0, y, size, line, 0);
+            legacy.dispose();
+            legacy = new Image(ToolsSwt.getDisplay(), legacyData);
+        }
+        return legacy;
+    }
+
+    /**
+     * Write all pixels line by line, then send them to the native image.
+     * 
+     * @return The buffer.
+     */
+    @Benchmark
+    public ImageBufferSwt setRgbLine()
+    {
+        for (int y = 0; y < size; y++)
+        {
+            buffer.setRgb(0, y, size, 1, line, 0, size);
+        }
+        buffer.commit();
+        return buffer;
+    }
+}
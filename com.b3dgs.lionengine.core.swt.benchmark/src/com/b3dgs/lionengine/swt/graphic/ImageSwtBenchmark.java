@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.b3dgs.lionengine.graphic.Transparency;
+
+/**
+ * Base of image benchmarks, parameterized by image size and transparency type.
+ * <p>
+ * Native images are created on the display of the benchmark thread, states are then per thread and benchmarks must
+ * run with a single thread.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class ImageSwtBenchmark
+{
+    /** Transparent pixel of bit mask images. */
+    private static final int TRANSPARENT = 0xFF00FF;
+
+    /**
+     * Create an image data with a pattern, transparent pixels or alpha depending of transparency.
+     * 
+     * @param width The image width.
+     * @param height The image height.
+     * @param transparency The image transparency.
+     * @return The image data.
+     */
+    protected static ImageData createData(int width, int height, Transparency transparency)
+    {
+        final int depth;
+        if (Transparency.TRANSLUCENT == transparency)
+        {
+            depth = 32;
+        }
+        else
+        {
+            depth = 24;
+        }
+        final ImageData data = new ImageData(width, height, depth, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        if (Transparency.BITMASK == transparency)
+        {
+            data.transparentPixel = TRANSPARENT;
+        }
+
+        final int[] line = new int[width];
+        final byte[] alpha = new byte[width];
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                if (Transparency.BITMASK == transparency && (x + y) % 4 == 0)
+                {
+                    line[x] = TRANSPARENT;
+                }
+                else
+                {
+                    line[x] = (x * 7 ^ y * 13) << 8 & 0xFFFF00 | x + y & 0xFF;
+                }
+                alpha[x] = (byte) (x + y);
+            }
+            data.setPixels(0, y, width, line, 0);
+            if (Transparency.TRANSLUCENT == transparency)
+            {
+                data.setAlphas(0, y, width, alpha, 0);
+            }
+        }
+        return data;
+    }
+
+    /** Image size in pixel, width and height. */
+    @Param(
+    {
+        "64", "256", "1024", "2048"
+    })
+    public int size;
+    /** Image transparency. */
+    @Param(
+    {
+        "OPAQUE", "BITMASK", "TRANSLUCENT"
+    })
+    public Transparency transparency;
+
+    /**
+     * Create the image data with benchmark parameters.
+     * 
+     * @return The image data.
+     */
+    protected ImageData createData()
+    {
+        return createData(size, size, transparency);
+    }
+}
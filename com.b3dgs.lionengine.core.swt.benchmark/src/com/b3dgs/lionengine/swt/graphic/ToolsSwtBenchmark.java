@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.UtilColor;
+
+/**
+ * Benchmark {@link ToolsSwt} image transforms. Created images are disposed in the measured pass, as they would be
+ * by callers.
+ * <p>
+ * Legacy variants reproduce the previous flip, mask and raster, reading and writing the data pixel by pixel.
+ * </p>
+ */
+public class ToolsSwtBenchmark extends ImageSwtBenchmark
+{
+    /** Split divisions. */
+    private static final int SPLIT = 4;
+    /** Mask color. */
+    private static final int MASK = 0xFF00FF;
+    /** Rotated directions. */
+    private static final int DIRECTIONS = 8;
+
+    /**
+     * Dispose images.
+     * 
+     * @param images The images to dispose.
+     * @return The number of disposed images.
+     */
+    private static int dispose(Image... images)
+    {
+        for (final Image image : images)
+        {
+            image.dispose();
+        }
+        return images.length;
+    }
+
+    /**
+     * Flip image pixel by pixel.
+     * 
+     * @param image The source image.
+     * @param vertical <code>true</code> if vertical (upside down), <code>false</code> if horizontal (mirror).
+     * @return The flipped image.
+     */
+    private static Image flipLegacy(Image image, boolean vertical)
+    {
+        final ImageData data = image.getImageData();
+        final ImageData flip = image.getImageData();
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                final int pixel = data.getPixel(x, y);
+                if (vertical)
+                {
+                    flip.setPixel(x, data.height - y - 1, pixel);
+                }
+                else
+                {
+                    flip.setPixel(data.width - x - 1, y, pixel);
+                }
+            }
+        }
+        return new Image(image.getDevice(), flip);
+    }
+
+    /**
+     * Apply color mask pixel by pixel.
+     * 
+     * @param image The source image.
+     * @param maskColor The mask color.
+     * @return The masked image.
+     */
+    private static Image applyMaskLegacy(Image image, int maskColor)
+    {
+        final ImageData data = image.getImageData();
+        final ColorRgba mask = new ColorRgba(maskColor);
+        final int pixel = data.palette.getPixel(new RGB(mask.getRed(), mask.getGreen(), mask.getBlue()));
+        if (data.alphaData == null)
+        {
+            data.transparentPixel = pixel;
+        }
+        else
+        {
+            for (int y = 0; y < data.height; y++)
+            {
+                for (int x = 0; x < data.width; x++)
+                {
+                    if (data.getPixel(x, y) == pixel)
+                    {
+                        data.setAlpha(x, y, 0);
+                    }
+                }
+            }
+        }
+        return new Image(image.getDevice(), data);
+    }
+
+    /**
+     * Raster image pixel by pixel.
+     * 
+     * @param image The source image.
+     * @param fr The red factor.
+     * @param fg The green factor.
+     * @param fb The blue factor.
+     * @return The raster image.
+     */
+    private static Image rasterLegacy(Image image, double fr, double fg, double fb)
+    {
+        final ImageData data = image.getImageData();
+        final PaletteData palette = data.palette;
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                final int pixel = data.getPixel(x, y);
+                if (pixel != data.transparentPixel)
+                {
+                    final RGB rgb = palette.getRGB(pixel);
+                    final int rgba = new ColorRgba(rgb.red, rgb.green, rgb.blue).getRgba();
+                    final ColorRgba color = new ColorRgba(UtilColor.multiplyRgb(rgba, fr, fg, fb));
+                    data.setPixel(x, y, palette.getPixel(new RGB(color.getRed(), color.getGreen(), color.getBlue())));
+                }
+            }
+        }
+        return new Image(image.getDevice(), data);
+    }
+
+    /** Source image. */
+    private Image image;
+    /** Source data. */
+    private ImageData data;
+
+    /**
+     * Create source image.
+     */
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        data = createData();
+        image = new Image(ToolsSwt.getDisplay(), data);
+    }
+
+    /**
+     * Dispose source image.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        image.dispose();
+    }
+
+    /**
+     * Split image.
+     * 
+     * @return The number of frames.
+     */
+    @Benchmark
+    public int split()
+    {
+        return dispose(ToolsSwt.splitImage(image, SPLIT, SPLIT));
+    }
+
+    /**
+     * Flip image horizontally.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int flipHorizontal()
+    {
+        return dispose(ToolsSwt.flipHorizontal(image));
+    }
+
+    /**
+     * Flip image vertically.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int flipVertical()
+    {
+        return dispose(ToolsSwt.flipVertical(image));
+    }
+
+    /**
+     * Flip image horizontally, pixel by pixel.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int flipHorizontalLegacy()
+    {
+        return dispose(flipLegacy(image, false));
+    }
+
+    /**
+     * Flip image vertically, pixel by pixel.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int flipVerticalLegacy()
+    {
+        return dispose(flipLegacy(image, true));
+    }
+
+    /**
+     * Rotate image with an angle not multiple of a quarter.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int rotate()
+    {
+        return dispose(ToolsSwt.rotate(image, 30));
+    }
+
+    /**
+     * Resize image to its double size.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int resize()
+    {
+        return dispose(ToolsSwt.resize(image, size * 2, size * 2));
+    }
+
+    /**
+     * Resize data to its double size with bilinear filter.
+     * 
+     * @return The resized data.
+     */
+    @Benchmark
+    public ImageData resizeBilinear()
+    {
+        return ToolsSwt.resize(data, size * 2, size * 2, Resampling.BILINEAR);
+    }
+
+    /**
+     * Resize data to its half size with box filter.
+     * 
+     * @return The resized data.
+     */
+    @Benchmark
+    public ImageData resizeBox()
+    {
+        return ToolsSwt.resize(data, size / 2, size / 2, Resampling.BOX);
+    }
+
+    /**
+     * Rotate data in all directions.
+     * 
+     * @return The rotated data.
+     */
+    @Benchmark
+    public ImageData[] rotateAll()
+    {
+        return ToolsSwt.rotateAll(data, DIRECTIONS, Resampling.BILINEAR);
+    }
+
+    /**
+     * Apply color mask.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int applyMask()
+    {
+        return dispose(ToolsSwt.applyMask(image, MASK));
+    }
+
+    /**
+     * Apply color mask, pixel by pixel.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int applyMaskLegacy()
+    {
+        return dispose(applyMaskLegacy(image, MASK));
+    }
+
+    /**
+     * Raster image.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int raster()
+    {
+        return dispose(ToolsSwt.getRasterBuffer(image, 0.5, 1.0, 2.0));
+    }
+
+    /**
+     * Raster image, pixel by pixel.
+     * 
+     * @return The number of images.
+     */
+    @Benchmark
+    public int rasterLegacy()
+    {
+        return dispose(rasterLegacy(image, 0.5, 1.0, 2.0));
+    }
+}
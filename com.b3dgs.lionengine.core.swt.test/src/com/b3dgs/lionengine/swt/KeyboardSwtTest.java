@@ -21,6 +21,7 @@ import static com.b3dgs.lionengine.UtilAssert.assertFalse;
 import static com.b3dgs.lionengine.UtilAssert.assertTrue;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.swt.events.KeyEvent;
 import org.eclipse.swt.widgets.Event;
@@ -28,6 +29,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
 import org.junit.jupiter.api.Test;
 
+import com.b3dgs.lionengine.swt.graphic.InputQueueSwt;
 import com.b3dgs.lionengine.swt.graphic.KeyboardSwt;
 import com.b3dgs.lionengine.swt.graphic.ScreenSwtTest;
 import com.b3dgs.lionengine.swt.graphic.ToolsSwt;
@@ -145,6 +147,32 @@ final class KeyboardSwtTest
         shell.dispose();
     }
 
+    /**
+     * Test the keyboard queued events.
+     */
+    @Test
+    void testQueue()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+        final KeyboardSwt keyboard = new KeyboardSwt();
+        final Shell shell = new Shell(ToolsSwt.getDisplay());
+        final AtomicInteger events = new AtomicInteger();
+
+        keyboard.keyPressed(createEvent(shell, KeyboardSwt.UP));
+        keyboard.keyReleased(createEvent(shell, KeyboardSwt.UP));
+
+        assertFalse(keyboard.isPressed(KeyboardSwt.UP));
+        assertEquals(2, keyboard.getEvents().drain((type, code, x, y) ->
+        {
+            assertEquals(events.getAndIncrement() == 0 ? InputQueueSwt.KEY_PRESSED : InputQueueSwt.KEY_RELEASED,
+                         type);
+            assertEquals(KeyboardSwt.UP.intValue(), code);
+        }));
+        assertEquals(0, keyboard.getEvents().size());
+
+        shell.dispose();
+    }
+
     /**
      * Test the keyboard events.
      */
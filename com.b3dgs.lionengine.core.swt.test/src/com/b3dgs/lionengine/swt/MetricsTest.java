@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertPrivateConstructor;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link Metrics}.
+ */
+final class MetricsTest
+{
+    /**
+     * Disable and clear metrics.
+     */
+    @AfterEach
+    void afterTest()
+    {
+        Metrics.setEnabled(false);
+        Metrics.clear();
+    }
+
+    /**
+     * Test the constructor.
+     */
+    @Test
+    void testConstructor()
+    {
+        assertPrivateConstructor(Metrics.class);
+    }
+
+    /**
+     * Test nothing is recorded when disabled.
+     */
+    @Test
+    void testDisabled()
+    {
+        assertFalse(Metrics.isEnabled());
+
+        Metrics.increment(Metric.DRAW_IMAGE);
+        Metrics.endFrame(10L);
+
+        assertTrue(Metrics.getFrames().isEmpty());
+    }
+
+    /**
+     * Test the frames recording.
+     */
+    @Test
+    void testFrames()
+    {
+        Metrics.setEnabled(true);
+
+        assertTrue(Metrics.isEnabled());
+
+        Metrics.increment(Metric.DRAW_IMAGE);
+        Metrics.increment(Metric.DRAW_IMAGE);
+        Metrics.increment(Metric.HANDLE_ALLOCATED);
+        Metrics.endFrame(100L);
+        Metrics.increment(Metric.DRAW_LINE);
+        Metrics.endFrame(200L);
+
+        final List<MetricsFrame> frames = Metrics.getFrames();
+
+        assertEquals(2, frames.size());
+        assertEquals(0L, frames.get(0).getIndex());
+        assertEquals(100L, frames.get(0).getDuration());
+        assertEquals(2L, frames.get(0).getCount(Metric.DRAW_IMAGE));
+        assertEquals(1L, frames.get(0).getCount(Metric.HANDLE_ALLOCATED));
+        assertEquals(0L, frames.get(0).getCount(Metric.DRAW_LINE));
+        assertEquals(1L, Metrics.getLastFrame().getIndex());
+        assertEquals(0L, Metrics.getLastFrame().getCount(Metric.DRAW_IMAGE));
+        assertEquals(1L, Metrics.getLastFrame().getCount(Metric.DRAW_LINE));
+
+        Metrics.clear();
+
+        assertTrue(Metrics.getFrames().isEmpty());
+    }
+
+    /**
+     * Test the history is bounded.
+     */
+    @Test
+    void testHistory()
+    {
+        Metrics.setEnabled(true);
+        for (int i = 0; i < Metrics.HISTORY + 10; i++)
+        {
+            Metrics.endFrame(i);
+        }
+
+        final List<MetricsFrame> frames = Metrics.getFrames();
+
+        assertEquals(Metrics.HISTORY, frames.size());
+        assertEquals(10L, frames.get(0).getIndex());
+        assertEquals(Metrics.HISTORY + 9L, Metrics.getLastFrame().getIndex());
+    }
+
+    /**
+     * Test the CSV dump.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testDump() throws IOException
+    {
+        Metrics.setEnabled(true);
+        Metrics.increment(Metric.FILL_RECT);
+        Metrics.increment(Metric.IMAGE_CACHE_HIT);
+        Metrics.endFrame(2_500L);
+
+        final StringWriter writer = new StringWriter();
+        Metrics.dump(writer);
+        final String[] lines = writer.toString().split(System.lineSeparator());
+
+        assertEquals(2, lines.length);
+        assertEquals("frame,paint_us,draw_image,draw_line,fill_rect,handle_allocated,handle_disposed,"
+                     + "image_cache_hit,image_cache_miss",
+                     lines[0]);
+        assertEquals("0,2,0,0,1,0,0,1,0", lines[1]);
+    }
+}
@@ -21,6 +21,8 @@ import static com.b3dgs.lionengine.UtilAssert.assertFalse;
 import static com.b3dgs.lionengine.UtilAssert.assertNotEquals;
 import static com.b3dgs.lionengine.UtilAssert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.swt.events.MouseEvent;
@@ -29,6 +31,7 @@ import org.eclipse.swt.widgets.Shell;
 import org.junit.jupiter.api.Test;
 
 import com.b3dgs.lionengine.Resolution;
+import com.b3dgs.lionengine.swt.graphic.InputQueueSwt;
 import com.b3dgs.lionengine.swt.graphic.MouseClickSwt;
 import com.b3dgs.lionengine.swt.graphic.MouseMoveSwt;
 import com.b3dgs.lionengine.swt.graphic.MouseSwt;
@@ -180,6 +183,29 @@ final class MouseSwtTest
         shell.dispose();
     }
 
+    /**
+     * Test the mouse queued events.
+     */
+    @Test
+    void testQueue()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+        final MouseSwt mouse = createMouse();
+        final Shell shell = new Shell(ToolsSwt.getDisplay());
+        final List<Integer> types = new ArrayList<>();
+
+        mouse.getClicker().mouseDown(createEvent(shell, MouseSwt.LEFT, 1, 2));
+        mouse.getMover().mouseMove(createEvent(shell, MouseSwt.LEFT, 3, 4));
+        mouse.getClicker().mouseUp(createEvent(shell, MouseSwt.LEFT, 3, 4));
+
+        assertEquals(3, mouse.getEvents().drain((type, code, x, y) -> types.add(Integer.valueOf(type))));
+        assertEquals(Integer.valueOf(InputQueueSwt.MOUSE_PRESSED), types.get(0));
+        assertEquals(Integer.valueOf(InputQueueSwt.MOUSE_MOVED), types.get(1));
+        assertEquals(Integer.valueOf(InputQueueSwt.MOUSE_RELEASED), types.get(2));
+
+        shell.dispose();
+    }
+
     /**
      * Test the mouse event.
      */
@@ -19,15 +19,20 @@ package com.b3dgs.lionengine.swt.graphic;
 import static com.b3dgs.lionengine.UtilAssert.assertEquals;
 import static com.b3dgs.lionengine.UtilAssert.assertNotEquals;
 import static com.b3dgs.lionengine.UtilAssert.assertThrows;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
 
 import org.eclipse.swt.SWT;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.b3dgs.lionengine.Config;
 import com.b3dgs.lionengine.FactoryMediaDefault;
+import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.MediaMock;
 import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.UtilTests;
+import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.FactoryGraphicTest;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
@@ -79,6 +84,43 @@ final class FactoryGraphicSwtTest extends FactoryGraphicTest
         image.dispose();
     }
 
+    /**
+     * Test the headless pixel operations, without native image.
+     */
+    @Test
+    void testHeadless()
+    {
+        final FactoryGraphicSwt factory = new FactoryGraphicSwt(true);
+
+        assertTrue(factory.isHeadless());
+        assertThrows(() -> factory.createScreen(new Config(UtilTests.RESOLUTION_320_240, 32, true)),
+                     FactoryGraphicSwt.ERROR_HEADLESS);
+
+        final ImageBufferSwt image = (ImageBufferSwt) factory.getImageBuffer(Medias.create("image.png"));
+        image.prepare();
+        final ImageBuffer flipped = factory.flipHorizontal(image);
+        final ImageBuffer[] split = factory.splitImage(image, 2, 1);
+        final ImageBuffer masked = factory.applyMask(image, ColorRgba.BLACK);
+        final ImageBuffer empty = factory.createImageBuffer(4, 4);
+
+        assertEquals(image.getRgb(0, 0), flipped.getRgb(image.getWidth() - 1, 0));
+        assertEquals(image.getRgb(image.getWidth() / 2, 0), split[1].getRgb(0, 0));
+        assertEquals(image.getWidth(), masked.getWidth());
+        assertEquals(ColorRgba.BLACK.getRgba(), empty.getRgb(0, 0));
+        assertTrue(((ImageBufferSwt) flipped).isDirty());
+
+        final Media save = Medias.create("headless.png");
+        factory.saveImage(flipped, save);
+
+        assertTrue(save.getFile().exists());
+        assertTrue(save.getFile().delete());
+
+        flipped.dispose();
+        masked.dispose();
+        empty.dispose();
+        image.dispose();
+    }
+
     /**
      * Test the get image buffer exception case.
      */
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link FrameStatsSwt}.
+ */
+final class FrameStatsSwtTest
+{
+    /**
+     * Test the statistics.
+     */
+    @Test
+    void testStats()
+    {
+        final FrameStatsSwt stats = new FrameStatsSwt();
+
+        assertEquals(0L, stats.getAverageFrameTime());
+
+        stats.update(100L, 110L);
+
+        assertEquals(0L, stats.getFrames());
+        assertEquals(10L, stats.getBlitTime());
+
+        stats.update(150L, 160L);
+        stats.update(200L, 230L);
+
+        assertEquals(2L, stats.getFrames());
+        assertEquals(70L, stats.getFrameTime());
+        assertEquals(60L, stats.getAverageFrameTime());
+        assertEquals(70L, stats.getMaxFrameTime());
+        assertEquals(30L, stats.getBlitTime());
+
+        stats.reset();
+
+        assertEquals(0L, stats.getFrames());
+        assertEquals(0L, stats.getMaxFrameTime());
+        assertEquals(0L, stats.getBlitTime());
+    }
+}
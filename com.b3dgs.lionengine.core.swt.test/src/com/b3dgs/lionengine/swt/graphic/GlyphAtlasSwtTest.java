@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.widgets.Display;
+import org.junit.jupiter.api.Test;
+
+import com.b3dgs.lionengine.Constant;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+
+/**
+ * Test {@link GlyphAtlasSwt}.
+ */
+final class GlyphAtlasSwtTest
+{
+    /**
+     * Test the supported glyphs and measures.
+     */
+    @Test
+    void testMeasure()
+    {
+        final Display display = ToolsSwt.getDisplay();
+        final Font font = new Font(display, Constant.FONT_DIALOG, 8, SWT.NORMAL);
+        final GlyphAtlasSwt atlas = new GlyphAtlasSwt(display, font, ColorRgba.WHITE);
+
+        assertTrue(atlas.supports("Test 1.0 ~"));
+        assertFalse(atlas.supports("\u00e9"));
+        assertFalse(atlas.supports("a\tb"));
+        assertTrue(atlas.getHeight() > 0);
+        assertTrue(atlas.getWidth("W") > 0);
+        assertEquals(atlas.getWidth("ab"), atlas.getWidth("a") + atlas.getWidth("b"));
+        assertEquals(0, atlas.getWidth(""));
+
+        atlas.dispose();
+        font.dispose();
+    }
+
+    /**
+     * Test the glyphs drawing with atlas color.
+     */
+    @Test
+    void testDraw()
+    {
+        final Display display = ToolsSwt.getDisplay();
+        final Font font = new Font(display, Constant.FONT_DIALOG, 12, SWT.BOLD);
+        final GlyphAtlasSwt atlas = new GlyphAtlasSwt(display, font, ColorRgba.RED);
+        final Image image = new Image(display, atlas.getWidth("WW"), atlas.getHeight());
+        final GC gc = new GC(image);
+        gc.setBackground(display.getSystemColor(SWT.COLOR_BLACK));
+        gc.fillRectangle(image.getBounds());
+        atlas.draw(gc, "WW", 0, 0);
+        gc.dispose();
+
+        final ImageData data = image.getImageData();
+        boolean drawn = false;
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                final int rgb = ImageDataSwt.getRgb(data.palette, data.getPixel(x, y));
+                assertEquals(0, rgb & 0xFFFF);
+                drawn = drawn || rgb != 0;
+            }
+        }
+        assertTrue(drawn);
+
+        image.dispose();
+        atlas.dispose();
+        font.dispose();
+    }
+}
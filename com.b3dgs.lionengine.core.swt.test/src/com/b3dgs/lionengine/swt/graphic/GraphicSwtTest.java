@@ -16,11 +16,20 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.b3dgs.lionengine.graphic.ColorGradient;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.GraphicTest;
 import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
 
 /**
  * Test {@link GraphicSwt}.
@@ -46,4 +55,99 @@ final class GraphicSwtTest extends GraphicTest
         ScreenSwtTest.checkMultipleDisplaySupport();
         super.testGraphic();
     }
+
+    /**
+     * Test the colors cache, no more native color created once warm.
+     */
+    @Test
+    void testColorCache()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+
+        final ImageBuffer buffer = Graphics.createImageBuffer(16, 16);
+        final GraphicSwt g = (GraphicSwt) buffer.createGraphic();
+
+        g.setColor(ColorRgba.RED);
+        g.setColor(ColorRgba.BLUE);
+        g.setColorGradient(new ColorGradient(0, 0, ColorRgba.RED, 16, 16, ColorRgba.BLUE));
+        g.drawGradient(0, 0, 16, 16);
+
+        assertEquals(2, g.getColorsCreated());
+
+        for (int frame = 0; frame < 100; frame++)
+        {
+            g.setColor(ColorRgba.RED);
+            g.drawRect(0, 0, 16, 16, true);
+            g.setColor(new ColorRgba(0, 0, 255, 128));
+            g.drawRect(0, 0, 8, 8, true);
+        }
+
+        assertEquals(2, g.getColorsCreated());
+        assertEquals(new ColorRgba(0, 0, 255, 128), g.getColor());
+
+        g.dispose();
+        buffer.dispose();
+    }
+
+    /**
+     * Test the mirrored drawing of a source sub region.
+     */
+    @Test
+    void testFlipRegion()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+
+        final ImageBuffer source = Graphics.createImageBuffer(4, 2);
+        source.setRgb(0, 0, ColorRgba.RED.getRgba());
+        source.setRgb(1, 0, new ColorRgba(0, 255, 0).getRgba());
+        source.setRgb(2, 0, ColorRgba.BLUE.getRgba());
+        source.setRgb(3, 0, ColorRgba.WHITE.getRgba());
+        source.setRgb(1, 1, ColorRgba.WHITE.getRgba());
+
+        final ImageBuffer target = Graphics.createImageBuffer(2, 3);
+        final Graphic g = target.createGraphic();
+
+        g.drawImage(source, 0, 0, 2, 1, 3, 0, 1, 1);
+        g.drawImage(source, 0, 1, 1, 3, 1, 2, 2, 0);
+        g.dispose();
+
+        final ImageData data = ((Image) target.getSurface()).getImageData();
+        assertEquals(new RGB(0, 0, 255), data.palette.getRGB(data.getPixel(0, 0)));
+        assertEquals(new RGB(0, 255, 0), data.palette.getRGB(data.getPixel(1, 0)));
+        assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(0, 1)));
+        assertEquals(new RGB(0, 255, 0), data.palette.getRGB(data.getPixel(0, 2)));
+
+        target.dispose();
+        source.dispose();
+    }
+
+    /**
+     * Test cached mirror is refreshed once source pixels are changed in place.
+     */
+    @Test
+    void testFlipSourceChanged()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+
+        final ImageBuffer source = Graphics.createImageBuffer(2, 1);
+        source.setRgb(0, 0, ColorRgba.RED.getRgba());
+        source.setRgb(1, 0, ColorRgba.BLUE.getRgba());
+
+        final ImageBuffer target = Graphics.createImageBuffer(2, 1);
+        Graphic g = target.createGraphic();
+        g.drawImage(source, 0, 0, 2, 1, 2, 0, 0, 1);
+        g.dispose();
+
+        source.setRgb(0, 0, ColorRgba.WHITE.getRgba());
+        g = target.createGraphic();
+        g.drawImage(source, 0, 0, 2, 1, 2, 0, 0, 1);
+        g.dispose();
+
+        final ImageData data = ((Image) target.getSurface()).getImageData();
+        assertEquals(new RGB(0, 0, 255), data.palette.getRGB(data.getPixel(0, 0)));
+        assertEquals(new RGB(255, 255, 255), data.palette.getRGB(data.getPixel(1, 0)));
+
+        target.dispose();
+        source.dispose();
+    }
 }
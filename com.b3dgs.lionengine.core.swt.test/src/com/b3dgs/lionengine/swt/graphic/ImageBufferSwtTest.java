@@ -17,6 +17,7 @@
 package com.b3dgs.lionengine.swt.graphic;
 
 import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
 import static com.b3dgs.lionengine.UtilAssert.assertNotEquals;
 import static com.b3dgs.lionengine.UtilAssert.assertNotNull;
 import static com.b3dgs.lionengine.UtilAssert.assertTrue;
@@ -26,12 +27,16 @@ import java.lang.reflect.InvocationTargetException;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.b3dgs.lionengine.Medias;
 import com.b3dgs.lionengine.UtilReflection;
 import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
 import com.b3dgs.lionengine.graphic.Transparency;
@@ -112,4 +117,136 @@ final class ImageBufferSwtTest
         assertEquals(Transparency.TRANSLUCENT, ImageBufferSwt.getTransparency(SWT.TRANSPARENCY_ALPHA));
         assertEquals(Transparency.OPAQUE, ImageBufferSwt.getTransparency(-1));
     }
+
+    /**
+     * Test the pixel writes are sent to surface only on commit.
+     */
+    @Test
+    void testBatchedWrites()
+    {
+        final ImageBufferSwt image = new ImageBufferSwt(ToolsSwt.createImage(16, 16, SWT.TRANSPARENCY_NONE));
+        final Image surface = image.getSurface();
+
+        for (int x = 2; x < 10; x++)
+        {
+            image.setRgb(x, 4, ColorRgba.BLUE.getRgba());
+        }
+        image.setRgb(0, 8, 4, 1, new int[4], 0, 4);
+
+        assertTrue(image.isDirty());
+        assertEquals(surface, image.getSurface());
+        assertFalse(image.isDirty());
+
+        final ImageData data = image.getSurface().getImageData();
+        assertEquals(data.palette.getPixel(new RGB(0, 0, 255)), data.getPixel(5, 4));
+        assertEquals(ColorRgba.BLUE.getRgba(), image.getRgb(5, 4));
+
+        image.commit();
+        assertFalse(image.isDirty());
+
+        image.dispose();
+    }
+
+    /**
+     * Test the pixel writes committed on an opaque image having a graphic.
+     */
+    @Test
+    void testCommitGraphicOpaque()
+    {
+        final ImageBufferSwt image = new ImageBufferSwt(ToolsSwt.createImage(16, 16, SWT.TRANSPARENCY_NONE));
+        final Graphic g = image.createGraphic();
+        g.setColor(ColorRgba.RED);
+        g.drawRect(0, 0, 4, 4, true);
+
+        image.setRgb(8, 8, ColorRgba.BLUE.getRgba());
+        image.commit();
+
+        final ImageData data = image.getSurface().getImageData();
+        assertEquals(data.palette.getPixel(new RGB(255, 0, 0)), data.getPixel(1, 1));
+        assertEquals(data.palette.getPixel(new RGB(0, 0, 255)), data.getPixel(8, 8));
+
+        g.dispose();
+        image.dispose();
+    }
+
+    /**
+     * Test the pixel writes committed on a transparent image having a graphic, keeping drawings and graphic.
+     */
+    @Test
+    void testCommitGraphicTransparent()
+    {
+        final ImageBufferSwt image = new ImageBufferSwt(ToolsSwt.getDisplay(),
+                                                        ToolsSwt.createImageData(16, 16, ColorRgba.BLACK));
+        image.prepare();
+        final Graphic g = image.createGraphic();
+        g.setColor(ColorRgba.RED);
+        g.drawRect(0, 0, 4, 4, true);
+
+        image.setRgb(8, 8, ColorRgba.BLUE.getRgba());
+        image.commit();
+        g.drawRect(12, 12, 2, 2, true);
+
+        final ImageData data = image.getSurface().getImageData();
+        assertEquals(data.palette.getPixel(new RGB(255, 0, 0)), data.getPixel(1, 1));
+        assertEquals(data.palette.getPixel(new RGB(0, 0, 255)), data.getPixel(8, 8));
+        assertEquals(data.palette.getPixel(new RGB(255, 0, 0)), data.getPixel(13, 13));
+
+        g.dispose();
+        image.dispose();
+    }
+
+    /**
+     * Test the headless buffer, native image created on first surface access.
+     */
+    @Test
+    void testHeadless()
+    {
+        final ImageData data = new ImageData(8, 8, 24, new PaletteData(0xff, 0xff00, 0xff0000));
+        final ImageBufferSwt image = new ImageBufferSwt(null, data);
+        image.prepare();
+
+        assertTrue(image.isDirty());
+        assertEquals(data, image.getImageData());
+
+        image.setRgb(2, 3, ColorRgba.BLUE.getRgba());
+
+        assertEquals(ColorRgba.BLUE.getRgba(), image.getRgb(2, 3));
+        assertNotNull(image.getSurface());
+        assertFalse(image.isDirty());
+
+        image.dispose();
+    }
+
+    /**
+     * Test the cached image sharing until first write.
+     */
+    @Test
+    void testShared()
+    {
+        final Image image = ToolsSwt.createImage(16, 16, SWT.TRANSPARENCY_NONE);
+        final ImageData source = image.getImageData();
+        image.dispose();
+        final ImageCacheSwt cache = new ImageCacheSwt(media -> source, Long.MAX_VALUE);
+        final ImageCacheSwt.Entry entry = cache.get(Medias.create("image.png"));
+        final ImageBufferSwt first = new ImageBufferSwt(ToolsSwt.getDisplay(), entry);
+        final ImageBufferSwt second = new ImageBufferSwt(ToolsSwt.getDisplay(), entry);
+        first.prepare();
+        second.prepare();
+        final Image shared = first.getSurface();
+
+        assertEquals(shared, second.getSurface());
+
+        second.setRgb(1, 1, ColorRgba.BLUE.getRgba());
+
+        assertNotEquals(shared, second.getSurface());
+        assertEquals(ColorRgba.BLUE.getRgba(), second.getRgb(1, 1));
+        assertNotEquals(ColorRgba.BLUE.getRgba(), first.getRgb(1, 1));
+        assertFalse(shared.isDisposed());
+
+        first.dispose();
+
+        assertTrue(shared.isDisposed());
+
+        second.dispose();
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertNotEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.Medias;
+
+/**
+ * Test {@link ImageCacheSwt}.
+ */
+final class ImageCacheSwtTest
+{
+    /** Decoded data size in bytes. */
+    private static final int SIZE = 4 * 4 * 3;
+
+    /**
+     * Prepare test.
+     */
+    @BeforeAll
+    public static void beforeTests()
+    {
+        Medias.setLoadFromJar(ImageCacheSwtTest.class);
+    }
+
+    /**
+     * Clean up test.
+     */
+    @AfterAll
+    public static void afterTests()
+    {
+        Medias.setLoadFromJar(null);
+    }
+
+    /**
+     * Create cache with a counting loader.
+     * 
+     * @param loads The loads counter.
+     * @param budget The cache budget.
+     * @return The created cache.
+     */
+    private static ImageCacheSwt createCache(AtomicInteger loads, long budget)
+    {
+        return new ImageCacheSwt(media ->
+        {
+            loads.incrementAndGet();
+            return new ImageData(4, 4, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        }, budget);
+    }
+
+    /**
+     * Test the hits and misses.
+     */
+    @Test
+    void testHits()
+    {
+        final AtomicInteger loads = new AtomicInteger();
+        final ImageCacheSwt cache = createCache(loads, SIZE * 2L);
+        final Media image = Medias.create("image.png");
+
+        final ImageCacheSwt.Entry entry = cache.get(image);
+
+        assertEquals(entry, cache.get(image));
+        assertEquals(entry, cache.get(Medias.create("image.png")));
+        assertNotEquals(entry.getData(), entry.copyData());
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(SIZE, cache.getSize());
+
+        cache.clear();
+        cache.get(image);
+
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.getMisses());
+    }
+
+    /**
+     * Test the least recently used eviction.
+     */
+    @Test
+    void testEviction()
+    {
+        final AtomicInteger loads = new AtomicInteger();
+        final ImageCacheSwt cache = createCache(loads, SIZE * 2L);
+        final Media image = Medias.create("image.png");
+        final Media palette = Medias.create("palette.png");
+        final Media raster = Medias.create("raster.png");
+
+        cache.get(image);
+        cache.get(palette);
+        cache.get(image);
+        cache.get(raster);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(SIZE * 2L, cache.getSize());
+
+        cache.get(image);
+
+        assertEquals(3, loads.get());
+
+        cache.get(palette);
+
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.getEvictions());
+    }
+
+    /**
+     * Test the reload on file modification.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testModified() throws IOException
+    {
+        final AtomicInteger loads = new AtomicInteger();
+        final ImageCacheSwt cache = createCache(loads, SIZE);
+        final Media media = Medias.create("cache");
+        try (OutputStream output = media.getOutputStream())
+        {
+            output.write(0);
+        }
+        try
+        {
+            final ImageCacheSwt.Entry entry = cache.get(media);
+
+            assertTrue(media.getFile().setLastModified(media.getFile().lastModified() - 10_000L));
+            assertNotEquals(entry, cache.get(media));
+            assertEquals(2, loads.get());
+            assertEquals(SIZE, cache.getSize());
+        }
+        finally
+        {
+            assertTrue(media.getFile().delete());
+        }
+    }
+
+    /**
+     * Test the shared native image references.
+     */
+    @Test
+    void testReferences()
+    {
+        ScreenSwtTest.checkMultipleDisplaySupport();
+
+        final ImageCacheSwt cache = createCache(new AtomicInteger(), SIZE);
+        final ImageCacheSwt.Entry entry = cache.get(Medias.create("image.png"));
+        final Image image = entry.acquire(ToolsSwt.getDisplay());
+
+        assertEquals(image, entry.acquire(ToolsSwt.getDisplay()));
+
+        entry.release();
+
+        assertFalse(image.isDisposed());
+
+        entry.release();
+
+        assertTrue(image.isDisposed());
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertPrivateConstructor;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.jupiter.api.Test;
+
+import com.b3dgs.lionengine.graphic.UtilColor;
+
+/**
+ * Test {@link ImageDataSwt}.
+ */
+final class ImageDataSwtTest
+{
+    /**
+     * Create a direct data with distinct pixels.
+     * 
+     * @param depth The data depth.
+     * @return The created data.
+     */
+    private static ImageData createDirect(int depth)
+    {
+        final ImageData data = new ImageData(3, 2, depth, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                data.setPixel(x, y, (x + 1) * 0x10 << 16 | (y + 1) * 0x20 << 8 | x + y);
+                data.setAlpha(x, y, x * 100 + y);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Test the constructor.
+     */
+    @Test
+    void testConstructor()
+    {
+        assertPrivateConstructor(ImageDataSwt.class);
+    }
+
+    /**
+     * Test the direct palette detection.
+     */
+    @Test
+    void testDirect()
+    {
+        assertTrue(ImageDataSwt.isDirect(createDirect(24)));
+        assertTrue(ImageDataSwt.isDirect(createDirect(32)));
+        assertFalse(ImageDataSwt.isDirect(createDirect(16)));
+        assertFalse(ImageDataSwt.isDirect(new ImageData(2, 2, 8, new PaletteData(new RGB[]
+        {
+            new RGB(0, 0, 0), new RGB(1, 1, 1)
+        }))));
+    }
+
+    /**
+     * Test the lines access, same as pixel access.
+     */
+    @Test
+    void testLine()
+    {
+        for (final int depth : new int[]
+        {
+            16, 24, 32
+        })
+        {
+            final ImageData data = createDirect(depth);
+            final int[] line = new int[data.width];
+            ImageDataSwt.getLine(data, 1, line);
+            for (int x = 0; x < data.width; x++)
+            {
+                assertEquals(data.getPixel(x, 1), line[x]);
+            }
+
+            line[0] = 0x3456;
+            ImageDataSwt.setLine(data, 0, line);
+            assertEquals(0x3456, data.getPixel(0, 0));
+            assertEquals(line[2], data.getPixel(2, 0));
+        }
+    }
+
+    /**
+     * Test the flip, including alpha, on direct and sub byte data.
+     */
+    @Test
+    void testFlip()
+    {
+        final ImageData data = createDirect(24);
+        final ImageData horizontal = ImageDataSwt.flip(data, false);
+        final ImageData vertical = ImageDataSwt.flip(data, true);
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                assertEquals(data.getPixel(x, y), horizontal.getPixel(data.width - x - 1, y));
+                assertEquals(data.getAlpha(x, y), horizontal.getAlpha(data.width - x - 1, y));
+                assertEquals(data.getPixel(x, y), vertical.getPixel(x, data.height - y - 1));
+                assertEquals(data.getAlpha(x, y), vertical.getAlpha(x, data.height - y - 1));
+            }
+        }
+
+        final ImageData indexed = new ImageData(5, 1, 4, new PaletteData(new RGB[]
+        {
+            new RGB(0, 0, 0), new RGB(1, 1, 1), new RGB(2, 2, 2), new RGB(3, 3, 3), new RGB(4, 4, 4)
+        }));
+        indexed.setPixels(0, 0, 5, new int[]
+        {
+            0, 1, 2, 3, 4
+        }, 0);
+        final ImageData flipped = ImageDataSwt.flip(indexed, false);
+        for (int x = 0; x < indexed.width; x++)
+        {
+            assertEquals(4 - x, flipped.getPixel(x, 0));
+        }
+    }
+
+    /**
+     * Test the split order and content, including alpha and transparent pixel.
+     */
+    @Test
+    void testSplit()
+    {
+        final int h = 6;
+        final int v = 4;
+        final ImageData data = new ImageData(h * 3, v * 2, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.alphaData = new byte[data.width * data.height];
+        data.transparentPixel = 0x0A0B0C;
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                data.setPixel(x, y, x << 16 | y << 8 | x + y);
+                data.setAlpha(x, y, x * 10 + y);
+            }
+        }
+
+        final ImageData[] frames = ImageDataSwt.split(data, h, v);
+
+        assertEquals(h * v, frames.length);
+        for (int frame = 0; frame < frames.length; frame++)
+        {
+            final ImageData split = frames[frame];
+            assertEquals(3, split.width);
+            assertEquals(2, split.height);
+            assertEquals(data.transparentPixel, split.transparentPixel);
+            for (int y = 0; y < split.height; y++)
+            {
+                for (int x = 0; x < split.width; x++)
+                {
+                    final int sx = frame % h * split.width + x;
+                    final int sy = frame / h * split.height + y;
+                    assertEquals(data.getPixel(sx, sy), split.getPixel(x, y));
+                    assertEquals(data.getAlpha(sx, sy), split.getAlpha(x, y));
+                }
+            }
+        }
+
+        final ImageData indexed = new ImageData(4, 1, 4, new PaletteData(new RGB[]
+        {
+            new RGB(0, 0, 0), new RGB(1, 1, 1), new RGB(2, 2, 2), new RGB(3, 3, 3)
+        }));
+        indexed.setPixels(0, 0, 4, new int[]
+        {
+            0, 1, 2, 3
+        }, 0);
+        final ImageData[] indexedFrames = ImageDataSwt.split(indexed, 2, 1);
+
+        assertEquals(2, indexedFrames[1].getPixel(0, 0));
+        assertEquals(3, indexedFrames[1].getPixel(1, 0));
+    }
+
+    /**
+     * Test the mask on data with and without alpha.
+     */
+    @Test
+    void testMask()
+    {
+        final ImageData data = createDirect(24);
+        final int mask = data.getPixel(1, 1);
+        ImageDataSwt.applyMask(data, mask);
+
+        assertEquals(0, data.getAlpha(1, 1));
+        assertEquals(200, data.getAlpha(2, 0));
+        assertEquals(-1, data.transparentPixel);
+
+        final ImageData opaque = new ImageData(2, 2, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        ImageDataSwt.applyMask(opaque, 0x00FF00);
+
+        assertEquals(0x00FF00, opaque.transparentPixel);
+    }
+
+    /**
+     * Test the ARGB line with transparent pixel, alpha and indexed palette.
+     */
+    @Test
+    void testArgb()
+    {
+        final ImageData data = new ImageData(2, 1, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.setPixel(0, 0, 0xFF00FF);
+        data.setPixel(1, 0, 0x00FF00);
+        final int[] argb = new int[data.width];
+
+        assertFalse(ImageDataSwt.hasAlpha(data));
+
+        ImageDataSwt.getArgb(data, 0, argb);
+
+        assertEquals(0xFFFF00FF, argb[0]);
+        assertEquals(0xFF00FF00, argb[1]);
+
+        data.transparentPixel = 0xFF00FF;
+        ImageDataSwt.getArgb(data, 0, argb);
+
+        assertTrue(ImageDataSwt.hasAlpha(data));
+        assertEquals(0x00FF00FF, argb[0]);
+        assertEquals(0xFF00FF00, argb[1]);
+
+        data.transparentPixel = -1;
+        data.alphaData = new byte[]
+        {
+            0x10, 0x20
+        };
+        ImageDataSwt.getArgb(data, 0, argb);
+
+        assertEquals(0x10FF00FF, argb[0]);
+        assertEquals(0x2000FF00, argb[1]);
+
+        final ImageData indexed = new ImageData(2, 1, 8, new PaletteData(new RGB[]
+        {
+            new RGB(1, 2, 3), new RGB(4, 5, 6)
+        }));
+        indexed.setPixel(1, 0, 1);
+        ImageDataSwt.getArgb(indexed, 0, argb);
+
+        assertEquals(0xFF010203, argb[0]);
+        assertEquals(0xFF040506, argb[1]);
+    }
+
+    /**
+     * Test the raster on direct data.
+     */
+    @Test
+    void testRaster()
+    {
+        final ImageData data = createDirect(32);
+        final ImageData original = (ImageData) data.clone();
+        data.transparentPixel = data.getPixel(0, 0);
+        ImageDataSwt.raster(data, 0.5, 1.0, 2.0);
+
+        assertEquals(original.getPixel(0, 0), data.getPixel(0, 0));
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                if (x > 0 || y > 0)
+                {
+                    final RGB rgb = original.palette.getRGB(original.getPixel(x, y));
+                    final int rgba = 0xFF000000 | rgb.red << 16 | rgb.green << 8 | rgb.blue;
+                    final int expected = UtilColor.multiplyRgb(rgba, 0.5, 1.0, 2.0);
+                    final RGB raster = data.palette.getRGB(data.getPixel(x, y));
+
+                    assertEquals(new RGB(expected >> 16 & 0xFF, expected >> 8 & 0xFF, expected & 0xFF), raster);
+                }
+            }
+        }
+    }
+}
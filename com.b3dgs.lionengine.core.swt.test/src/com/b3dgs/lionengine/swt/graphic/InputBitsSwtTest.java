@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link InputBitsSwt}.
+ */
+final class InputBitsSwtTest
+{
+    /**
+     * Test the states across words and out of range.
+     */
+    @Test
+    void testStates()
+    {
+        final InputBitsSwt bits = new InputBitsSwt(130);
+
+        assertEquals(130, bits.size());
+        assertTrue(bits.isEmpty());
+
+        assertTrue(bits.set(0, true));
+        assertTrue(bits.set(64, true));
+        assertTrue(bits.set(129, true));
+        assertFalse(bits.set(129, true));
+
+        assertTrue(bits.get(0));
+        assertTrue(bits.get(64));
+        assertTrue(bits.get(129));
+        assertFalse(bits.get(1));
+        assertFalse(bits.get(-1));
+        assertFalse(bits.get(130));
+        assertFalse(bits.set(130, true));
+        assertFalse(bits.isEmpty());
+
+        assertTrue(bits.set(0, false));
+        assertTrue(bits.set(64, false));
+        assertTrue(bits.set(129, false));
+        assertFalse(bits.set(129, false));
+        assertTrue(bits.isEmpty());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertThrows;
+import static com.b3dgs.lionengine.UtilAssert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link InputQueueSwt}.
+ */
+final class InputQueueSwtTest
+{
+    /**
+     * Test the invalid capacity.
+     */
+    @Test
+    void testCapacity()
+    {
+        assertThrows(() -> new InputQueueSwt(3), InputQueueSwt.ERROR_CAPACITY + 3);
+    }
+
+    /**
+     * Test the events order, drop when full, and wrap around.
+     */
+    @Test
+    void testDrain()
+    {
+        final InputQueueSwt queue = new InputQueueSwt(4);
+        for (int i = 0; i < 4; i++)
+        {
+            assertTrue(queue.offer(InputQueueSwt.KEY_PRESSED, i, i * 10, i * 100));
+        }
+        assertFalse(queue.offer(InputQueueSwt.KEY_RELEASED, 4, 0, 0));
+        assertEquals(4, queue.size());
+        assertEquals(1L, queue.getDropped());
+
+        final List<int[]> events = new ArrayList<>();
+        final InputQueueSwt.Listener listener = (type, code, x, y) -> events.add(new int[]
+        {
+            type, code, x, y
+        });
+
+        assertEquals(4, queue.drain(listener));
+        assertEquals(0, queue.size());
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(InputQueueSwt.KEY_PRESSED, events.get(i)[0]);
+            assertEquals(i, events.get(i)[1]);
+            assertEquals(i * 10, events.get(i)[2]);
+            assertEquals(i * 100, events.get(i)[3]);
+        }
+
+        assertTrue(queue.offer(InputQueueSwt.MOUSE_MOVED, 0, 5, 6));
+        assertEquals(1, queue.drain(listener));
+        assertEquals(InputQueueSwt.MOUSE_MOVED, events.get(4)[0]);
+        assertEquals(5, events.get(4)[2]);
+        assertEquals(0, queue.drain(listener));
+    }
+
+    /**
+     * Test the frame snapshot, kept until next snapshot.
+     */
+    @Test
+    void testSnapshot()
+    {
+        final InputQueueSwt queue = new InputQueueSwt(4);
+        final List<int[]> events = new ArrayList<>();
+        final InputQueueSwt.Listener listener = (type, code, x, y) -> events.add(new int[]
+        {
+            type, code, x, y
+        });
+
+        assertEquals(0, queue.snapshot());
+        assertEquals(0, queue.readFrame(listener));
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertTrue(queue.offer(InputQueueSwt.MOUSE_PRESSED, i, i * 10, i * 100));
+        }
+
+        assertEquals(3, queue.snapshot());
+        assertEquals(0, queue.size());
+
+        assertTrue(queue.offer(InputQueueSwt.MOUSE_RELEASED, 1, 0, 0));
+
+        assertEquals(3, queue.readFrame(listener));
+        assertEquals(3, queue.readFrame(listener));
+        assertEquals(6, events.size());
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(InputQueueSwt.MOUSE_PRESSED, events.get(i)[0]);
+            assertEquals(i, events.get(i)[1]);
+            assertEquals(i * 10, events.get(i)[2]);
+            assertEquals(i * 100, events.get(i)[3]);
+        }
+
+        assertEquals(1, queue.snapshot());
+        events.clear();
+
+        assertEquals(1, queue.readFrame(listener));
+        assertEquals(InputQueueSwt.MOUSE_RELEASED, events.get(0)[0]);
+    }
+}
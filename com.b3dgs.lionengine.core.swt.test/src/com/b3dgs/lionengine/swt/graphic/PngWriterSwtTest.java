@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link PngWriterSwt}.
+ */
+final class PngWriterSwtTest
+{
+    /** Image width. */
+    private static final int WIDTH = 300;
+    /** Image height. */
+    private static final int HEIGHT = 600;
+
+    /**
+     * Get the test pixel.
+     * 
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @return The ARGB pixel.
+     */
+    private static int getPixel(int x, int y)
+    {
+        return (x + y & 0xFF) << 24 | (x & 0xFF) << 16 | (y & 0xFF) << 8 | x * y & 0xFF;
+    }
+
+    /**
+     * Encode the test image and decode it.
+     * 
+     * @param alpha The alpha flag.
+     * @param parallel The parallel flag.
+     * @return The decoded data.
+     * @throws IOException If error.
+     */
+    private static ImageData encode(boolean alpha, boolean parallel) throws IOException
+    {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final PngWriterSwt writer = new PngWriterSwt(output, WIDTH, HEIGHT, alpha, 9, parallel);
+        final int[] line = new int[WIDTH];
+        for (int y = 0; y < HEIGHT; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                line[x] = getPixel(x, y);
+            }
+            writer.writeLine(line);
+        }
+        writer.finish();
+
+        return new ImageData(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    /**
+     * Check the decoded data.
+     * 
+     * @param data The decoded data.
+     * @param alpha The alpha flag.
+     */
+    private static void check(ImageData data, boolean alpha)
+    {
+        assertEquals(WIDTH, data.width);
+        assertEquals(HEIGHT, data.height);
+        for (int y = 0; y < HEIGHT; y++)
+        {
+            for (int x = 0; x < WIDTH; x++)
+            {
+                final int pixel = getPixel(x, y);
+                final RGB rgb = data.palette.getRGB(data.getPixel(x, y));
+
+                assertEquals(new RGB(pixel >> 16 & 0xFF, pixel >> 8 & 0xFF, pixel & 0xFF), rgb);
+                if (alpha)
+                {
+                    assertEquals(pixel >>> 24, data.getAlpha(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the sequential encoding.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testSequential() throws IOException
+    {
+        check(encode(false, false), false);
+        check(encode(true, false), true);
+    }
+
+    /**
+     * Test the parallel encoding.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testParallel() throws IOException
+    {
+        check(encode(false, true), false);
+        check(encode(true, true), true);
+    }
+
+    /**
+     * Test the lines number checks.
+     * 
+     * @throws IOException If error.
+     */
+    @Test
+    void testLines() throws IOException
+    {
+        final PngWriterSwt writer = new PngWriterSwt(new ByteArrayOutputStream(), 1, 1, false, 1, false);
+
+        assertThrows(() -> writer.finish(), PngWriterSwt.ERROR_LINES + 0);
+
+        writer.writeLine(new int[1]);
+
+        assertThrows(() -> writer.writeLine(new int[1]), PngWriterSwt.ERROR_LINES + 2);
+    }
+}
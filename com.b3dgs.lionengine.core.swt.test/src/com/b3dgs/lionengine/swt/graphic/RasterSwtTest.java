@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertNotEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertPrivateConstructor;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link RasterSwt}.
+ */
+final class RasterSwtTest
+{
+    /** First color. */
+    private static final int COLOR_A = 0x102030;
+    /** Second color. */
+    private static final int COLOR_B = 0x405060;
+    /** Replacement color. */
+    private static final int COLOR_C = 0x708090;
+
+    /**
+     * Create image with first color on left half and second color on right half.
+     * 
+     * @return The created data.
+     */
+    private static ImageData createImage()
+    {
+        final ImageData data = new ImageData(4, 2, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < data.height; y++)
+        {
+            data.setPixels(0, y, 4, new int[]
+            {
+                COLOR_A, COLOR_A, COLOR_B, COLOR_B
+            }, 0);
+        }
+        return data;
+    }
+
+    /**
+     * Test the constructor.
+     */
+    @Test
+    void testConstructor()
+    {
+        assertPrivateConstructor(RasterSwt.class);
+    }
+
+    /**
+     * Test the palette rows reading on indexed data.
+     */
+    @Test
+    void testRows()
+    {
+        final ImageData palette = new ImageData(2, 2, 8, new PaletteData(new RGB[]
+        {
+            new RGB(0x10, 0x20, 0x30), new RGB(0x40, 0x50, 0x60), new RGB(0x70, 0x80, 0x90)
+        }));
+        palette.setPixels(0, 0, 2, new int[]
+        {
+            0, 1
+        }, 0);
+        palette.setPixels(0, 1, 2, new int[]
+        {
+            2, 1
+        }, 0);
+
+        final int[][] rows = RasterSwt.getRows(palette);
+
+        assertEquals(COLOR_A, rows[0][0]);
+        assertEquals(COLOR_B, rows[0][1]);
+        assertEquals(COLOR_C, rows[1][0]);
+        assertEquals(COLOR_B, rows[1][1]);
+    }
+
+    /**
+     * Test the rasters content and sharing.
+     */
+    @Test
+    void testCreate()
+    {
+        final int[][] rows = new int[][]
+        {
+            {
+                COLOR_A, COLOR_B
+            },
+            {
+                COLOR_C, COLOR_B
+            },
+            {
+                COLOR_A, COLOR_B
+            },
+            {
+                COLOR_C, COLOR_B
+            }
+        };
+        final ImageData image = createImage();
+        final ImageData[] rasters = RasterSwt.create(image, rows[0], rows, 0);
+
+        assertEquals(rows.length, rasters.length);
+        assertEquals(rasters[0], rasters[2]);
+        assertEquals(rasters[1], rasters[3]);
+        assertNotEquals(rasters[0], rasters[1]);
+
+        assertEquals(COLOR_A, rasters[0].getPixel(0, 1));
+        assertEquals(COLOR_C, rasters[1].getPixel(0, 1));
+        assertEquals(COLOR_B, rasters[1].getPixel(3, 1));
+        assertEquals(COLOR_A, image.getPixel(0, 1));
+    }
+
+    /**
+     * Test the rasters with period and transparent pixel.
+     */
+    @Test
+    void testCreatePeriod()
+    {
+        final int[][] rows = new int[][]
+        {
+            {
+                COLOR_A, COLOR_B
+            },
+            {
+                COLOR_C, COLOR_C
+            }
+        };
+        final ImageData image = createImage();
+        image.transparentPixel = COLOR_B;
+        final ImageData[] rasters = RasterSwt.create(image, rows[0], rows, 2);
+
+        assertEquals(COLOR_A, rasters[0].getPixel(0, 0));
+        assertEquals(COLOR_C, rasters[0].getPixel(0, 1));
+        assertEquals(COLOR_C, rasters[1].getPixel(0, 0));
+        assertEquals(COLOR_A, rasters[1].getPixel(0, 1));
+        assertEquals(COLOR_B, rasters[1].getPixel(3, 0));
+        assertEquals(COLOR_B, rasters[0].getPixel(3, 1));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import static com.b3dgs.lionengine.UtilAssert.assertEquals;
+import static com.b3dgs.lionengine.UtilAssert.assertFalse;
+import static com.b3dgs.lionengine.UtilAssert.assertPrivateConstructor;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test {@link ResampleSwt}.
+ */
+final class ResampleSwtTest
+{
+    /**
+     * Create a direct data with distinct pixels.
+     * 
+     * @param width The data width.
+     * @param height The data height.
+     * @return The created data.
+     */
+    private static ImageData createDirect(int width, int height)
+    {
+        final ImageData data = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        for (int y = 0; y < data.height; y++)
+        {
+            for (int x = 0; x < data.width; x++)
+            {
+                data.setPixel(x, y, x * 0x50 << 16 | y * 0x60 << 8 | x + y);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Test the constructor.
+     */
+    @Test
+    void testConstructor()
+    {
+        assertPrivateConstructor(ResampleSwt.class);
+    }
+
+    /**
+     * Test the same size resize, identical with all filters.
+     */
+    @Test
+    void testResizeIdentity()
+    {
+        final ImageData data = createDirect(3, 2);
+        for (final Resampling resampling : Resampling.values())
+        {
+            final ImageData resized = ResampleSwt.resize(data, 3, 2, resampling);
+            for (int y = 0; y < data.height; y++)
+            {
+                for (int x = 0; x < data.width; x++)
+                {
+                    assertEquals(data.getPixel(x, y), resized.getPixel(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the nearest resize, keeping indexed palette.
+     */
+    @Test
+    void testResizeNearest()
+    {
+        final ImageData indexed = new ImageData(2, 1, 8, new PaletteData(new RGB[]
+        {
+            new RGB(1, 2, 3), new RGB(4, 5, 6)
+        }));
+        indexed.setPixel(1, 0, 1);
+        final ImageData resized = ResampleSwt.resize(indexed, 4, 2, Resampling.NEAREST);
+
+        assertFalse(resized.palette.isDirect);
+        assertEquals(0, resized.getPixel(1, 0));
+        assertEquals(1, resized.getPixel(2, 1));
+        assertEquals(1, resized.getPixel(3, 0));
+    }
+
+    /**
+     * Test the bilinear resize, interpolated between pixels.
+     */
+    @Test
+    void testResizeBilinear()
+    {
+        final ImageData data = new ImageData(2, 1, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.setPixel(1, 0, 0xFFFFFF);
+        final ImageData resized = ResampleSwt.resize(data, 4, 1, Resampling.BILINEAR);
+
+        assertEquals(0x000000, resized.getPixel(0, 0));
+        assertEquals(0x404040, resized.getPixel(1, 0));
+        assertEquals(0xBFBFBF, resized.getPixel(2, 0));
+        assertEquals(0xFFFFFF, resized.getPixel(3, 0));
+    }
+
+    /**
+     * Test the box resize, transparent pixels not blended in color.
+     */
+    @Test
+    void testResizeBox()
+    {
+        final ImageData data = new ImageData(2, 1, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.setPixel(0, 0, 0xFF0000);
+        data.setPixel(1, 0, 0x00FF00);
+        data.transparentPixel = 0x00FF00;
+        final ImageData resized = ResampleSwt.resize(data, 1, 1, Resampling.BOX);
+
+        assertEquals(0xFF0000, resized.getPixel(0, 0));
+        assertEquals(128, resized.getAlpha(0, 0));
+    }
+
+    /**
+     * Test the quarter turn rotation, exact with all filters.
+     */
+    @Test
+    void testRotate()
+    {
+        final ImageData data = createDirect(3, 2);
+        for (final Resampling resampling : Resampling.values())
+        {
+            final ImageData rotated = ResampleSwt.rotate(data, 90, resampling);
+
+            assertEquals(2, rotated.width);
+            assertEquals(3, rotated.height);
+
+            for (int y = 0; y < rotated.height; y++)
+            {
+                for (int x = 0; x < rotated.width; x++)
+                {
+                    assertEquals(data.getPixel(y, 1 - x), rotated.getPixel(x, y));
+                    assertEquals(255, rotated.getAlpha(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the rotation in all directions, frames of same size.
+     */
+    @Test
+    void testRotateAll()
+    {
+        final ImageData data = createDirect(4, 4);
+        final ImageData[] frames = ResampleSwt.rotateAll(data, 8, Resampling.BILINEAR);
+
+        assertEquals(8, frames.length);
+        for (final ImageData frame : frames)
+        {
+            assertEquals(6, frame.width);
+            assertEquals(6, frame.height);
+        }
+        assertEquals(0, frames[0].getAlpha(0, 0));
+        assertEquals(data.getPixel(0, 0), frames[0].getPixel(1, 1));
+        assertEquals(data.getPixel(3, 0), frames[2].getPixel(4, 4));
+    }
+}
@@ -20,6 +20,7 @@ import static com.b3dgs.lionengine.UtilAssert.assertEquals;
 import static com.b3dgs.lionengine.UtilAssert.assertTrue;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +32,9 @@ import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
 import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.TextStyle;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+import com.b3dgs.lionengine.swt.MetricsFrame;
 
 /**
  * Test {@link TextSwt}.
@@ -39,6 +43,8 @@ final class TextSwtTest
 {
     /** Text value. */
     private static final String VALUE = "test";
+    /** Text value outside atlas. */
+    private static final String ACCENTED = "\u00e9t\u00e9";
     /** Graphic. */
     private static Graphic g;
 
@@ -64,6 +70,16 @@ final class TextSwtTest
         Graphics.setFactoryGraphic(null);
     }
 
+    /**
+     * Disable and clear metrics.
+     */
+    @AfterEach
+    void afterTest()
+    {
+        Metrics.setEnabled(false);
+        Metrics.clear();
+    }
+
     /**
      * Test the text normal.
      */
@@ -94,6 +110,61 @@ final class TextSwtTest
         assertTrue(text.getHeight() > 0);
     }
 
+    /**
+     * Test the measured extents.
+     */
+    @Test
+    void testExtent()
+    {
+        final Text text = Graphics.createText(Constant.FONT_DIALOG, 12, TextStyle.NORMAL);
+        final int width = text.getStringWidth(g, VALUE);
+        final int height = text.getStringHeight(g, VALUE);
+
+        assertTrue(width > 0);
+        assertTrue(height > 0);
+        assertEquals(width, text.getStringWidth(g, VALUE));
+        assertEquals(height, text.getStringHeight(g, VALUE));
+        assertTrue(text.getStringWidth(g, VALUE + VALUE) > width);
+    }
+
+    /**
+     * Test the text drawn from atlas, with unsupported glyphs and color change.
+     */
+    @Test
+    void testAtlas()
+    {
+        final Text text = new FactoryGraphicSwt().createTextAtlas(Constant.FONT_DIALOG, 12, TextStyle.NORMAL);
+        final Text reference = Graphics.createText(Constant.FONT_DIALOG, 12, TextStyle.NORMAL);
+
+        text.draw(g, 0, 0, Align.CENTER, VALUE);
+        text.draw(g, 0, 0, Align.RIGHT, ACCENTED);
+        text.setColor(ColorRgba.RED);
+        text.draw(g, 0, 0, VALUE);
+
+        assertTrue(text.getStringWidth(g, VALUE) > 0);
+        assertTrue(text.getStringHeight(g, VALUE) > 0);
+        assertEquals(reference.getStringWidth(g, ACCENTED), text.getStringWidth(g, ACCENTED));
+    }
+
+    /**
+     * Test the dispose, releasing atlas and native color.
+     */
+    @Test
+    void testDispose()
+    {
+        Metrics.setEnabled(true);
+
+        final Text text = new FactoryGraphicSwt().createTextAtlas(Constant.FONT_DIALOG, 12, TextStyle.NORMAL);
+        text.draw(g, 0, 0, VALUE);
+        text.draw(g, 0, 0, ACCENTED);
+        ToolsSwt.disposeText(text);
+        Metrics.endFrame(0L);
+
+        final MetricsFrame frame = Metrics.getLastFrame();
+        assertEquals(2L, frame.getCount(Metric.HANDLE_ALLOCATED));
+        assertEquals(2L, frame.getCount(Metric.HANDLE_DISPOSED));
+    }
+
     /**
      * Test the text bold.
      */
@@ -166,6 +166,23 @@ final class ToolsSwtTest
         }
     }
 
+    /**
+     * Test the data area copy.
+     */
+    @Test
+    void testCopyArea()
+    {
+        final ImageData data = new ImageData(4, 4, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        data.setPixel(2, 1, 0x00FF00);
+
+        final ImageData area = ToolsSwt.copy(data, 2, 1, 2, 3);
+
+        assertEquals(2, area.width);
+        assertEquals(3, area.height);
+        assertEquals(0x00FF00, area.getPixel(0, 0));
+        assertEquals(0, area.getPixel(1, 0));
+    }
+
     /**
      * Test the save.
      * 
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt;
+
+/**
+ * Counted rendering events, see {@link Metrics}.
+ */
+public enum Metric
+{
+    /** Image drawn. */
+    DRAW_IMAGE,
+    /** Line drawn. */
+    DRAW_LINE,
+    /** Rectangle filled. */
+    FILL_RECT,
+    /** Native handle allocated (image, color, graphic context). */
+    HANDLE_ALLOCATED,
+    /** Native handle disposed (image, color, graphic context). */
+    HANDLE_DISPOSED,
+    /** Image served from cache. */
+    IMAGE_CACHE_HIT,
+    /** Image decoded as not in cache. */
+    IMAGE_CACHE_MISS;
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Opt-in rendering metrics registry of the SWT backend, disabled by default.
+ * <p>
+ * Once enabled, counted events ({@link Metric}) are accumulated until the frame end ({@link #endFrame(long)}), which
+ * records the frame paint duration and its counters in a bounded history. History can be dumped as CSV.
+ * </p>
+ */
+public final class Metrics
+{
+    /** Maximum number of frames kept in history. */
+    public static final int HISTORY = 600;
+    /** CSV separator. */
+    private static final char SEPARATOR = ',';
+    /** CSV frame column. */
+    private static final String COLUMN_FRAME = "frame";
+    /** CSV duration column. */
+    private static final String COLUMN_DURATION = "paint_us";
+    /** Nano seconds in a micro second. */
+    private static final long NANO_TO_MICRO = 1_000L;
+    /** Metrics list. */
+    private static final Metric[] METRICS = Metric.values();
+    /** Current frame counts, by metric ordinal. */
+    private static final AtomicLongArray COUNTS = new AtomicLongArray(METRICS.length);
+    /** Recorded frames, oldest first. */
+    private static final Deque<MetricsFrame> FRAMES = new ArrayDeque<>(HISTORY);
+    /** Enabled flag. */
+    private static volatile boolean enabled;
+    /** Next frame index. */
+    private static long index;
+
+    /**
+     * Enable or disable metrics. History and current counts are kept, see {@link #clear()}.
+     * 
+     * @param enabled <code>true</code> to record metrics, <code>false</code> to ignore them.
+     */
+    public static void setEnabled(boolean enabled)
+    {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * Check if metrics are recorded.
+     * 
+     * @return <code>true</code> if enabled, <code>false</code> else.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Count an event in current frame. Does nothing if disabled.
+     * 
+     * @param metric The event metric.
+     */
+    public static void increment(Metric metric)
+    {
+        if (enabled)
+        {
+            COUNTS.incrementAndGet(metric.ordinal());
+        }
+    }
+
+    /**
+     * End the current frame, and record it with its counted events. Does nothing if disabled.
+     * 
+     * @param duration The frame paint duration in nanoseconds.
+     */
+    public static void endFrame(long duration)
+    {
+        if (enabled)
+        {
+            final long[] counts = new long[METRICS.length];
+            for (int i = 0; i < counts.length; i++)
+            {
+                counts[i] = COUNTS.getAndSet(i, 0L);
+            }
+            synchronized (FRAMES)
+            {
+                if (FRAMES.size() == HISTORY)
+                {
+                    FRAMES.removeFirst();
+                }
+                FRAMES.addLast(new MetricsFrame(index++, duration, counts));
+            }
+        }
+    }
+
+    /**
+     * Get the recorded frames.
+     * 
+     * @return The recorded frames, oldest first.
+     */
+    public static List<MetricsFrame> getFrames()
+    {
+        synchronized (FRAMES)
+        {
+            return new ArrayList<>(FRAMES);
+        }
+    }
+
+    /**
+     * Get the last recorded frame.
+     * 
+     * @return The last frame, <code>null</code> if none.
+     */
+    public static MetricsFrame getLastFrame()
+    {
+        synchronized (FRAMES)
+        {
+            return FRAMES.peekLast();
+        }
+    }
+
+    /**
+     * Clear history and current counts.
+     */
+    public static void clear()
+    {
+        synchronized (FRAMES)
+        {
+            FRAMES.clear();
+            index = 0L;
+        }
+        for (int i = 0; i < METRICS.length; i++)
+        {
+            COUNTS.set(i, 0L);
+        }
+    }
+
+    /**
+     * Write the recorded frames as CSV, one line per frame, with a header line. Paint duration is in micro seconds.
+     * 
+     * @param writer The output writer (not closed).
+     * @throws IOException If error on writing.
+     */
+    public static void dump(Writer writer) throws IOException
+    {
+        writer.write(COLUMN_FRAME);
+        writer.write(SEPARATOR);
+        writer.write(COLUMN_DURATION);
+        for (final Metric metric : METRICS)
+        {
+            writer.write(SEPARATOR);
+            writer.write(metric.name().toLowerCase(Locale.ENGLISH));
+        }
+        writer.write(System.lineSeparator());
+
+        for (final MetricsFrame frame : getFrames())
+        {
+            writer.write(String.valueOf(frame.getIndex()));
+            writer.write(SEPARATOR);
+            writer.write(String.valueOf(frame.getDuration() / NANO_TO_MICRO));
+            for (final Metric metric : METRICS)
+            {
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(frame.getCount(metric)));
+            }
+            writer.write(System.lineSeparator());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Private constructor.
+     */
+    private Metrics()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt;
+
+/**
+ * Recorded frame of {@link Metrics}, with its paint duration and its counted events.
+ */
+public final class MetricsFrame
+{
+    /** Frame index since metrics enabled. */
+    private final long index;
+    /** Paint duration in nanoseconds. */
+    private final long duration;
+    /** Events count, by metric ordinal. */
+    private final long[] counts;
+
+    /**
+     * Create frame.
+     * 
+     * @param index The frame index.
+     * @param duration The paint duration in nanoseconds.
+     * @param counts The events count, by metric ordinal.
+     */
+    MetricsFrame(long index, long duration, long[] counts)
+    {
+        super();
+
+        this.index = index;
+        this.duration = duration;
+        this.counts = counts;
+    }
+
+    /**
+     * Get the frame index since metrics enabled.
+     * 
+     * @return The frame index.
+     */
+    public long getIndex()
+    {
+        return index;
+    }
+
+    /**
+     * Get the paint duration.
+     * 
+     * @return The paint duration in nanoseconds.
+     */
+    public long getDuration()
+    {
+        return duration;
+    }
+
+    /**
+     * Get the events count during frame.
+     * 
+     * @param metric The metric.
+     * @return The events count.
+     */
+    public long getCount(Metric metric)
+    {
+        return counts[metric.ordinal()];
+    }
+}
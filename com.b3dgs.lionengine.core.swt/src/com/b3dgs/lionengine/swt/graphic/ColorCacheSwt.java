@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Device;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+
+/**
+ * Bounded cache of native colors for a device, least recently used color is disposed when full.
+ * <p>
+ * Colors are keyed by their red, green and blue components only. Alpha is not part of the key on purpose: it is applied
+ * with {@link org.eclipse.swt.graphics.GC#setAlpha(int)} when the color is set (see {@link GraphicSwt#setColor}) and
+ * native colors are created opaque, so a color faded over frames shares a single native color instead of allocating
+ * one handle per alpha value. Cache is cleared when device changes.
+ * </p>
+ */
+final class ColorCacheSwt
+{
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+
+    /**
+     * Get the color key.
+     * 
+     * @param color The color.
+     * @return The color key.
+     */
+    private static Integer getKey(ColorRgba color)
+    {
+        return Integer.valueOf(color.getRed() << 16 | color.getGreen() << 8 | color.getBlue());
+    }
+
+    /** Cached colors, in access order. */
+    private final Map<Integer, Color> colors;
+    /** Colors device, <code>null</code> if none. */
+    private Device device;
+    /** Number of created colors. */
+    private int created;
+
+    /**
+     * Create cache.
+     * 
+     * @param capacity The maximum number of cached colors (strictly positive).
+     */
+    ColorCacheSwt(int capacity)
+    {
+        super();
+
+        colors = new LinkedHashMap<Integer, Color>(capacity, LOAD_FACTOR, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Color> eldest)
+            {
+                if (size() > capacity)
+                {
+                    eldest.getValue().dispose();
+                    Metrics.increment(Metric.HANDLE_DISPOSED);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the native color, create it if not cached.
+     * 
+     * @param device The device reference.
+     * @param color The color.
+     * @return The native color.
+     */
+    Color get(Device device, ColorRgba color)
+    {
+        if (this.device != device)
+        {
+            dispose();
+            this.device = device;
+        }
+
+        final Integer key = getKey(color);
+        Color cached = colors.get(key);
+        if (cached == null)
+        {
+            cached = new Color(device, color.getRed(), color.getGreen(), color.getBlue());
+            colors.put(key, cached);
+            created++;
+            Metrics.increment(Metric.HANDLE_ALLOCATED);
+        }
+        return cached;
+    }
+
+    /**
+     * Get the number of created native colors since cache creation.
+     * 
+     * @return The number of created colors.
+     */
+    int getCreated()
+    {
+        return created;
+    }
+
+    /**
+     * Dispose cached colors.
+     */
+    void dispose()
+    {
+        for (final Color color : colors.values())
+        {
+            color.dispose();
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+        colors.clear();
+    }
+}
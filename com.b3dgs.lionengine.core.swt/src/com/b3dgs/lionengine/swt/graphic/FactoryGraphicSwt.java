@@ -19,9 +19,16 @@ package com.b3dgs.lionengine.swt.graphic;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
 
 import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
 
 import com.b3dgs.lionengine.Check;
 import com.b3dgs.lionengine.Config;
@@ -40,6 +47,11 @@ import com.b3dgs.lionengine.graphic.Transparency;
 
 /**
  * Graphic factory implementation.
+ * <p>
+ * Pixel operations (load, copy, mask, split, rotate, resize, flip, raster and save) work on image data. In headless
+ * mode, no display is required by them: buffers native images are created only once shown, and operations can run
+ * from any thread, in parallel.
+ * </p>
  */
 // CHECKSTYLE IGNORE LINE: DataAbstractionCoupling
 public final class FactoryGraphicSwt implements FactoryGraphic
@@ -48,13 +60,272 @@ public final class FactoryGraphicSwt implements FactoryGraphic
     static final String ERROR_IMAGE_READING = "Error on reading image !";
     /** Save image message. */
     static final String ERROR_IMAGE_SAVE = "Unable to save image: ";
+    /** Headless screen message. */
+    static final String ERROR_HEADLESS = "No screen in headless mode !";
+
+    /**
+     * Get the image data.
+     * 
+     * @param media The image media.
+     * @return The image data.
+     * @throws LionEngineException If error when reading image.
+     */
+    private static ImageData getImageData(Media media)
+    {
+        try (InputStream input = media.getInputStream())
+        {
+            return ToolsSwt.getImageData(input);
+        }
+        catch (final SWTException | LionEngineException | IOException exception)
+        {
+            throw new LionEngineException(exception, media, ERROR_IMAGE_READING);
+        }
+    }
+
+    /**
+     * Get the image data of a buffer.
+     * 
+     * @param image The image buffer.
+     * @return The image data.
+     */
+    private static ImageData getImageData(ImageBuffer image)
+    {
+        if (image instanceof ImageBufferSwt)
+        {
+            return ((ImageBufferSwt) image).getImageData();
+        }
+        return ((Image) image.getSurface()).getImageData();
+    }
+
+    /**
+     * Get the color of tileset cells without tile.
+     * 
+     * @param transparency The tileset transparency.
+     * @return The ARGB color.
+     */
+    private static int getEmptyColor(Transparency transparency)
+    {
+        if (Transparency.OPAQUE == transparency)
+        {
+            return ColorRgba.BLACK.getRgba();
+        }
+        return ColorRgba.TRANSPARENT.getRgba();
+    }
+
+    /**
+     * Get the data of the tiles of a tileset row.
+     * 
+     * @param images The tiles.
+     * @param first The first tile index.
+     * @param columns The number of tiles per row.
+     * @return The tiles data, <code>null</code> for cells without tile.
+     */
+    private static ImageData[] getBand(ImageBuffer[] images, int first, int columns)
+    {
+        final ImageData[] band = new ImageData[columns];
+        for (int i = 0; i < columns && first + i < images.length; i++)
+        {
+            band[i] = getImageData(images[first + i]);
+        }
+        return band;
+    }
+
+    /**
+     * Compose a tileset line from the tiles line.
+     * 
+     * @param band The tiles data, <code>null</code> for cells without tile.
+     * @param y The line index in tiles.
+     * @param width The cell width.
+     * @param empty The color of cells without tile.
+     * @param tile The tile line buffer, of cell width length.
+     * @param line The tileset line output.
+     */
+    private static void writeBandLine(ImageData[] band, int y, int width, int empty, int[] tile, int[] line)
+    {
+        Arrays.fill(line, empty);
+        for (int i = 0; i < band.length; i++)
+        {
+            final ImageData data = band[i];
+            if (data != null && y < data.height)
+            {
+                final int[] source;
+                if (data.width == tile.length)
+                {
+                    source = tile;
+                }
+                else
+                {
+                    source = new int[data.width];
+                }
+                ImageDataSwt.getArgb(data, y, source);
+                System.arraycopy(source, 0, line, i * width, Math.min(width, data.width));
+            }
+        }
+    }
+
+    /** Decoded images cache. */
+    private final ImageCacheSwt cache = new ImageCacheSwt(FactoryGraphicSwt::getImageData,
+                                                          ImageCacheSwt.DEFAULT_BUDGET);
+    /** PNG deflate level. */
+    private int compression = PngWriterSwt.DEFAULT_LEVEL;
+    /** PNG parallel deflate flag. */
+    private boolean parallel;
+    /** Headless flag. */
+    private final boolean headless;
 
     /**
      * Constructor.
      */
     public FactoryGraphicSwt()
+    {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param headless <code>true</code> to not require any display until buffers are shown, <code>false</code> to
+     *            create native images with pixel operations.
+     */
+    public FactoryGraphicSwt(boolean headless)
     {
         super();
+
+        this.headless = headless;
+    }
+
+    /**
+     * Check if headless.
+     * 
+     * @return <code>true</code> if headless, <code>false</code> else.
+     */
+    public boolean isHeadless()
+    {
+        return headless;
+    }
+
+    /**
+     * Get the decoded images cache, used by {@link #getImageBuffer(Media)}.
+     * 
+     * @return The images cache.
+     */
+    public ImageCacheSwt getImageCache()
+    {
+        return cache;
+    }
+
+    /**
+     * Set the PNG compression used by {@link #saveImage(ImageBuffer, Media)} and
+     * {@link #generateTileset(ImageBuffer[], Media)}.
+     * 
+     * @param level The deflate level, from <code>-1</code> (default) to <code>9</code> (best).
+     * @param parallel <code>true</code> to deflate in parallel, <code>false</code> else.
+     * @throws LionEngineException If invalid level.
+     */
+    public void setCompression(int level, boolean parallel)
+    {
+        Check.superiorOrEqual(level, PngWriterSwt.DEFAULT_LEVEL);
+        Check.inferiorOrEqual(level, Deflater.BEST_COMPRESSION);
+
+        compression = level;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Create a text drawn from a glyph atlas, rendered once per color. Suited to labels drawn each frame, strings
+     * with glyphs outside printable ASCII are drawn natively.
+     * 
+     * @param fontName The font name.
+     * @param size The font size in pixel.
+     * @param style The font style.
+     * @return The created text.
+     */
+    public Text createTextAtlas(String fontName, int size, TextStyle style)
+    {
+        return new TextSwt(ToolsSwt.getDisplay(), fontName, size, style, true);
+    }
+
+    /**
+     * Resize image with a resampling filter.
+     * 
+     * @param image The image to resize.
+     * @param width The new width (strictly positive).
+     * @param height The new height (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The resized image.
+     * @throws LionEngineException If invalid arguments.
+     */
+    public ImageBuffer resize(ImageBuffer image, int width, int height, Resampling resampling)
+    {
+        return createBuffer(ToolsSwt.resize(getImageData(image), width, height, resampling));
+    }
+
+    /**
+     * Rotate image in all directions in one batch, frames have the same size and are centered.
+     * 
+     * @param image The image to rotate.
+     * @param directions The number of directions on a full turn, first one is not rotated (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The rotated images, clockwise, one per direction.
+     * @throws LionEngineException If invalid arguments.
+     */
+    public ImageBuffer[] rotateAll(ImageBuffer image, int directions, Resampling resampling)
+    {
+        final ImageData[] frames = ToolsSwt.rotateAll(getImageData(image), directions, resampling);
+        final ImageBuffer[] buffers = new ImageBuffer[frames.length];
+        for (int i = 0; i < buffers.length; i++)
+        {
+            buffers[i] = createBuffer(frames[i]);
+        }
+        return buffers;
+    }
+
+    /**
+     * Get the device of created buffers.
+     * 
+     * @return The display of the calling thread, <code>null</code> if headless.
+     */
+    private Device getDevice()
+    {
+        if (headless)
+        {
+            return null;
+        }
+        return ToolsSwt.getDisplay();
+    }
+
+    /**
+     * Create a buffer from data, with its native image unless headless.
+     * 
+     * @param data The image data.
+     * @return The prepared buffer.
+     */
+    private ImageBuffer createBuffer(ImageData data)
+    {
+        final ImageBuffer buffer = new ImageBufferSwt(getDevice(), data);
+        buffer.prepare();
+        return buffer;
+    }
+
+    /**
+     * Create the raster buffers, identical rasters share the same buffer.
+     * 
+     * @param image The source data.
+     * @param reference The reference colors.
+     * @param rows The rows colors.
+     * @param period The number of lines to cycle on all rows, <code>0</code> for none.
+     * @return The raster buffers, one per row.
+     */
+    private ImageBuffer[] createRaster(ImageData image, int[] reference, int[][] rows, int period)
+    {
+        final ImageData[] rasters = RasterSwt.create(image, reference, rows, period);
+        final ImageBuffer[] buffers = new ImageBuffer[rasters.length];
+        final Map<ImageData, ImageBuffer> created = new IdentityHashMap<>();
+        for (int i = 0; i < buffers.length; i++)
+        {
+            buffers[i] = created.computeIfAbsent(rasters[i], this::createBuffer);
+        }
+        return buffers;
     }
 
     /*
@@ -66,6 +337,11 @@ public final class FactoryGraphicSwt implements FactoryGraphic
     {
         Check.notNull(config);
 
+        if (headless)
+        {
+            throw new LionEngineException(ERROR_HEADLESS);
+        }
+
         if (config.isWindowed())
         {
             return new ScreenWindowedSwt(config);
@@ -97,6 +373,11 @@ public final class FactoryGraphicSwt implements FactoryGraphic
         Check.superiorStrict(width, 0);
         Check.superiorStrict(height, 0);
 
+        if (headless)
+        {
+            return createBuffer(new ImageData(width, height, 24, new PaletteData(0xff, 0xff00, 0xff0000)));
+        }
+
         final Image image = ToolsSwt.createImage(width, height, ToolsSwt.getTransparency(Transparency.OPAQUE));
         final ImageBufferSwt buffer = new ImageBufferSwt(image);
 
@@ -114,6 +395,11 @@ public final class FactoryGraphicSwt implements FactoryGraphic
         Check.superiorStrict(width, 0);
         Check.superiorStrict(height, 0);
 
+        if (headless)
+        {
+            return createBuffer(ToolsSwt.createImageData(width, height, transparency));
+        }
+
         final Image image = ToolsSwt.createImage(width, height, transparency);
         return new ImageBufferSwt(image);
     }
@@ -121,36 +407,43 @@ public final class FactoryGraphicSwt implements FactoryGraphic
     @Override
     public ImageBuffer getImageBuffer(Media media)
     {
-        try (InputStream input = media.getInputStream())
-        {
-            return new ImageBufferSwt(ToolsSwt.getDisplay(), ToolsSwt.getImageData(input));
-        }
-        catch (final SWTException | LionEngineException | IOException exception)
-        {
-            throw new LionEngineException(exception, media, ERROR_IMAGE_READING);
-        }
+        return new ImageBufferSwt(getDevice(), cache.get(media));
     }
 
     @Override
     public ImageBuffer getImageBuffer(ImageBuffer image)
     {
-        return new ImageBufferSwt(ToolsSwt.getImage((Image) image.getSurface()));
+        return createBuffer((ImageData) getImageData(image).clone());
     }
 
     @Override
     public ImageBuffer applyMask(ImageBuffer image, ColorRgba maskColor)
     {
-        return new ImageBufferSwt(ToolsSwt.applyMask((Image) image.getSurface(), maskColor.getRgba()));
+        return createBuffer(ToolsSwt.applyMask(getImageData(image), maskColor.getRgba()));
     }
 
     @Override
     public ImageBuffer[] splitImage(ImageBuffer image, int h, int v)
     {
-        final Image[] images = ToolsSwt.splitImage((Image) image.getSurface(), h, v);
-        final ImageBuffer[] imageBuffers = new ImageBuffer[images.length];
-        for (int i = 0; i < imageBuffers.length; i++)
+        final ImageData data = getImageData(image);
+        final ImageBuffer[] imageBuffers;
+        if (data.maskData == null)
+        {
+            final ImageData[] frames = ImageDataSwt.split(data, h, v);
+            imageBuffers = new ImageBuffer[frames.length];
+            for (int i = 0; i < imageBuffers.length; i++)
+            {
+                imageBuffers[i] = createBuffer(frames[i]);
+            }
+        }
+        else
         {
-            imageBuffers[i] = new ImageBufferSwt(images[i]);
+            final Image[] images = ToolsSwt.splitImage((Image) image.getSurface(), h, v);
+            imageBuffers = new ImageBuffer[images.length];
+            for (int i = 0; i < imageBuffers.length; i++)
+            {
+                imageBuffers[i] = new ImageBufferSwt(images[i]);
+            }
         }
         return imageBuffers;
     }
@@ -158,25 +451,25 @@ public final class FactoryGraphicSwt implements FactoryGraphic
     @Override
     public ImageBuffer rotate(ImageBuffer image, int angle)
     {
-        return new ImageBufferSwt(ToolsSwt.rotate((Image) image.getSurface(), angle));
+        return createBuffer(ToolsSwt.rotate(getImageData(image), angle, Resampling.NEAREST));
     }
 
     @Override
     public ImageBuffer resize(ImageBuffer image, int width, int height)
     {
-        return new ImageBufferSwt(ToolsSwt.resize((Image) image.getSurface(), width, height));
+        return createBuffer(ToolsSwt.resize(getImageData(image), width, height, Resampling.NEAREST));
     }
 
     @Override
     public ImageBuffer flipHorizontal(ImageBuffer image)
     {
-        return new ImageBufferSwt(ToolsSwt.flipHorizontal((Image) image.getSurface()));
+        return createBuffer(ImageDataSwt.flip(getImageData(image), false));
     }
 
     @Override
     public ImageBuffer flipVertical(ImageBuffer image)
     {
-        return new ImageBufferSwt(ToolsSwt.flipVertical((Image) image.getSurface()));
+        return createBuffer(ImageDataSwt.flip(getImageData(image), true));
     }
 
     @Override
@@ -186,7 +479,7 @@ public final class FactoryGraphicSwt implements FactoryGraphic
 
         try (OutputStream output = media.getOutputStream())
         {
-            ToolsSwt.saveImage((Image) image.getSurface(), output);
+            ToolsSwt.saveImage(getImageData(image), output, compression, parallel);
         }
         catch (final SWTException | NullPointerException | IOException exception)
         {
@@ -213,75 +506,79 @@ public final class FactoryGraphicSwt implements FactoryGraphic
         final int multDistance = (int) Math.ceil(width * tiles / (double) height) / 4;
         final int[] mult = UtilMath.getClosestSquareMult(tiles, multDistance);
 
-        final ImageBuffer tile = new ImageBufferSwt(ToolsSwt.createImage(width * mult[1],
-                                                                         height * mult[0],
-                                                                         ToolsSwt.getTransparency(transparency)));
-        int x = 0;
-        int y = 0;
-        int line = 0;
+        final int columns = mult[1];
+        final int rows = mult[0];
 
-        final Graphic g = tile.createGraphic();
-        for (final ImageBuffer b : images)
+        try (OutputStream output = media.getOutputStream())
         {
-            g.drawImage(b, x, y);
-
-            x += b.getWidth();
-            line++;
-            if (line == mult[1])
+            final PngWriterSwt writer = new PngWriterSwt(output,
+                                                         width * columns,
+                                                         height * rows,
+                                                         Transparency.OPAQUE != transparency,
+                                                         compression,
+                                                         parallel);
+            final int[] tile = new int[width];
+            final int[] line = new int[width * columns];
+            final int empty = getEmptyColor(transparency);
+            for (int row = 0; row < rows; row++)
             {
-                x = 0;
-                y += b.getHeight();
-                line = 0;
+                final ImageData[] band = getBand(images, row * columns, columns);
+                for (int y = 0; y < height; y++)
+                {
+                    writeBandLine(band, y, width, empty, tile, line);
+                    writer.writeLine(line);
+                }
             }
+            writer.finish();
+        }
+        catch (final SWTException | NullPointerException | IOException exception)
+        {
+            throw new LionEngineException(exception, media, ERROR_IMAGE_SAVE);
         }
-        g.dispose();
-
-        saveImage(tile, media);
     }
 
     @Override
     public ImageBuffer getRasterBuffer(ImageBuffer image, double fr, double fg, double fb)
     {
-        return new ImageBufferSwt(ToolsSwt.getRasterBuffer((Image) image.getSurface(), fr, fg, fb));
+        return createBuffer(ToolsSwt.getRasterBuffer((ImageData) getImageData(image).clone(), fr, fg, fb));
     }
 
     @Override
     public ImageBuffer[] getRasterBuffer(ImageBuffer image, ImageBuffer palette)
     {
-        // TODO To be implemented !
-        final ImageBuffer[] buffers = new ImageBuffer[palette.getHeight()];
-        for (int i = 0; i < buffers.length; i++)
-        {
-            buffers[i] = new ImageBufferSwt(image.getSurface());
-            buffers[i].prepare();
-        }
-        return buffers;
+        final int[][] rows = RasterSwt.getRows(getImageData(palette));
+        return createRaster(getImageData(image), rows[0], rows, 0);
     }
 
     @Override
     public ImageBuffer[] getRasterBufferSmooth(ImageBuffer image, ImageBuffer palette, int tileHeight)
     {
-        // TODO To be implemented !
-        return getRasterBuffer(image, palette);
+        Check.superiorStrict(tileHeight, 0);
+
+        final int[][] rows = RasterSwt.getRows(getImageData(palette));
+        return createRaster(getImageData(image), rows[0], rows, tileHeight);
     }
 
     @Override
     public ImageBuffer[] getRasterBufferSmooth(ImageBuffer image, ImageBuffer palette, int fh, int fv)
     {
-        // TODO To be implemented !
-        return getRasterBuffer(image, palette);
+        Check.superiorStrict(fv, 0);
+
+        return getRasterBufferSmooth(image, palette, Math.max(1, image.getHeight() / fv));
     }
 
     @Override
     public ImageBuffer[] getRasterBufferOffset(Media image, Media palette, Media raster, int offsets)
     {
-        // TODO To be implemented !
-        final ImageBuffer buffer = getImageBuffer(image);
-        buffer.prepare();
+        Check.superiorStrict(offsets, 0);
 
-        return new ImageBuffer[]
+        final int[] reference = RasterSwt.getRows(cache.get(palette).getData())[0];
+        final int[][] colors = RasterSwt.getRows(cache.get(raster).getData());
+        final int[][] rows = new int[offsets][];
+        for (int i = 0; i < offsets; i++)
         {
-            new ImageBufferSwt(buffer.getSurface())
-        };
+            rows[i] = colors[i * colors.length / offsets];
+        }
+        return createRaster(cache.get(image).getData(), reference, rows, 0);
     }
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+
+/**
+ * Cache of mirrored images, shared by graphics, bounded by the total size of the mirrored images.
+ * <p>
+ * Each source image is mirrored once per axis combination. Least recently used sources are disposed once cache size
+ * exceeds its budget, as well as sources which have been disposed. Cache is cleared when display is disposed.
+ * </p>
+ */
+final class FlipCacheSwt
+{
+    /** Horizontal flip. */
+    static final int HORIZONTAL = 1;
+    /** Vertical flip. */
+    static final int VERTICAL = 2;
+    /** Horizontal and vertical flip. */
+    static final int BOTH = HORIZONTAL | VERTICAL;
+    /** Default cache budget in bytes. */
+    static final long DEFAULT_BUDGET = 64L * 1024L * 1024L;
+    /** Accounted bytes per pixel. */
+    private static final int BYTES_PER_PIXEL = 4;
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+    /** Map initial capacity. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Get the accounted image size.
+     * 
+     * @param image The image.
+     * @return The image size in bytes.
+     */
+    private static long getSize(Image image)
+    {
+        final Rectangle bounds = image.getBounds();
+        return (long) bounds.width * bounds.height * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Create the mirrored image.
+     * 
+     * @param source The source image.
+     * @param mode The flip mode.
+     * @return The mirrored image.
+     */
+    private static Image createMirror(Image source, int mode)
+    {
+        if (HORIZONTAL == mode)
+        {
+            return ToolsSwt.flipHorizontal(source);
+        }
+        if (VERTICAL == mode)
+        {
+            return ToolsSwt.flipVertical(source);
+        }
+        final Image horizontal = ToolsSwt.flipHorizontal(source);
+        final Image mirror = ToolsSwt.flipVertical(horizontal);
+        horizontal.dispose();
+        return mirror;
+    }
+
+    /** Mirrors by source, in access order, indexed by flip mode minus one. */
+    private final Map<Image, Image[]> mirrors = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    /** Cache budget in bytes. */
+    private final long budget;
+    /** Current cache size in bytes. */
+    private long size;
+    /** Device with dispose hook, <code>null</code> if none. */
+    private Device hooked;
+
+    /**
+     * Create cache.
+     * 
+     * @param budget The cache budget in bytes.
+     */
+    FlipCacheSwt(long budget)
+    {
+        super();
+
+        this.budget = budget;
+    }
+
+    /**
+     * Get the mirrored image, create it if not cached.
+     * 
+     * @param source The source image.
+     * @param mode The flip mode ({@link #HORIZONTAL}, {@link #VERTICAL} or {@link #BOTH}).
+     * @return The mirrored image.
+     */
+    synchronized Image get(Image source, int mode)
+    {
+        Image[] cached = mirrors.get(source);
+        if (cached == null)
+        {
+            cached = new Image[BOTH];
+            mirrors.put(source, cached);
+        }
+
+        Image mirror = cached[mode - 1];
+        if (mirror == null || mirror.isDisposed())
+        {
+            mirror = createMirror(source, mode);
+            cached[mode - 1] = mirror;
+            Metrics.increment(Metric.HANDLE_ALLOCATED);
+            size += getSize(mirror);
+            hook(source.getDevice());
+            evict(source);
+        }
+        return mirror;
+    }
+
+    /**
+     * Dispose mirrored images of a source, as its pixels changed in place.
+     * 
+     * @param source The changed source image.
+     */
+    synchronized void invalidate(Image source)
+    {
+        final Image[] cached = mirrors.remove(source);
+        if (cached != null)
+        {
+            dispose(cached);
+        }
+    }
+
+    /**
+     * Get the current cache size.
+     * 
+     * @return The cache size in bytes.
+     */
+    synchronized long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Dispose all mirrored images.
+     */
+    synchronized void clear()
+    {
+        for (final Image[] cached : mirrors.values())
+        {
+            dispose(cached);
+        }
+        mirrors.clear();
+        size = 0L;
+    }
+
+    /**
+     * Remove disposed sources, and least recently used sources until cache fits in its budget.
+     * 
+     * @param current The current source, kept.
+     */
+    private void evict(Image current)
+    {
+        final Iterator<Map.Entry<Image, Image[]>> iterator = mirrors.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<Image, Image[]> entry = iterator.next();
+            final Image source = entry.getKey();
+            if (source != current && (source.isDisposed() || size > budget))
+            {
+                dispose(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Dispose mirrored images of a source.
+     * 
+     * @param cached The mirrored images.
+     */
+    private void dispose(Image[] cached)
+    {
+        for (final Image mirror : cached)
+        {
+            if (mirror != null && !mirror.isDisposed())
+            {
+                size -= getSize(mirror);
+                mirror.dispose();
+                Metrics.increment(Metric.HANDLE_DISPOSED);
+            }
+        }
+    }
+
+    /**
+     * Clear cache on display dispose.
+     * 
+     * @param device The source device.
+     */
+    private void hook(Device device)
+    {
+        if (hooked != device && device instanceof Display)
+        {
+            ((Display) device).disposeExec(this::clear);
+            hooked = device;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+/**
+ * Frame time statistics of a screen, in nanoseconds.
+ * <p>
+ * Frame time is the interval between two consecutive frames, blit time is the time spent to send the buffer to the
+ * screen.
+ * </p>
+ */
+public final class FrameStatsSwt
+{
+    /** Last frame end time, <code>0</code> if none. */
+    private long last;
+    /** Number of measured frames. */
+    private long frames;
+    /** Last frame time. */
+    private long frameTime;
+    /** Total frame time. */
+    private long totalTime;
+    /** Maximum frame time. */
+    private long maxTime;
+    /** Last blit time. */
+    private long blitTime;
+
+    /**
+     * Create statistics.
+     */
+    FrameStatsSwt()
+    {
+        super();
+    }
+
+    /**
+     * Add a frame.
+     * 
+     * @param start The blit start time.
+     * @param end The blit end time.
+     */
+    synchronized void update(long start, long end)
+    {
+        blitTime = end - start;
+        if (last != 0L)
+        {
+            frameTime = end - last;
+            totalTime += frameTime;
+            maxTime = Math.max(maxTime, frameTime);
+            frames++;
+        }
+        last = end;
+    }
+
+    /**
+     * Reset statistics.
+     */
+    public synchronized void reset()
+    {
+        last = 0L;
+        frames = 0L;
+        frameTime = 0L;
+        totalTime = 0L;
+        maxTime = 0L;
+        blitTime = 0L;
+    }
+
+    /**
+     * Get the number of measured frames.
+     * 
+     * @return The number of frames.
+     */
+    public synchronized long getFrames()
+    {
+        return frames;
+    }
+
+    /**
+     * Get the last frame time.
+     * 
+     * @return The last frame time.
+     */
+    public synchronized long getFrameTime()
+    {
+        return frameTime;
+    }
+
+    /**
+     * Get the average frame time.
+     * 
+     * @return The average frame time, <code>0</code> if no frame.
+     */
+    public synchronized long getAverageFrameTime()
+    {
+        if (frames == 0L)
+        {
+            return 0L;
+        }
+        return totalTime / frames;
+    }
+
+    /**
+     * Get the maximum frame time.
+     * 
+     * @return The maximum frame time.
+     */
+    public synchronized long getMaxFrameTime()
+    {
+        return maxTime;
+    }
+
+    /**
+     * Get the last blit time.
+     * 
+     * @return The last blit time.
+     */
+    public synchronized long getBlitTime()
+    {
+        return blitTime;
+    }
+}
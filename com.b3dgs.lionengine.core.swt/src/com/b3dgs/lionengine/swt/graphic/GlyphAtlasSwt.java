@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+
+/**
+ * Atlas of the printable ASCII glyphs of a font, rendered once in a single colored image with alpha.
+ * <p>
+ * Drawing a supported string is then a blit per glyph, placed by its advance width, instead of a native text shaping.
+ * Kerning is not applied.
+ * </p>
+ */
+final class GlyphAtlasSwt
+{
+    /** First glyph. */
+    private static final char FIRST = ' ';
+    /** Last glyph. */
+    private static final char LAST = '~';
+    /** Glyphs number. */
+    private static final int GLYPHS = LAST - FIRST + 1;
+    /** Direct palette depth. */
+    private static final int DEPTH = 24;
+    /** Red shift. */
+    private static final int SHIFT_RED = 16;
+    /** Byte mask. */
+    private static final int BYTE_MASK = 0xFF;
+
+    /** Atlas image. */
+    private final Image image;
+    /** Glyph horizontal offsets in atlas, indexed by glyph minus {@link #FIRST}. */
+    private final int[] offsets = new int[GLYPHS];
+    /** Glyph advance widths, indexed by glyph minus {@link #FIRST}. */
+    private final int[] advances = new int[GLYPHS];
+    /** Glyph height. */
+    private final int height;
+
+    /**
+     * Create atlas.
+     * 
+     * @param device The device reference.
+     * @param font The glyphs font.
+     * @param color The glyphs color.
+     */
+    GlyphAtlasSwt(Device device, Font font, ColorRgba color)
+    {
+        super();
+
+        final Image measure = new Image(device, 1, 1);
+        final GC gc = new GC(measure);
+        gc.setFont(font);
+        int width = 0;
+        for (int i = 0; i < GLYPHS; i++)
+        {
+            offsets[i] = width;
+            advances[i] = gc.getAdvanceWidth((char) (FIRST + i));
+            width += advances[i];
+        }
+        height = gc.getFontMetrics().getHeight();
+        gc.dispose();
+        measure.dispose();
+
+        image = new Image(device, createData(device, font, color, Math.max(1, width)));
+        Metrics.increment(Metric.HANDLE_ALLOCATED);
+    }
+
+    /**
+     * Check if all string glyphs are in atlas.
+     * 
+     * @param text The string.
+     * @return <code>true</code> if string can be drawn from atlas, <code>false</code> else.
+     */
+    boolean supports(String text)
+    {
+        final int length = text.length();
+        for (int i = 0; i < length; i++)
+        {
+            final char glyph = text.charAt(i);
+            if (glyph < FIRST || glyph > LAST)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the string width, sum of its glyphs advance.
+     * 
+     * @param text The supported string, see {@link #supports(String)}.
+     * @return The string width.
+     */
+    int getWidth(String text)
+    {
+        int width = 0;
+        final int length = text.length();
+        for (int i = 0; i < length; i++)
+        {
+            width += advances[text.charAt(i) - FIRST];
+        }
+        return width;
+    }
+
+    /**
+     * Get the glyph height.
+     * 
+     * @return The glyph height.
+     */
+    int getHeight()
+    {
+        return height;
+    }
+
+    /**
+     * Draw the string.
+     * 
+     * @param gc The graphic output.
+     * @param text The supported string, see {@link #supports(String)}.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     */
+    void draw(GC gc, String text, int x, int y)
+    {
+        int tx = x;
+        final int length = text.length();
+        for (int i = 0; i < length; i++)
+        {
+            final int index = text.charAt(i) - FIRST;
+            final int advance = advances[index];
+            if (advance > 0)
+            {
+                gc.drawImage(image, offsets[index], 0, advance, height, tx, y, advance, height);
+                Metrics.increment(Metric.DRAW_IMAGE);
+            }
+            tx += advance;
+        }
+    }
+
+    /**
+     * Dispose atlas image.
+     */
+    void dispose()
+    {
+        image.dispose();
+        Metrics.increment(Metric.HANDLE_DISPOSED);
+    }
+
+    /**
+     * Render glyphs in white on black, and convert their intensity to the alpha of the colored atlas.
+     * 
+     * @param device The device reference.
+     * @param font The glyphs font.
+     * @param color The glyphs color.
+     * @param width The atlas width.
+     * @return The atlas data.
+     */
+    private ImageData createData(Device device, Font font, ColorRgba color, int width)
+    {
+        final Image glyphs = new Image(device, width, height);
+        final GC gc = new GC(glyphs);
+        gc.setTextAntialias(SWT.OFF);
+        gc.setFont(font);
+        gc.setBackground(device.getSystemColor(SWT.COLOR_BLACK));
+        gc.fillRectangle(0, 0, width, height);
+        gc.setForeground(device.getSystemColor(SWT.COLOR_WHITE));
+        for (int i = 0; i < GLYPHS; i++)
+        {
+            gc.drawString(String.valueOf((char) (FIRST + i)), offsets[i], 0, true);
+        }
+        gc.dispose();
+        final ImageData source = ImageDataSwt.toDirect(glyphs.getImageData());
+        glyphs.dispose();
+
+        final PaletteData palette = new PaletteData(0xFF0000, 0xFF00, 0xFF);
+        final ImageData data = new ImageData(width, height, DEPTH, palette);
+        final int[] line = new int[width];
+        Arrays.fill(line, ImageDataSwt.getPixel(palette, color.getRgba()));
+        data.alphaData = new byte[width * height];
+        final int[] intensity = new int[width];
+        for (int y = 0; y < height; y++)
+        {
+            ImageDataSwt.setLine(data, y, line);
+            ImageDataSwt.getLine(source, y, intensity);
+            for (int x = 0; x < width; x++)
+            {
+                final int rgb = ImageDataSwt.getRgb(source.palette, intensity[x]);
+                data.alphaData[y * width + x] = (byte) Math.max(rgb >> SHIFT_RED & BYTE_MASK, rgb & BYTE_MASK);
+            }
+        }
+        return data;
+    }
+}
@@ -16,9 +16,6 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
@@ -32,24 +29,39 @@ import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.ImageSurface;
 import com.b3dgs.lionengine.graphic.Transform;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
 
 /**
  * Main interface with the graphic output, representing the screen buffer.
  */
 final class GraphicSwt implements Graphic
 {
-    /** Flip image cache. */
-    private final Map<ImageSurface, Image> cacheFlip = new HashMap<>();
+    /** Maximum number of cached colors. */
+    private static final int COLOR_CACHE_SIZE = 64;
+    /** Mirrored images cache, shared by all graphics. */
+    private static final FlipCacheSwt CACHE_FLIP = new FlipCacheSwt(FlipCacheSwt.DEFAULT_BUDGET);
+
+    /**
+     * Discard mirrored images of a source, to be called when its pixels are changed in place.
+     * 
+     * @param source The changed source image.
+     */
+    static void invalidateMirrors(Image source)
+    {
+        CACHE_FLIP.invalidate(source);
+    }
+
+    /** Colors cache. */
+    private final ColorCacheSwt colors = new ColorCacheSwt(COLOR_CACHE_SIZE);
     /** The graphic output. */
     private GC gc;
     /** Device used. */
     private Device device;
     /** Gradient paint. */
-    private Color gradientColor1;
+    private ColorRgba gradientColor1;
     /** Gradient paint. */
-    private Color gradientColor2;
-    /** Last color. */
-    private Color lastColor;
+    private ColorRgba gradientColor2;
 
     /**
      * Internal constructor.
@@ -70,6 +82,16 @@ final class GraphicSwt implements Graphic
         device = g.getDevice();
     }
 
+    /**
+     * Get the number of native colors created by this graphic.
+     * 
+     * @return The number of created colors.
+     */
+    int getColorsCreated()
+    {
+        return colors.getCreated();
+    }
+
     /*
      * Graphic
      */
@@ -79,6 +101,7 @@ final class GraphicSwt implements Graphic
     {
         gc.setBackground(device.getSystemColor(SWT.COLOR_BLACK));
         gc.fillRectangle(0, 0, width, height);
+        Metrics.increment(Metric.FILL_RECT);
         gc.setBackground(device.getSystemColor(SWT.COLOR_WHITE));
         gc.setForeground(device.getSystemColor(SWT.COLOR_WHITE));
     }
@@ -86,11 +109,7 @@ final class GraphicSwt implements Graphic
     @Override
     public void dispose()
     {
-        for (final Image image : cacheFlip.values())
-        {
-            image.dispose();
-        }
-        cacheFlip.clear();
+        colors.dispose();
         gc.dispose();
     }
 
@@ -104,6 +123,7 @@ final class GraphicSwt implements Graphic
     public void drawImage(ImageSurface image, int x, int y)
     {
         gc.drawImage((Image) image.getSurface(), x, y);
+        Metrics.increment(Metric.DRAW_IMAGE);
     }
 
     @Override
@@ -113,25 +133,38 @@ final class GraphicSwt implements Graphic
         final int width = (int) (image.getWidth() * transform.getScaleX());
         final int height = (int) (image.getHeight() * transform.getScaleY());
         gc.drawImage(buffer, x, y, image.getWidth(), image.getHeight(), x, y, width, height);
+        Metrics.increment(Metric.DRAW_IMAGE);
     }
 
     @Override
     public void drawImage(ImageSurface image, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2)
     {
         final Image surface = image.getSurface();
-        if (sx2 < sx1)
+        final boolean horizontal = sx2 < sx1;
+        final boolean vertical = sy2 < sy1;
+        if (horizontal || vertical)
         {
-            if (!cacheFlip.containsKey(image))
+            int mode = 0;
+            int sx = sx1;
+            int sy = sy1;
+            if (horizontal)
+            {
+                mode |= FlipCacheSwt.HORIZONTAL;
+                sx = image.getWidth() - sx1;
+            }
+            if (vertical)
             {
-                final Image flip = ToolsSwt.flipHorizontal(surface);
-                cacheFlip.put(image, flip);
+                mode |= FlipCacheSwt.VERTICAL;
+                sy = image.getHeight() - sy1;
             }
-            gc.drawImage(cacheFlip.get(image), dx1, dy1);
+            final Image mirror = CACHE_FLIP.get(surface, mode);
+            gc.drawImage(mirror, sx, sy, Math.abs(sx2 - sx1), Math.abs(sy2 - sy1), dx1, dy1, dx2 - dx1, dy2 - dy1);
         }
         else
         {
             gc.drawImage(surface, sx1, sy1, sx2 - sx1, sy2 - sy1, dx1, dy1, dx2 - dx1, dy2 - dy1);
         }
+        Metrics.increment(Metric.DRAW_IMAGE);
     }
 
     @Override
@@ -163,6 +196,7 @@ final class GraphicSwt implements Graphic
             if (fill)
             {
                 gc.fillRectangle(x, y, width, height);
+                Metrics.increment(Metric.FILL_RECT);
             }
             else
             {
@@ -182,9 +216,10 @@ final class GraphicSwt implements Graphic
     @Override
     public void drawGradient(int x, int y, int width, int height)
     {
-        gc.setBackground(gradientColor1);
-        gc.setForeground(gradientColor2);
+        gc.setBackground(colors.get(device, gradientColor1));
+        gc.setForeground(colors.get(device, gradientColor2));
         gc.fillGradientRectangle(x, y, width, height, false);
+        Metrics.increment(Metric.FILL_RECT);
     }
 
     @Override
@@ -199,6 +234,7 @@ final class GraphicSwt implements Graphic
     public void drawLine(int x1, int y1, int x2, int y2)
     {
         gc.drawLine(x1, y1, x2, y2);
+        Metrics.increment(Metric.DRAW_LINE);
     }
 
     @Override
@@ -208,6 +244,7 @@ final class GraphicSwt implements Graphic
                     (int) viewer.getViewpointY(y1),
                     (int) viewer.getViewpointX(x2),
                     (int) viewer.getViewpointY(y2));
+        Metrics.increment(Metric.DRAW_LINE);
     }
 
     @Override
@@ -234,31 +271,17 @@ final class GraphicSwt implements Graphic
     @Override
     public void setColor(ColorRgba color)
     {
-        if (lastColor != null)
-        {
-            lastColor.dispose();
-        }
-        lastColor = new Color(device, color.getRed(), color.getGreen(), color.getBlue());
+        final Color current = colors.get(device, color);
         gc.setAlpha(color.getAlpha());
-        gc.setBackground(lastColor);
-        gc.setForeground(lastColor);
+        gc.setBackground(current);
+        gc.setForeground(current);
     }
 
     @Override
     public void setColorGradient(ColorGradient gc)
     {
-        final ColorRgba color1 = gc.getColor1();
-        final ColorRgba color2 = gc.getColor2();
-        if (gradientColor1 != null)
-        {
-            gradientColor1.dispose();
-        }
-        if (gradientColor2 != null)
-        {
-            gradientColor2.dispose();
-        }
-        gradientColor1 = new Color(device, color1.getRed(), color1.getGreen(), color1.getBlue());
-        gradientColor2 = new Color(device, color2.getRed(), color2.getGreen(), color2.getBlue());
+        gradientColor1 = gc.getColor1();
+        gradientColor2 = gc.getColor2();
     }
 
     @Override
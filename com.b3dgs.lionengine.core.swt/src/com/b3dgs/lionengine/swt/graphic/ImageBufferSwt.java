@@ -22,14 +22,29 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 
 import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
 import com.b3dgs.lionengine.graphic.Transparency;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
 
 /**
  * Image buffer implementation.
+ * <p>
+ * Pixel writes are stored in the backing {@link ImageData} only, and sent to the native image once on
+ * {@link #prepare()}, {@link #getSurface()}, {@link #createGraphic()} or {@link #commit()}.
+ * </p>
+ * <p>
+ * Buffers loaded from a media share their data and native image with the {@link ImageCacheSwt} until first write or
+ * {@link #createGraphic()}, the surface must be considered as read only until then.
+ * </p>
+ * <p>
+ * Buffers created without device are headless: {@link #prepare()} does not create any native image, which is created
+ * on the display of the calling thread once {@link #getSurface()} or {@link #createGraphic()} is first called.
+ * </p>
  */
 public final class ImageBufferSwt implements ImageBuffer
 {
@@ -60,21 +75,35 @@ public final class ImageBufferSwt implements ImageBuffer
         return value;
     }
 
-    /** Device. */
-    private final Device device;
-    /** Last image data. */
-    private final ImageData data;
+    /** Device, <code>null</code> until first native image if headless. */
+    private Device device;
+    /** Last image data, shared with cache until first write if cached. */
+    private ImageData data;
     /** Transparency. */
     private final Transparency transparency;
     /** Image. */
     private Image image;
     /** GC. */
     private GC gc;
+    /** Graphic using {@link #gc}, <code>null</code> if none. */
+    private GraphicSwt graphic;
+    /** Dirty area left (inclusive). */
+    private int dirtyMinX;
+    /** Dirty area top (inclusive). */
+    private int dirtyMinY;
+    /** Dirty area right (exclusive). */
+    private int dirtyMaxX;
+    /** Dirty area bottom (exclusive). */
+    private int dirtyMaxY;
+    /** Dirty flag, <code>true</code> if data contains pixels not yet sent to image. */
+    private boolean dirty;
+    /** Cached image entry, <code>null</code> if not cached or detached. */
+    private ImageCacheSwt.Entry shared;
 
     /**
      * Internal constructor.
      * 
-     * @param device The device reference.
+     * @param device The device reference, <code>null</code> if headless.
      * @param data The image data.
      */
     public ImageBufferSwt(Device device, ImageData data)
@@ -84,6 +113,19 @@ public final class ImageBufferSwt implements ImageBuffer
         transparency = getTransparency(data.getTransparencyType());
     }
 
+    /**
+     * Internal constructor. Data and native image are shared with the cache until first write.
+     * 
+     * @param device The device reference, <code>null</code> if headless.
+     * @param shared The cached image entry.
+     */
+    ImageBufferSwt(Device device, ImageCacheSwt.Entry shared)
+    {
+        this(device, shared.getData());
+
+        this.shared = shared;
+    }
+
     /**
      * Internal constructor.
      * 
@@ -104,9 +146,231 @@ public final class ImageBufferSwt implements ImageBuffer
      */
     Image getBuffer()
     {
+        return getImage();
+    }
+
+    /**
+     * Get the current pixels, without creating any native image. Pixels are read back from the native image once a
+     * graphic has been created on it, as drawings are not stored in data.
+     * 
+     * @return The image data (must not be modified).
+     */
+    ImageData getImageData()
+    {
+        if (gc != null && image != null && !image.isDisposed())
+        {
+            commit();
+            return image.getImageData();
+        }
+        return data;
+    }
+
+    /**
+     * Send pending pixel writes to the native image. Only the changed area is uploaded when image is opaque,
+     * transparent images are fully rebuilt once as their alpha can not be patched with a {@link GC}, keeping what
+     * was drawn on them through {@link #createGraphic()}. Does nothing if there is no pending write.
+     */
+    public void commit()
+    {
+        if (gc != null && gc.isDisposed())
+        {
+            gc = null;
+            graphic = null;
+        }
+        if (dirty)
+        {
+            if (image == null || image.isDisposed())
+            {
+                image = new Image(getDevice(), data);
+                Metrics.increment(Metric.HANDLE_ALLOCATED);
+            }
+            else if (Transparency.OPAQUE == transparency)
+            {
+                commitArea();
+            }
+            else
+            {
+                rebuild();
+            }
+            dirty = false;
+        }
+    }
+
+    /**
+     * Check if there are pending pixel writes not yet sent to the native image.
+     * 
+     * @return <code>true</code> if pending writes, <code>false</code> else.
+     */
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    /**
+     * Get the device, resolved to the display of the calling thread if headless.
+     * 
+     * @return The device.
+     */
+    private Device getDevice()
+    {
+        if (device == null)
+        {
+            device = ToolsSwt.getDisplay();
+        }
+        return device;
+    }
+
+    /**
+     * Get the native image, acquire the shared one or send pending writes first.
+     * 
+     * @return The native image, <code>null</code> if none.
+     */
+    private Image getImage()
+    {
+        commit();
+        if (image == null && shared != null)
+        {
+            image = shared.acquire(getDevice());
+        }
         return image;
     }
 
+    /**
+     * Stop sharing data and native image with the cache, so they can be modified. Own native image is created on next
+     * commit.
+     */
+    private void detach()
+    {
+        if (shared != null)
+        {
+            if (image != null)
+            {
+                shared.release();
+                image = null;
+            }
+            data = (ImageData) data.clone();
+            shared = null;
+            markDirty(0, 0, data.width, data.height);
+        }
+    }
+
+    /**
+     * Upload the dirty area to the existing image.
+     */
+    private void commitArea()
+    {
+        final int w = dirtyMaxX - dirtyMinX;
+        final int h = dirtyMaxY - dirtyMinY;
+        final ImageData area = new ImageData(w, h, data.depth, data.palette);
+        final int[] line = new int[w];
+        for (int y = 0; y < h; y++)
+        {
+            data.getPixels(dirtyMinX, dirtyMinY + y, w, line, 0);
+            area.setPixels(0, y, w, line, 0);
+        }
+
+        final Image patch = new Image(getDevice(), area);
+        if (gc == null)
+        {
+            final GC patcher = new GC(image);
+            patcher.drawImage(patch, dirtyMinX, dirtyMinY);
+            patcher.dispose();
+        }
+        else
+        {
+            final Rectangle clip = gc.getClipping();
+            final int alpha = gc.getAlpha();
+            gc.setClipping((Rectangle) null);
+            gc.setAlpha(255);
+            gc.drawImage(patch, dirtyMinX, dirtyMinY);
+            gc.setClipping(clip);
+            gc.setAlpha(alpha);
+        }
+        patch.dispose();
+        GraphicSwt.invalidateMirrors(image);
+    }
+
+    /**
+     * Rebuild the native image from data. If a graphic exists, its drawings are first merged into data outside the
+     * dirty area, and its {@link GC} is recreated on the new image.
+     */
+    private void rebuild()
+    {
+        if (gc != null)
+        {
+            final ImageData drawn = image.getImageData();
+            for (int y = dirtyMinY; y < dirtyMaxY; y++)
+            {
+                for (int x = dirtyMinX; x < dirtyMaxX; x++)
+                {
+                    drawn.setPixel(x, y, drawn.palette.getPixel(data.palette.getRGB(data.getPixel(x, y))));
+                    if (data.alphaData != null && drawn.alphaData != null)
+                    {
+                        drawn.setAlpha(x, y, data.getAlpha(x, y));
+                    }
+                }
+            }
+            data = drawn;
+            graphic.setGraphic(null);
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+        image.dispose();
+        image = new Image(getDevice(), data);
+        Metrics.increment(Metric.HANDLE_DISPOSED);
+        Metrics.increment(Metric.HANDLE_ALLOCATED);
+        if (gc != null)
+        {
+            gc = new GC(image);
+            graphic.setGraphic(gc);
+            Metrics.increment(Metric.HANDLE_ALLOCATED);
+        }
+    }
+
+    /**
+     * Release the graphic of the replaced native image, if any.
+     */
+    private void releaseGraphic()
+    {
+        if (gc != null)
+        {
+            graphic.setGraphic(null);
+            gc = null;
+            graphic = null;
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+    }
+
+    /**
+     * Add area to the dirty area.
+     * 
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @param w The area width.
+     * @param h The area height.
+     */
+    private void markDirty(int x, int y, int w, int h)
+    {
+        if (w <= 0 || h <= 0)
+        {
+            return;
+        }
+        if (dirty)
+        {
+            dirtyMinX = Math.min(dirtyMinX, x);
+            dirtyMinY = Math.min(dirtyMinY, y);
+            dirtyMaxX = Math.max(dirtyMaxX, x + w);
+            dirtyMaxY = Math.max(dirtyMaxY, y + h);
+        }
+        else
+        {
+            dirtyMinX = x;
+            dirtyMinY = y;
+            dirtyMaxX = x + w;
+            dirtyMaxY = y + h;
+            dirty = true;
+        }
+    }
+
     /*
      * ImageBuffer
      */
@@ -114,14 +378,43 @@ public final class ImageBufferSwt implements ImageBuffer
     @Override
     public void prepare()
     {
-        image = new Image(device, data);
+        if (device == null)
+        {
+            if (shared == null)
+            {
+                markDirty(0, 0, data.width, data.height);
+            }
+        }
+        else
+        {
+            if (shared == null)
+            {
+                releaseGraphic();
+                image = new Image(device, data);
+                Metrics.increment(Metric.HANDLE_ALLOCATED);
+            }
+            else if (image == null)
+            {
+                image = shared.acquire(device);
+            }
+            dirty = false;
+        }
     }
 
     @Override
     public Graphic createGraphic()
     {
+        detach();
+        if (image == null)
+        {
+            markDirty(0, 0, data.width, data.height);
+        }
+        commit();
+        releaseGraphic();
         gc = new GC(image);
-        return new GraphicSwt(gc);
+        Metrics.increment(Metric.HANDLE_ALLOCATED);
+        graphic = new GraphicSwt(gc);
+        return graphic;
     }
 
     @Override
@@ -131,31 +424,44 @@ public final class ImageBufferSwt implements ImageBuffer
         {
             gc.dispose();
             gc = null;
+            graphic = null;
+            Metrics.increment(Metric.HANDLE_DISPOSED);
         }
         if (image != null)
         {
-            image.dispose();
+            if (shared == null)
+            {
+                image.dispose();
+                Metrics.increment(Metric.HANDLE_DISPOSED);
+            }
+            else
+            {
+                shared.release();
+            }
             image = null;
         }
+        dirty = false;
     }
 
     @Override
     public void setRgb(int x, int y, int rgb)
     {
+        detach();
+
         final ColorRgba rgba = new ColorRgba(rgb);
         final RGB color = new RGB(rgba.getRed(), rgba.getGreen(), rgba.getBlue());
         final int pixel = data.palette.getPixel(color);
         data.setPixel(x, y, pixel);
-        image.dispose();
-        image = new Image(device, data);
+        markDirty(x, y, 1, 1);
     }
 
     @Override
     public void setRgb(int startX, int startY, int w, int h, int[] rgbArray, int offset, int scansize)
     {
+        detach();
+
         data.setPixels(startX, startY, w, rgbArray, offset);
-        image.dispose();
-        image = new Image(device, data);
+        markDirty(startX, startY, w, 1);
     }
 
     @Override
@@ -194,7 +500,7 @@ public final class ImageBufferSwt implements ImageBuffer
     @Override
     public Image getSurface()
     {
-        return image;
+        return getImage();
     }
 
     @Override
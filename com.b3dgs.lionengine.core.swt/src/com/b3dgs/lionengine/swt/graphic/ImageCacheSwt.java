@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+
+import com.b3dgs.lionengine.Media;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+
+/**
+ * Cache of decoded images, keyed by media path, bounded by the total size of the decoded data.
+ * <p>
+ * Entries are reloaded when their file modification time changed, and least recently used entries are evicted once
+ * cache size exceeds its budget. Each entry shares a single native image between its users, reference counted, and
+ * disposed once no more used.
+ * </p>
+ */
+public final class ImageCacheSwt
+{
+    /** Default cache budget in bytes. */
+    static final long DEFAULT_BUDGET = 128L * 1024L * 1024L;
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+    /** Map initial capacity. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Get the media modification time.
+     * 
+     * @param media The media.
+     * @return The modification time, <code>0</code> if not a file.
+     */
+    private static long getModified(Media media)
+    {
+        final File file = media.getFile();
+        if (file == null)
+        {
+            return 0L;
+        }
+        return file.lastModified();
+    }
+
+    /** Entries by media path, in access order. */
+    private final Map<String, Entry> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    /** Data loader. */
+    private final Function<Media, ImageData> loader;
+    /** Cache budget in bytes. */
+    private final long budget;
+    /** Current cache size in bytes. */
+    private long size;
+    /** Number of hits. */
+    private int hits;
+    /** Number of misses. */
+    private int misses;
+    /** Number of evictions. */
+    private int evictions;
+
+    /**
+     * Create cache.
+     * 
+     * @param loader The data loader.
+     * @param budget The cache budget in bytes.
+     */
+    ImageCacheSwt(Function<Media, ImageData> loader, long budget)
+    {
+        super();
+
+        this.loader = loader;
+        this.budget = budget;
+    }
+
+    /**
+     * Get the cached entry, load it if missing or outdated.
+     * 
+     * @param media The image media.
+     * @return The cached entry.
+     * @throws com.b3dgs.lionengine.LionEngineException If error when reading image.
+     */
+    synchronized Entry get(Media media)
+    {
+        final String path = media.getPath();
+        final long modified = getModified(media);
+        Entry entry = entries.get(path);
+        if (entry != null && entry.modified == modified)
+        {
+            hits++;
+            Metrics.increment(Metric.IMAGE_CACHE_HIT);
+            return entry;
+        }
+        if (entry != null)
+        {
+            remove(path, entry);
+        }
+
+        misses++;
+        Metrics.increment(Metric.IMAGE_CACHE_MISS);
+        entry = new Entry(loader.apply(media), modified);
+        entries.put(path, entry);
+        size += entry.size;
+        evict(path);
+
+        return entry;
+    }
+
+    /**
+     * Get the number of requests served from cache.
+     * 
+     * @return The number of hits.
+     */
+    public synchronized int getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the number of requests which decoded the image.
+     * 
+     * @return The number of misses.
+     */
+    public synchronized int getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Get the number of entries evicted to fit in budget.
+     * 
+     * @return The number of evictions.
+     */
+    public synchronized int getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Get the current cache size.
+     * 
+     * @return The cache size in bytes.
+     */
+    public synchronized long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all entries. Native images still used are disposed once released.
+     */
+    public synchronized void clear()
+    {
+        entries.clear();
+        size = 0L;
+    }
+
+    /**
+     * Remove an entry.
+     * 
+     * @param path The entry path.
+     * @param entry The entry.
+     */
+    private void remove(String path, Entry entry)
+    {
+        entries.remove(path);
+        size -= entry.size;
+    }
+
+    /**
+     * Remove least recently used entries until cache fits in its budget.
+     * 
+     * @param current The current entry path, kept.
+     */
+    private void evict(String current)
+    {
+        final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > budget && iterator.hasNext())
+        {
+            final Map.Entry<String, Entry> entry = iterator.next();
+            if (!entry.getKey().equals(current))
+            {
+                size -= entry.getValue().size;
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Decoded image and its shared native image.
+     */
+    static final class Entry
+    {
+        /** Decoded data, must not be modified. */
+        private final ImageData data;
+        /** File modification time. */
+        private final long modified;
+        /** Data size in bytes. */
+        private final long size;
+        /** Shared native image, <code>null</code> if not used. */
+        private Image image;
+        /** Number of native image users. */
+        private int references;
+
+        /**
+         * Create entry.
+         * 
+         * @param data The decoded data.
+         * @param modified The file modification time.
+         */
+        Entry(ImageData data, long modified)
+        {
+            super();
+
+            this.data = data;
+            this.modified = modified;
+            long bytes = data.data.length;
+            if (data.alphaData != null)
+            {
+                bytes += data.alphaData.length;
+            }
+            size = bytes;
+        }
+
+        /**
+         * Get a copy of the decoded data.
+         * 
+         * @return The data copy.
+         */
+        ImageData copyData()
+        {
+            return (ImageData) data.clone();
+        }
+
+        /**
+         * Get the decoded data, shared.
+         * 
+         * @return The data, must not be modified.
+         */
+        ImageData getData()
+        {
+            return data;
+        }
+
+        /**
+         * Get the shared native image, create it if not used, and add a user.
+         * 
+         * @param device The device reference.
+         * @return The shared native image, must not be modified.
+         */
+        synchronized Image acquire(Device device)
+        {
+            if (image == null || image.isDisposed())
+            {
+                image = new Image(device, data);
+                Metrics.increment(Metric.HANDLE_ALLOCATED);
+            }
+            references++;
+            return image;
+        }
+
+        /**
+         * Remove a user of the shared native image, dispose it if no more used.
+         */
+        synchronized void release()
+        {
+            references--;
+            if (references == 0 && image != null)
+            {
+                image.dispose();
+                image = null;
+                Metrics.increment(Metric.HANDLE_DISPOSED);
+            }
+        }
+    }
+}
@@ -0,0 +1,640 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+import com.b3dgs.lionengine.LionEngineException;
+import com.b3dgs.lionengine.graphic.UtilColor;
+
+/**
+ * Scanline operations on {@link ImageData}.
+ * <p>
+ * Direct palettes of 24 and 32 bits are read and written on {@link ImageData#data} without any per pixel call, other
+ * palettes use the {@link ImageData} line accessors.
+ * </p>
+ */
+final class ImageDataSwt
+{
+    /** Byte mask. */
+    private static final int BYTE_MASK = 0xFF;
+    /** Opaque alpha channel of an RGBA value. */
+    private static final int RGBA_OPAQUE = 0xFF000000;
+    /** Alpha shift in an RGBA value. */
+    private static final int SHIFT_ALPHA = 24;
+    /** Red shift in an RGBA value. */
+    private static final int SHIFT_RED = 16;
+    /** Green shift in an RGBA value. */
+    private static final int SHIFT_GREEN = 8;
+    /** Depth of 24 bits. */
+    private static final int DEPTH_24 = 24;
+    /** Depth of 32 bits. */
+    private static final int DEPTH_32 = 32;
+    /** Maximum number of frames copied by a single split task. */
+    private static final int SPLIT_FRAMES = 16;
+
+    /**
+     * Check if data uses a direct palette stored on 24 or 32 bits.
+     * 
+     * @param data The image data.
+     * @return <code>true</code> if direct 24 or 32 bits, <code>false</code> else.
+     */
+    static boolean isDirect(ImageData data)
+    {
+        return data.palette.isDirect && (data.depth == DEPTH_24 || data.depth == DEPTH_32);
+    }
+
+    /**
+     * Read a line of pixels.
+     * 
+     * @param data The image data.
+     * @param y The line index.
+     * @param line The pixels output (must be of image width length).
+     */
+    static void getLine(ImageData data, int y, int[] line)
+    {
+        if (isDirect(data))
+        {
+            final byte[] bytes = data.data;
+            final int step = data.depth / Byte.SIZE;
+            int index = y * data.bytesPerLine;
+            for (int x = 0; x < data.width; x++)
+            {
+                int pixel = 0;
+                for (int b = 0; b < step; b++)
+                {
+                    pixel = pixel << Byte.SIZE | bytes[index + b] & BYTE_MASK;
+                }
+                line[x] = pixel;
+                index += step;
+            }
+        }
+        else
+        {
+            data.getPixels(0, y, data.width, line, 0);
+        }
+    }
+
+    /**
+     * Write a line of pixels.
+     * 
+     * @param data The image data.
+     * @param y The line index.
+     * @param line The pixels input (must be of image width length).
+     */
+    static void setLine(ImageData data, int y, int[] line)
+    {
+        if (isDirect(data))
+        {
+            final byte[] bytes = data.data;
+            final int step = data.depth / Byte.SIZE;
+            int index = y * data.bytesPerLine;
+            for (int x = 0; x < data.width; x++)
+            {
+                int pixel = line[x];
+                for (int b = step - 1; b >= 0; b--)
+                {
+                    bytes[index + b] = (byte) pixel;
+                    pixel >>>= Byte.SIZE;
+                }
+                index += step;
+            }
+        }
+        else
+        {
+            data.setPixels(0, y, data.width, line, 0);
+        }
+    }
+
+    /**
+     * Create a mirrored copy of the data.
+     * 
+     * @param source The source data.
+     * @param vertical <code>true</code> to reverse lines (upside down), <code>false</code> to reverse columns.
+     * @return The mirrored data.
+     */
+    static ImageData flip(ImageData source, boolean vertical)
+    {
+        final ImageData flip = (ImageData) source.clone();
+        if (vertical)
+        {
+            flipLines(source, flip);
+        }
+        else if (source.depth % Byte.SIZE == 0)
+        {
+            flipColumns(source, flip);
+        }
+        else
+        {
+            flipPixels(source, flip);
+        }
+        return flip;
+    }
+
+    /**
+     * Split data into frames of same size, on the common fork join pool. Frames are stored from left to right, then
+     * top to bottom. Each frame keeps the source palette, transparent pixel and alpha.
+     * 
+     * @param source The source data.
+     * @param h The number of horizontal divisions (strictly positive).
+     * @param v The number of vertical divisions (strictly positive).
+     * @return The frames data.
+     */
+    static ImageData[] split(ImageData source, int h, int v)
+    {
+        final ImageData[] frames = new ImageData[h * v];
+        ForkJoinPool.commonPool().invoke(new SplitTask(source, frames, h, 0, frames.length));
+        return frames;
+    }
+
+    /**
+     * Copy an area of the data.
+     * 
+     * @param source The source data.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @param width The area width.
+     * @param height The area height.
+     * @return The area data.
+     */
+    static ImageData copy(ImageData source, int x, int y, int width, int height)
+    {
+        final ImageData area = new ImageData(width, height, source.depth, source.palette);
+        area.transparentPixel = source.transparentPixel;
+        area.alpha = source.alpha;
+
+        if (source.depth % Byte.SIZE == 0)
+        {
+            final int step = source.depth / Byte.SIZE;
+            for (int line = 0; line < height; line++)
+            {
+                System.arraycopy(source.data,
+                                 (y + line) * source.bytesPerLine + x * step,
+                                 area.data,
+                                 line * area.bytesPerLine,
+                                 width * step);
+            }
+        }
+        else
+        {
+            final int[] pixels = new int[width];
+            for (int line = 0; line < height; line++)
+            {
+                source.getPixels(x, y + line, width, pixels, 0);
+                area.setPixels(0, line, width, pixels, 0);
+            }
+        }
+
+        if (source.alphaData != null)
+        {
+            area.alphaData = new byte[width * height];
+            for (int line = 0; line < height; line++)
+            {
+                System.arraycopy(source.alphaData, (y + line) * source.width + x, area.alphaData, line * width, width);
+            }
+        }
+        return area;
+    }
+
+    /**
+     * Apply the mask pixel as transparent. Pixel is used as transparent pixel if data has no alpha, else alpha of
+     * matching pixels is set to zero.
+     * 
+     * @param data The image data.
+     * @param mask The mask pixel value.
+     */
+    static void applyMask(ImageData data, int mask)
+    {
+        if (data.alphaData == null)
+        {
+            data.transparentPixel = mask;
+        }
+        else
+        {
+            final int[] line = new int[data.width];
+            for (int y = 0; y < data.height; y++)
+            {
+                getLine(data, y, line);
+                final int offset = y * data.width;
+                for (int x = 0; x < data.width; x++)
+                {
+                    if (line[x] == mask)
+                    {
+                        data.alphaData[offset + x] = 0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if data has any transparency, as transparent pixel or alpha.
+     * 
+     * @param data The image data.
+     * @return <code>true</code> if transparency, <code>false</code> if opaque.
+     */
+    static boolean hasAlpha(ImageData data)
+    {
+        return data.transparentPixel != -1 || data.alphaData != null;
+    }
+
+    /**
+     * Read a line as ARGB values. Transparent pixel is fully transparent, other pixels keep their alpha if any, or are
+     * opaque.
+     * 
+     * @param data The image data.
+     * @param y The line index.
+     * @param argb The ARGB output (must be of image width length).
+     */
+    static void getArgb(ImageData data, int y, int[] argb)
+    {
+        final RGB[] colors;
+        if (data.palette.isDirect)
+        {
+            colors = null;
+        }
+        else
+        {
+            colors = data.palette.getRGBs();
+        }
+        getLine(data, y, argb);
+
+        final int offset = y * data.width;
+        for (int x = 0; x < argb.length; x++)
+        {
+            final int pixel = argb[x];
+            final int alpha;
+            if (pixel == data.transparentPixel)
+            {
+                alpha = 0;
+            }
+            else if (data.alphaData != null)
+            {
+                alpha = data.alphaData[offset + x] & BYTE_MASK;
+            }
+            else
+            {
+                alpha = BYTE_MASK;
+            }
+            argb[x] = alpha << SHIFT_ALPHA | getRgb(data.palette, colors, pixel);
+        }
+    }
+
+    /**
+     * Multiply colors of a direct data, transparent pixel excluded.
+     * 
+     * @param data The image data (must be direct, see {@link #isDirect(ImageData)}).
+     * @param fr The red factor.
+     * @param fg The green factor.
+     * @param fb The blue factor.
+     */
+    static void raster(ImageData data, double fr, double fg, double fb)
+    {
+        final PaletteData palette = data.palette;
+        final int transparent = data.transparentPixel;
+        final int[] line = new int[data.width];
+
+        boolean computed = false;
+        int lastSource = 0;
+        int lastRaster = 0;
+        for (int y = 0; y < data.height; y++)
+        {
+            getLine(data, y, line);
+            for (int x = 0; x < data.width; x++)
+            {
+                final int pixel = line[x];
+                if (transparent == -1 || pixel != transparent)
+                {
+                    if (!computed || pixel != lastSource)
+                    {
+                        computed = true;
+                        lastSource = pixel;
+                        lastRaster = raster(palette, pixel, fr, fg, fb);
+                    }
+                    line[x] = lastRaster;
+                }
+            }
+            setLine(data, y, line);
+        }
+    }
+
+    /**
+     * Multiply color of a direct pixel.
+     * 
+     * @param palette The direct palette.
+     * @param pixel The pixel value.
+     * @param fr The red factor.
+     * @param fg The green factor.
+     * @param fb The blue factor.
+     * @return The multiplied pixel value.
+     */
+    private static int raster(PaletteData palette, int pixel, double fr, double fg, double fb)
+    {
+        final int rgba = RGBA_OPAQUE | getRgb(palette, pixel);
+
+        return getPixel(palette, UtilColor.multiplyRgb(rgba, fr, fg, fb));
+    }
+
+    /**
+     * Convert data to a direct palette of 24 bits, keeping alpha and transparent pixel.
+     * 
+     * @param data The image data.
+     * @return The data itself if already direct, see {@link #isDirect(ImageData)}, converted data else.
+     */
+    static ImageData toDirect(ImageData data)
+    {
+        if (isDirect(data))
+        {
+            return data;
+        }
+
+        final PaletteData palette = new PaletteData(0xFF0000, 0xFF00, 0xFF);
+        final ImageData direct = new ImageData(data.width, data.height, DEPTH_24, palette);
+        final int[] line = new int[data.width];
+        final RGB[] colors = data.palette.isDirect ? null : data.palette.getRGBs();
+        for (int y = 0; y < data.height; y++)
+        {
+            data.getPixels(0, y, data.width, line, 0);
+            for (int x = 0; x < data.width; x++)
+            {
+                line[x] = getRgb(data.palette, colors, line[x]);
+            }
+            setLine(direct, y, line);
+        }
+        if (data.transparentPixel != -1)
+        {
+            direct.transparentPixel = getRgb(data.palette, colors, data.transparentPixel);
+        }
+        if (data.alphaData != null)
+        {
+            direct.alphaData = data.alphaData.clone();
+        }
+        direct.alpha = data.alpha;
+        return direct;
+    }
+
+    /**
+     * Get the RGB value of a direct pixel.
+     * 
+     * @param palette The direct palette.
+     * @param pixel The pixel value.
+     * @return The RGB value, without alpha.
+     */
+    static int getRgb(PaletteData palette, int pixel)
+    {
+        final int red = getComponent(pixel, palette.redMask, palette.redShift);
+        final int green = getComponent(pixel, palette.greenMask, palette.greenShift);
+        final int blue = getComponent(pixel, palette.blueMask, palette.blueShift);
+
+        return red << SHIFT_RED | green << SHIFT_GREEN | blue;
+    }
+
+    /**
+     * Get the direct pixel value of an RGBA color.
+     * 
+     * @param palette The direct palette.
+     * @param rgba The RGBA color.
+     * @return The pixel value.
+     */
+    static int getPixel(PaletteData palette, int rgba)
+    {
+        return setComponent(rgba >> SHIFT_RED & BYTE_MASK, palette.redMask, palette.redShift)
+               | setComponent(rgba >> SHIFT_GREEN & BYTE_MASK, palette.greenMask, palette.greenShift)
+               | setComponent(rgba & BYTE_MASK, palette.blueMask, palette.blueShift);
+    }
+
+    /**
+     * Get the RGB value of a pixel.
+     * 
+     * @param palette The palette.
+     * @param colors The indexed colors, <code>null</code> if direct palette.
+     * @param pixel The pixel value.
+     * @return The RGB value, without alpha.
+     */
+    private static int getRgb(PaletteData palette, RGB[] colors, int pixel)
+    {
+        if (colors == null)
+        {
+            return getRgb(palette, pixel);
+        }
+        final RGB rgb = colors[pixel];
+        return rgb.red << SHIFT_RED | rgb.green << SHIFT_GREEN | rgb.blue;
+    }
+
+    /**
+     * Get a color component from a direct pixel.
+     * 
+     * @param pixel The pixel value.
+     * @param mask The component mask.
+     * @param shift The component shift.
+     * @return The component value.
+     */
+    private static int getComponent(int pixel, int mask, int shift)
+    {
+        final int value = pixel & mask;
+        if (shift < 0)
+        {
+            return value >>> -shift;
+        }
+        return value << shift;
+    }
+
+    /**
+     * Get the component part of a direct pixel.
+     * 
+     * @param value The component value.
+     * @param mask The component mask.
+     * @param shift The component shift.
+     * @return The pixel part.
+     */
+    private static int setComponent(int value, int mask, int shift)
+    {
+        if (shift < 0)
+        {
+            return value << -shift & mask;
+        }
+        return value >>> shift & mask;
+    }
+
+    /**
+     * Reverse lines order, including alpha.
+     * 
+     * @param source The source data.
+     * @param flip The flipped data.
+     */
+    private static void flipLines(ImageData source, ImageData flip)
+    {
+        final int last = source.height - 1;
+        for (int y = 0; y < source.height; y++)
+        {
+            System.arraycopy(source.data,
+                             y * source.bytesPerLine,
+                             flip.data,
+                             (last - y) * source.bytesPerLine,
+                             source.bytesPerLine);
+            if (source.alphaData != null)
+            {
+                System.arraycopy(source.alphaData,
+                                 y * source.width,
+                                 flip.alphaData,
+                                 (last - y) * source.width,
+                                 source.width);
+            }
+        }
+    }
+
+    /**
+     * Reverse columns order on byte aligned pixels, including alpha.
+     * 
+     * @param source The source data.
+     * @param flip The flipped data.
+     */
+    private static void flipColumns(ImageData source, ImageData flip)
+    {
+        final int step = source.depth / Byte.SIZE;
+        for (int y = 0; y < source.height; y++)
+        {
+            int src = y * source.bytesPerLine;
+            int dst = src + (source.width - 1) * step;
+            for (int x = 0; x < source.width; x++)
+            {
+                for (int b = 0; b < step; b++)
+                {
+                    flip.data[dst + b] = source.data[src + b];
+                }
+                src += step;
+                dst -= step;
+            }
+            if (source.alphaData != null)
+            {
+                final int offset = y * source.width;
+                final int last = offset + source.width - 1;
+                for (int x = 0; x < source.width; x++)
+                {
+                    flip.alphaData[last - x] = source.alphaData[offset + x];
+                }
+            }
+        }
+    }
+
+    /**
+     * Reverse columns order pixel per pixel, for sub byte depths.
+     * 
+     * @param source The source data.
+     * @param flip The flipped data.
+     */
+    private static void flipPixels(ImageData source, ImageData flip)
+    {
+        final int[] line = new int[source.width];
+        final int[] reversed = new int[source.width];
+        final int last = source.width - 1;
+        for (int y = 0; y < source.height; y++)
+        {
+            source.getPixels(0, y, source.width, line, 0);
+            for (int x = 0; x < source.width; x++)
+            {
+                reversed[last - x] = line[x];
+            }
+            flip.setPixels(0, y, source.width, reversed, 0);
+            if (source.alphaData != null)
+            {
+                final int offset = y * source.width;
+                for (int x = 0; x < source.width; x++)
+                {
+                    flip.alphaData[offset + last - x] = source.alphaData[offset + x];
+                }
+            }
+        }
+    }
+
+    /**
+     * Private constructor.
+     */
+    private ImageDataSwt()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+
+    /**
+     * Copy a range of frames, forked in halves until range is small enough.
+     */
+    private static final class SplitTask extends RecursiveAction
+    {
+        /** Serial UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Source data. */
+        private final transient ImageData source;
+        /** Frames output. */
+        private final transient ImageData[] frames;
+        /** Number of horizontal divisions. */
+        private final int h;
+        /** First frame index (included). */
+        private final int start;
+        /** Last frame index (excluded). */
+        private final int end;
+
+        /**
+         * Create task.
+         * 
+         * @param source The source data.
+         * @param frames The frames output.
+         * @param h The number of horizontal divisions.
+         * @param start The first frame index (included).
+         * @param end The last frame index (excluded).
+         */
+        SplitTask(ImageData source, ImageData[] frames, int h, int start, int end)
+        {
+            super();
+
+            this.source = source;
+            this.frames = frames;
+            this.h = h;
+            this.start = start;
+            this.end = end;
+        }
+
+        /*
+         * RecursiveAction
+         */
+
+        @Override
+        protected void compute()
+        {
+            if (end - start > SPLIT_FRAMES)
+            {
+                final int middle = start + (end - start) / 2;
+                invokeAll(new SplitTask(source, frames, h, start, middle),
+                          new SplitTask(source, frames, h, middle, end));
+            }
+            else
+            {
+                final int width = source.width / h;
+                final int height = source.height / (frames.length / h);
+                for (int frame = start; frame < end; frame++)
+                {
+                    frames[frame] = copy(source, frame % h * width, frame / h * height, width, height);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size set of input states, one bit per index, readable and writable from any thread without lock nor
+ * allocation.
+ */
+final class InputBitsSwt
+{
+    /** Bits per word shift. */
+    private static final int WORD_SHIFT = 6;
+    /** Bit index mask in word. */
+    private static final int BIT_MASK = 63;
+
+    /** States words. */
+    private final AtomicLongArray words;
+    /** Number of states. */
+    private final int size;
+
+    /**
+     * Create states, all cleared.
+     * 
+     * @param size The number of states.
+     */
+    InputBitsSwt(int size)
+    {
+        super();
+
+        this.size = size;
+        words = new AtomicLongArray((size + BIT_MASK) >>> WORD_SHIFT);
+    }
+
+    /**
+     * Get the number of states.
+     * 
+     * @return The number of states.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the state.
+     * 
+     * @param index The state index.
+     * @return <code>true</code> if set, <code>false</code> if cleared or out of range.
+     */
+    boolean get(int index)
+    {
+        if (index < 0 || index >= size)
+        {
+            return false;
+        }
+        return (words.get(index >>> WORD_SHIFT) & 1L << (index & BIT_MASK)) != 0L;
+    }
+
+    /**
+     * Set or clear the state. Does nothing if out of range.
+     * 
+     * @param index The state index.
+     * @param value <code>true</code> to set, <code>false</code> to clear.
+     * @return <code>true</code> if state changed, <code>false</code> else.
+     */
+    boolean set(int index, boolean value)
+    {
+        if (index < 0 || index >= size)
+        {
+            return false;
+        }
+        final int word = index >>> WORD_SHIFT;
+        final long bit = 1L << (index & BIT_MASK);
+        long current;
+        long next;
+        do
+        {
+            current = words.get(word);
+            next = value ? current | bit : current & ~bit;
+            if (next == current)
+            {
+                return false;
+            }
+        }
+        while (!words.compareAndSet(word, current, next));
+        return true;
+    }
+
+    /**
+     * Check if no state is set.
+     * 
+     * @return <code>true</code> if all cleared, <code>false</code> else.
+     */
+    boolean isEmpty()
+    {
+        for (int i = 0; i < words.length(); i++)
+        {
+            if (words.get(i) != 0L)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
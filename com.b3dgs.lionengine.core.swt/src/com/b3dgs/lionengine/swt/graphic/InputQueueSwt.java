@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Bounded queue of input events, written by a single producer (the SWT listener) and read by a single consumer (the
+ * update loop), without lock nor allocation.
+ * <p>
+ * Events are stored as primitive values. Consumer takes them once per frame with {@link #snapshot()}, which only
+ * sees the events queued before its call, then reads the frame events with {@link #readFrame(Listener)} as many times
+ * as needed until next snapshot. Events can also be consumed directly with {@link #drain(Listener)}. Events are dropped
+ * when queue is full, see {@link #getDropped()}.
+ * </p>
+ */
+public final class InputQueueSwt
+{
+    /** Key pressed event, code is key code, x is key character. */
+    public static final int KEY_PRESSED = 1;
+    /** Key released event, code is key code, x is key character. */
+    public static final int KEY_RELEASED = 2;
+    /** Mouse pressed event, code is button. */
+    public static final int MOUSE_PRESSED = 3;
+    /** Mouse released event, code is button. */
+    public static final int MOUSE_RELEASED = 4;
+    /** Mouse moved event, x and y are location. */
+    public static final int MOUSE_MOVED = 5;
+    /** Invalid capacity error. */
+    static final String ERROR_CAPACITY = "Capacity must be a power of two: ";
+    /** Default capacity. */
+    static final int DEFAULT_CAPACITY = 256;
+    /** Values per event. */
+    private static final int STRIDE = 4;
+    /** Type offset. */
+    private static final int TYPE = 0;
+    /** Code offset. */
+    private static final int CODE = 1;
+    /** Horizontal value offset. */
+    private static final int X = 2;
+    /** Vertical value offset. */
+    private static final int Y = 3;
+
+    /** Events values. */
+    private final int[] events;
+    /** Frame snapshot events values, read by consumer. */
+    private final int[] frame;
+    /** Index mask. */
+    private final int mask;
+    /** Next read position, written by consumer. */
+    private final AtomicLong head = new AtomicLong();
+    /** Next write position, written by producer. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Dropped events, written by producer. */
+    private final AtomicLong dropped = new AtomicLong();
+    /** Number of frame snapshot events. */
+    private int frameCount;
+
+    /**
+     * Create queue.
+     * 
+     * @param capacity The maximum number of pending events (must be a power of two).
+     * @throws LionEngineException If invalid capacity.
+     */
+    public InputQueueSwt(int capacity)
+    {
+        super();
+
+        Check.superiorStrict(capacity, 0);
+        if (Integer.bitCount(capacity) != 1)
+        {
+            throw new LionEngineException(ERROR_CAPACITY + capacity);
+        }
+
+        events = new int[capacity * STRIDE];
+        frame = new int[capacity * STRIDE];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Add an event, from producer thread.
+     * 
+     * @param type The event type.
+     * @param code The event code.
+     * @param x The event horizontal value.
+     * @param y The event vertical value.
+     * @return <code>true</code> if queued, <code>false</code> if dropped as queue is full.
+     */
+    public boolean offer(int type, int code, int x, int y)
+    {
+        final long position = tail.get();
+        if (position - head.get() > mask)
+        {
+            dropped.lazySet(dropped.get() + 1L);
+            return false;
+        }
+        final int index = (int) (position & mask) * STRIDE;
+        events[index + TYPE] = type;
+        events[index + CODE] = code;
+        events[index + X] = x;
+        events[index + Y] = y;
+        tail.lazySet(position + 1L);
+        return true;
+    }
+
+    /**
+     * Notify and remove the events queued until now, from consumer thread.
+     * 
+     * @param listener The events listener.
+     * @return The number of notified events.
+     */
+    public int drain(Listener listener)
+    {
+        final long start = head.get();
+        final long end = tail.get();
+        for (long position = start; position < end; position++)
+        {
+            final int index = (int) (position & mask) * STRIDE;
+            listener.onEvent(events[index + TYPE], events[index + CODE], events[index + X], events[index + Y]);
+        }
+        head.lazySet(end);
+        return (int) (end - start);
+    }
+
+    /**
+     * Replace the frame snapshot by the events queued until now, and remove them from queue, from consumer thread.
+     * 
+     * @return The number of frame events.
+     */
+    public int snapshot()
+    {
+        final long start = head.get();
+        final long end = tail.get();
+        frameCount = 0;
+        for (long position = start; position < end; position++)
+        {
+            System.arraycopy(events, (int) (position & mask) * STRIDE, frame, frameCount * STRIDE, STRIDE);
+            frameCount++;
+        }
+        head.lazySet(end);
+        return frameCount;
+    }
+
+    /**
+     * Notify the events of the last frame snapshot, from consumer thread. They are kept until next snapshot.
+     * 
+     * @param listener The events listener.
+     * @return The number of notified events.
+     */
+    public int readFrame(Listener listener)
+    {
+        for (int i = 0; i < frameCount; i++)
+        {
+            final int index = i * STRIDE;
+            listener.onEvent(frame[index + TYPE], frame[index + CODE], frame[index + X], frame[index + Y]);
+        }
+        return frameCount;
+    }
+
+    /**
+     * Get the number of pending events.
+     * 
+     * @return The number of pending events.
+     */
+    public int size()
+    {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Get the number of events dropped since queue creation.
+     * 
+     * @return The number of dropped events.
+     */
+    public long getDropped()
+    {
+        return dropped.get();
+    }
+
+    /**
+     * Input events listener.
+     */
+    public interface Listener
+    {
+        /**
+         * Notify an event.
+         * 
+         * @param type The event type.
+         * @param code The event code.
+         * @param x The event horizontal value.
+         * @param y The event vertical value.
+         */
+        void onEvent(int type, int code, int x, int y);
+    }
+}
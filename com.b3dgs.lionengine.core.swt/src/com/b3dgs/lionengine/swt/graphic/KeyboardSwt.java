@@ -16,22 +16,24 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.KeyEvent;
 import org.eclipse.swt.events.KeyListener;
 
+import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.swt.EventAction;
 import com.b3dgs.lionengine.swt.Keyboard;
 
 /**
  * Keyboard input implementation.
+ * <p>
+ * Each key code is given a slot on its first use, key states are bits by slot, so pressing a key neither allocates
+ * nor locks, and states can be read from another thread than the SWT one. Events are also queued for the update loop,
+ * see {@link #getEvents()}. Actions are executed on the SWT thread.
+ * </p>
  */
 public final class KeyboardSwt implements Keyboard, KeyListener
 {
@@ -57,21 +59,54 @@ public final class KeyboardSwt implements Keyboard, KeyListener
     public static final Integer TAB = Integer.valueOf(SWT.TAB);
     /** No key code value. */
     public static final Integer NO_KEY_CODE = Integer.valueOf(-1);
+    /** Too many keys error. */
+    static final String ERROR_KEYS = "Too many keys: ";
+    /** Maximum number of distinct keys. */
+    private static final int SLOTS = 256;
+    /** Slot index mask. */
+    private static final int SLOT_MASK = SLOTS - 1;
+    /** Slot hash shift. */
+    private static final int SLOT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(SLOTS);
+    /** Slot hash multiplier. */
+    private static final int SLOT_HASH = 0x9E3779B9;
+    /** Empty slot code. */
+    private static final int EMPTY = Integer.MIN_VALUE;
     /** Empty key name. */
     private static final char EMPTY_KEY_NAME = ' ';
 
-    /** Actions pressed listeners. */
-    private final Map<Integer, List<EventAction>> actionsPressed = new HashMap<>();
-    /** Actions released listeners. */
-    private final Map<Integer, List<EventAction>> actionsReleased = new HashMap<>();
-    /** List of keys. */
-    private final Collection<Integer> keys = new HashSet<>();
-    /** Pressed states. */
-    private final Collection<Integer> pressed = new HashSet<>();
+    /**
+     * Execute actions of a slot.
+     * 
+     * @param actions The actions by slot.
+     * @param slot The key slot (ignored if negative).
+     */
+    private static void execute(EventAction[][] actions, int slot)
+    {
+        if (slot >= 0 && actions[slot] != null)
+        {
+            for (final EventAction action : actions[slot])
+            {
+                action.action();
+            }
+        }
+    }
+
+    /** Key codes by slot. */
+    private final AtomicIntegerArray codes = new AtomicIntegerArray(SLOTS);
+    /** Keys pressed by slot. */
+    private final InputBitsSwt keys = new InputBitsSwt(SLOTS);
+    /** Keys pressed once consumed by slot. */
+    private final InputBitsSwt pressed = new InputBitsSwt(SLOTS);
+    /** Queued events. */
+    private final InputQueueSwt events = new InputQueueSwt(InputQueueSwt.DEFAULT_CAPACITY);
+    /** Actions pressed listeners by slot, replaced on change. */
+    private volatile EventAction[][] actionsPressed = new EventAction[SLOTS][];
+    /** Actions released listeners by slot, replaced on change. */
+    private volatile EventAction[][] actionsReleased = new EventAction[SLOTS][];
     /** Last key code. */
-    private Integer lastCode = NO_KEY_CODE;
+    private volatile int lastCode = NO_KEY_CODE.intValue();
     /** Last key name. */
-    private char lastKeyName = EMPTY_KEY_NAME;
+    private volatile char lastKeyName = EMPTY_KEY_NAME;
     /** Left key. */
     private Integer leftKey = LEFT;
     /** Right key. */
@@ -86,79 +121,135 @@ public final class KeyboardSwt implements Keyboard, KeyListener
      */
     public KeyboardSwt()
     {
-        lastKeyName = ' ';
-        lastCode = Integer.valueOf(-1);
+        super();
+
+        for (int i = 0; i < SLOTS; i++)
+        {
+            codes.set(i, EMPTY);
+        }
     }
 
-    /*
-     * Keyboard
+    /**
+     * Get the queued events. The screen takes their snapshot once per frame, before the update loop reads them with
+     * {@link InputQueueSwt#readFrame(InputQueueSwt.Listener)}.
+     * 
+     * @return The queued events.
      */
+    public InputQueueSwt getEvents()
+    {
+        return events;
+    }
 
-    @Override
-    public void addActionPressed(Integer key, EventAction action)
+    /**
+     * Get the key slot, by open addressing on key code.
+     * 
+     * @param code The key code.
+     * @param create <code>true</code> to give a slot to an unknown key, <code>false</code> to only search.
+     * @return The key slot, <code>-1</code> if unknown key or no more free slot.
+     */
+    private int getSlot(int code, boolean create)
     {
-        final List<EventAction> list;
-        if (actionsPressed.get(key) == null)
-        {
-            list = new ArrayList<>();
-            actionsPressed.put(key, list);
-        }
-        else
+        int slot = code * SLOT_HASH >>> SLOT_SHIFT;
+        for (int i = 0; i < SLOTS; i++)
         {
-            list = actionsPressed.get(key);
+            final int current = codes.get(slot);
+            if (current == code)
+            {
+                return slot;
+            }
+            if (current == EMPTY)
+            {
+                if (!create)
+                {
+                    return -1;
+                }
+                if (codes.compareAndSet(slot, EMPTY, code) || codes.get(slot) == code)
+                {
+                    return slot;
+                }
+            }
+            slot = slot + 1 & SLOT_MASK;
         }
-        list.add(action);
+        return -1;
     }
 
-    @Override
-    public void addActionReleased(Integer key, EventAction action)
+    /**
+     * Create actions with a new action.
+     * 
+     * @param actions The current actions by slot.
+     * @param key The action key.
+     * @param action The action to add.
+     * @return The new actions by slot.
+     * @throws LionEngineException If too many keys.
+     */
+    private EventAction[][] add(EventAction[][] actions, Integer key, EventAction action)
     {
-        final List<EventAction> list;
-        if (actionsReleased.get(key) == null)
+        final int slot = getSlot(key.intValue(), true);
+        if (slot < 0)
+        {
+            throw new LionEngineException(ERROR_KEYS + key);
+        }
+        final EventAction[][] copy = actions.clone();
+        if (copy[slot] == null)
         {
-            list = new ArrayList<>();
-            actionsReleased.put(key, list);
+            copy[slot] = new EventAction[]
+            {
+                action
+            };
         }
         else
         {
-            list = actionsReleased.get(key);
+            copy[slot] = Arrays.copyOf(copy[slot], copy[slot].length + 1);
+            copy[slot][copy[slot].length - 1] = action;
         }
-        list.add(action);
+        return copy;
     }
 
+    /*
+     * Keyboard
+     */
+
     @Override
-    public void removeActionsPressed()
+    public synchronized void addActionPressed(Integer key, EventAction action)
     {
-        actionsPressed.clear();
+        actionsPressed = add(actionsPressed, key, action);
     }
 
     @Override
-    public void removeActionsReleased()
+    public synchronized void addActionReleased(Integer key, EventAction action)
     {
-        actionsReleased.clear();
+        actionsReleased = add(actionsReleased, key, action);
+    }
+
+    @Override
+    public synchronized void removeActionsPressed()
+    {
+        actionsPressed = new EventAction[SLOTS][];
+    }
+
+    @Override
+    public synchronized void removeActionsReleased()
+    {
+        actionsReleased = new EventAction[SLOTS][];
     }
 
     @Override
     public boolean isPressed(Integer key)
     {
-        return keys.contains(key);
+        return keys.get(getSlot(key.intValue(), false));
     }
 
     @Override
     public boolean isPressedOnce(Integer key)
     {
-        if (keys.contains(key) && !pressed.contains(key))
-        {
-            pressed.add(key);
-            return true;
-        }
-        return false;
+        final int slot = getSlot(key.intValue(), false);
+        return keys.get(slot) && pressed.set(slot, true);
     }
 
     @Override
     public Integer getKeyCode()
     {
-        return lastCode;
+        return Integer.valueOf(lastCode);
     }
 
     @Override
@@ -270,40 +361,25 @@ public final class KeyboardSwt implements Keyboard, KeyListener
     @Override
     public void keyPressed(KeyEvent event)
     {
-        lastCode = Integer.valueOf(event.keyCode);
+        lastCode = event.keyCode;
         lastKeyName = event.character;
-        if (!keys.contains(lastCode))
-        {
-            keys.add(lastCode);
-        }
 
-        if (actionsPressed.containsKey(lastCode))
-        {
-            final List<EventAction> actions = actionsPressed.get(lastCode);
-            for (final EventAction current : actions)
-            {
-                current.action();
-            }
-        }
+        final int slot = getSlot(event.keyCode, true);
+        keys.set(slot, true);
+        events.offer(InputQueueSwt.KEY_PRESSED, event.keyCode, event.character, 0);
+        execute(actionsPressed, slot);
     }
 
     @Override
     public void keyReleased(KeyEvent event)
     {
-        lastCode = NO_KEY_CODE;
+        lastCode = NO_KEY_CODE.intValue();
         lastKeyName = EMPTY_KEY_NAME;
 
-        final Integer key = Integer.valueOf(event.keyCode);
-        keys.remove(key);
-        pressed.remove(key);
-
-        if (actionsReleased.containsKey(key))
-        {
-            final List<EventAction> actions = actionsReleased.get(key);
-            for (final EventAction current : actions)
-            {
-                current.action();
-            }
-        }
+        final int slot = getSlot(event.keyCode, false);
+        keys.set(slot, false);
+        pressed.set(slot, false);
+        events.offer(InputQueueSwt.KEY_RELEASED, event.keyCode, event.character, 0);
+        execute(actionsReleased, slot);
     }
 }
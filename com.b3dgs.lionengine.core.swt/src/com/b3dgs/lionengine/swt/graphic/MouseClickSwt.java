@@ -16,10 +16,7 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseListener;
@@ -29,30 +26,90 @@ import com.b3dgs.lionengine.swt.EventAction;
 
 /**
  * Mouse input implementation.
+ * <p>
+ * Button states are bits, so clicking neither allocates nor locks, and states can be read from another thread than
+ * the SWT one. Events are also queued for the update loop. Actions are executed on the SWT thread.
+ * </p>
  */
 public final class MouseClickSwt implements MouseListener, MouseWheelListener
 {
-    /** Actions pressed listeners. */
-    private final Map<Integer, List<EventAction>> actionsPressed = new HashMap<>();
-    /** Actions released listeners. */
-    private final Map<Integer, List<EventAction>> actionsReleased = new HashMap<>();
+    /** Number of tracked buttons. */
+    private static final int BUTTONS = 9;
+
+    /**
+     * Execute actions of a button.
+     * 
+     * @param actions The actions by button.
+     * @param button The button.
+     */
+    private static void execute(EventAction[][] actions, int button)
+    {
+        if (button >= 0 && button < actions.length && actions[button] != null)
+        {
+            for (final EventAction action : actions[button])
+            {
+                action.action();
+            }
+        }
+    }
+
+    /**
+     * Create actions with a new action.
+     * 
+     * @param actions The current actions by button.
+     * @param button The action button.
+     * @param action The action to add.
+     * @return The new actions by button.
+     */
+    private static EventAction[][] add(EventAction[][] actions, int button, EventAction action)
+    {
+        final EventAction[][] copy = Arrays.copyOf(actions, Math.max(actions.length, button + 1));
+        if (copy[button] == null)
+        {
+            copy[button] = new EventAction[]
+            {
+                action
+            };
+        }
+        else
+        {
+            copy[button] = Arrays.copyOf(copy[button], copy[button].length + 1);
+            copy[button][copy[button].length - 1] = action;
+        }
+        return copy;
+    }
+
     /** Clicks flags. */
-    private final boolean[] clicks;
+    private final InputBitsSwt clicks = new InputBitsSwt(BUTTONS);
     /** Clicked flags. */
-    private final boolean[] clicked;
+    private final InputBitsSwt clicked = new InputBitsSwt(BUTTONS);
+    /** Queued events. */
+    private final InputQueueSwt events;
+    /** Actions pressed listeners by button, replaced on change. */
+    private volatile EventAction[][] actionsPressed = new EventAction[BUTTONS][];
+    /** Actions released listeners by button, replaced on change. */
+    private volatile EventAction[][] actionsReleased = new EventAction[BUTTONS][];
     /** Last click number. */
-    private int lastClick;
+    private volatile int lastClick;
 
     /**
      * Constructor.
      */
     public MouseClickSwt()
+    {
+        this(new InputQueueSwt(InputQueueSwt.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param events The queued events.
+     */
+    MouseClickSwt(InputQueueSwt events)
     {
         super();
 
-        final int mouseButtons = 9;
-        clicks = new boolean[mouseButtons];
-        clicked = new boolean[mouseButtons];
+        this.events = events;
     }
 
     /**
@@ -61,20 +118,9 @@ public final class MouseClickSwt implements MouseListener, MouseWheelListener
      * @param click The action click.
      * @param action The associated action.
      */
-    public void addActionPressed(int click, EventAction action)
+    public synchronized void addActionPressed(int click, EventAction action)
     {
-        final List<EventAction> list;
-        final Integer key = Integer.valueOf(click);
-        if (actionsPressed.get(key) == null)
-        {
-            list = new ArrayList<>();
-            actionsPressed.put(key, list);
-        }
-        else
-        {
-            list = actionsPressed.get(key);
-        }
-        list.add(action);
+        actionsPressed = add(actionsPressed, click, action);
     }
 
     /**
@@ -83,20 +129,9 @@ public final class MouseClickSwt implements MouseListener, MouseWheelListener
      * @param click The action click.
      * @param action The associated action.
      */
-    public void addActionReleased(int click, EventAction action)
+    public synchronized void addActionReleased(int click, EventAction action)
     {
-        final Integer key = Integer.valueOf(click);
-        final List<EventAction> list;
-        if (actionsReleased.get(key) == null)
-        {
-            list = new ArrayList<>();
-            actionsReleased.put(key, list);
-        }
-        else
-        {
-            list = actionsReleased.get(key);
-        }
-        list.add(action);
+        actionsReleased = add(actionsReleased, click, action);
     }
 
     /**
@@ -117,7 +152,7 @@ public final class MouseClickSwt implements MouseListener, MouseWheelListener
      */
     public boolean hasClicked(int click)
     {
-        return clicks[click];
+        return clicks.get(click);
     }
 
     /**
@@ -128,12 +163,7 @@ public final class MouseClickSwt implements MouseListener, MouseWheelListener
      */
     public boolean hasClickedOnce(int click)
     {
-        if (clicks[click] && !clicked[click])
-        {
-            clicked[click] = true;
-            return true;
-        }
-        return false;
+        return clicks.get(click) && clicked.set(click, true);
     }
 
     /*
@@ -155,43 +185,22 @@ public final class MouseClickSwt implements MouseListener, MouseWheelListener
     @Override
     public void mouseDown(MouseEvent event)
     {
-        lastClick = event.button;
-        if (lastClick < clicks.length)
-        {
-            clicks[lastClick] = true;
-        }
-
-        final Integer key = Integer.valueOf(lastClick);
-        if (actionsPressed.containsKey(key))
-        {
-            final List<EventAction> actions = actionsPressed.get(key);
-            for (final EventAction current : actions)
-            {
-                current.action();
-            }
-        }
+        final int button = event.button;
+        lastClick = button;
+        clicks.set(button, true);
+        events.offer(InputQueueSwt.MOUSE_PRESSED, button, event.x, event.y);
+        execute(actionsPressed, button);
     }
 
     @Override
     public void mouseUp(MouseEvent event)
     {
-        final Integer key = Integer.valueOf(lastClick);
         lastClick = 0;
 
         final int button = event.button;
-        if (button < clicks.length)
-        {
-            clicks[button] = false;
-            clicked[button] = false;
-        }
-
-        if (actionsPressed.containsKey(key))
-        {
-            final List<EventAction> actions = actionsReleased.get(key);
-            for (final EventAction current : actions)
-            {
-                current.action();
-            }
-        }
+        clicks.set(button, false);
+        clicked.set(button, false);
+        events.offer(InputQueueSwt.MOUSE_RELEASED, button, event.x, event.y);
+        execute(actionsReleased, button);
     }
 }
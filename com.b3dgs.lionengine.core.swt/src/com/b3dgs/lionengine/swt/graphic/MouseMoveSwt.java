@@ -16,39 +16,87 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseMoveListener;
 
 /**
  * Mouse input implementation.
+ * <p>
+ * Location and movement are stored as packed pairs, so they are read consistently from another thread than the SWT
+ * one, without lock nor allocation. Events are also queued for the update loop.
+ * </p>
  */
 public final class MouseMoveSwt implements MouseMoveListener
 {
-    /** On screen monitor location x. */
-    private int x;
-    /** On screen monitor location y. */
-    private int y;
-    /** On local window location x. */
-    private int wx;
-    /** On local window location y. */
-    private int wy;
-    /** Move value x. */
-    private int mx;
-    /** Move value y. */
-    private int my;
-    /** Old location x. */
-    private int oldX = x;
-    /** Old location y. */
-    private int oldY = y;
+    /** Low value mask. */
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+    /**
+     * Pack a pair of values.
+     * 
+     * @param x The horizontal value.
+     * @param y The vertical value.
+     * @return The packed pair.
+     */
+    private static long pack(int x, int y)
+    {
+        return (long) x << Integer.SIZE | y & LOW_MASK;
+    }
+
+    /**
+     * Get the horizontal value of a pair.
+     * 
+     * @param pair The packed pair.
+     * @return The horizontal value.
+     */
+    private static int getX(long pair)
+    {
+        return (int) (pair >> Integer.SIZE);
+    }
+
+    /**
+     * Get the vertical value of a pair.
+     * 
+     * @param pair The packed pair.
+     * @return The vertical value.
+     */
+    private static int getY(long pair)
+    {
+        return (int) pair;
+    }
+
+    /** Location. */
+    private final AtomicLong location = new AtomicLong();
+    /** Old location. */
+    private final AtomicLong old = new AtomicLong();
+    /** Move value. */
+    private final AtomicLong move = new AtomicLong();
     /** Moved flag. */
-    private boolean moved;
+    private final AtomicBoolean moved = new AtomicBoolean();
+    /** Queued events. */
+    private final InputQueueSwt events;
 
     /**
      * Constructor.
      */
     public MouseMoveSwt()
+    {
+        this(new InputQueueSwt(InputQueueSwt.DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param events The queued events.
+     */
+    MouseMoveSwt(InputQueueSwt events)
     {
         super();
+
+        this.events = events;
     }
 
     /**
@@ -56,10 +104,9 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public void update()
     {
-        mx = x - oldX;
-        my = y - oldY;
-        oldX = x;
-        oldY = y;
+        final long current = location.get();
+        final long previous = old.getAndSet(current);
+        move.set(pack(getX(current) - getX(previous), getY(current) - getY(previous)));
     }
 
     /**
@@ -69,7 +116,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getX()
     {
-        return x;
+        return getX(location.get());
     }
 
     /**
@@ -79,7 +126,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getY()
     {
-        return y;
+        return getY(location.get());
     }
 
     /**
@@ -89,7 +136,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getWx()
     {
-        return wx;
+        return getX();
     }
 
     /**
@@ -99,7 +146,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getWy()
     {
-        return wy;
+        return getY();
     }
 
     /**
@@ -109,7 +156,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getMx()
     {
-        return mx;
+        return getX(move.get());
     }
 
     /**
@@ -119,7 +166,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public int getMy()
     {
-        return my;
+        return getY(move.get());
     }
 
     /**
@@ -129,29 +176,7 @@ public final class MouseMoveSwt implements MouseMoveListener
      */
     public boolean hasMoved()
     {
-        if (moved)
-        {
-            moved = false;
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Update coordinate from event.
-     * 
-     * @param event event consumed.
-     */
-    private void updateCoord(MouseEvent event)
-    {
-        oldX = x;
-        oldY = y;
-        x = event.x;
-        y = event.y;
-        wx = event.x;
-        wy = event.y;
-        mx = x - oldX;
-        my = y - oldY;
+        return moved.getAndSet(false);
     }
 
     /*
@@ -161,7 +186,10 @@ public final class MouseMoveSwt implements MouseMoveListener
     @Override
     public void mouseMove(MouseEvent event)
     {
-        moved = true;
-        updateCoord(event);
+        final long previous = location.getAndSet(pack(event.x, event.y));
+        old.set(previous);
+        move.set(pack(event.x - getX(previous), event.y - getY(previous)));
+        moved.set(true);
+        events.offer(InputQueueSwt.MOUSE_MOVED, 0, event.x, event.y);
     }
 }
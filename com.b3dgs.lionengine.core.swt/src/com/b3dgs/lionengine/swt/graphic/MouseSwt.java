@@ -34,10 +34,12 @@ public final class MouseSwt implements Mouse
     /** Right click. */
     public static final int RIGHT = 3;
 
+    /** Queued events. */
+    private final InputQueueSwt events = new InputQueueSwt(InputQueueSwt.DEFAULT_CAPACITY);
     /** Move click. */
-    private final MouseClickSwt clicker = new MouseClickSwt();
+    private final MouseClickSwt clicker = new MouseClickSwt(events);
     /** Mouse move. */
-    private final MouseMoveSwt mover = new MouseMoveSwt();
+    private final MouseMoveSwt mover = new MouseMoveSwt(events);
     /** Screen horizontal ratio. */
     private double xRatio;
     /** Screen vertical ratio. */
@@ -67,6 +69,17 @@ public final class MouseSwt implements Mouse
         yRatio = output.getHeight() / (double) source.getHeight();
     }
 
+    /**
+     * Get the queued click and move events. The screen takes their snapshot once per frame, before the update loop
+     * reads them with {@link InputQueueSwt#readFrame(InputQueueSwt.Listener)}.
+     * 
+     * @return The queued events.
+     */
+    public InputQueueSwt getEvents()
+    {
+        return events;
+    }
+
     /**
      * Get the click handler.
      * 
@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Streaming PNG encoder, writing 8 bits RGB or RGBA lines one by one.
+ * <p>
+ * Lines are filtered with the sub filter and deflated on the fly, so only the pending compressed data is kept in
+ * memory. In parallel mode, lines are grouped in blocks deflated independently on the common fork join pool, and
+ * written in order once done, with a bounded number of blocks in flight.
+ * </p>
+ */
+final class PngWriterSwt
+{
+    /** Default deflate level. */
+    static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+    /** Lines error. */
+    static final String ERROR_LINES = "Invalid number of lines: ";
+    /** PNG signature. */
+    private static final byte[] SIGNATURE =
+    {
+        (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    /** Header chunk type. */
+    private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+    /** Data chunk type. */
+    private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+    /** End chunk type. */
+    private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+    /** Header chunk length. */
+    private static final int IHDR_LENGTH = 13;
+    /** Zlib header (deflate, 32K window, default level). */
+    private static final int ZLIB_HEADER = 0x789C;
+    /** Data chunk size. */
+    private static final int CHUNK_SIZE = 1 << 16;
+    /** Uncompressed block size in parallel mode. */
+    private static final int BLOCK_SIZE = 1 << 17;
+    /** Bits per channel. */
+    private static final int BIT_DEPTH = 8;
+    /** RGB color type. */
+    private static final int COLOR_RGB = 2;
+    /** RGBA color type. */
+    private static final int COLOR_RGBA = 6;
+    /** Sub filter type. */
+    private static final byte FILTER_SUB = 1;
+    /** Byte mask. */
+    private static final int BYTE_MASK = 0xFF;
+    /** Alpha shift in an ARGB value. */
+    private static final int SHIFT_ALPHA = 24;
+    /** Red shift in an ARGB value. */
+    private static final int SHIFT_RED = 16;
+    /** Green shift in an ARGB value. */
+    private static final int SHIFT_GREEN = 8;
+
+    /**
+     * Deflate a block independently, ending on a byte boundary if not last.
+     * 
+     * @param input The uncompressed block.
+     * @param level The deflate level.
+     * @param last <code>true</code> if last block, <code>false</code> else.
+     * @return The compressed block.
+     */
+    private static byte[] deflate(byte[] input, int level, boolean last)
+    {
+        final Deflater deflater = new Deflater(level, true);
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + BIT_DEPTH);
+        final byte[] buffer = new byte[CHUNK_SIZE];
+        deflater.setInput(input);
+        if (last)
+        {
+            deflater.finish();
+            while (!deflater.finished())
+            {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+        }
+        else
+        {
+            int count;
+            do
+            {
+                count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                compressed.write(buffer, 0, count);
+            }
+            while (count == buffer.length);
+        }
+        deflater.end();
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Write an integer as big endian.
+     * 
+     * @param output The output stream.
+     * @param value The value.
+     * @throws IOException If error on writing.
+     */
+    private static void writeInt(OutputStream output, int value) throws IOException
+    {
+        output.write(value >>> SHIFT_ALPHA);
+        output.write(value >>> SHIFT_RED & BYTE_MASK);
+        output.write(value >>> SHIFT_GREEN & BYTE_MASK);
+        output.write(value & BYTE_MASK);
+    }
+
+    /** Data chunk checksum. */
+    private final CRC32 crc = new CRC32();
+    /** Uncompressed data checksum. */
+    private final Adler32 adler = new Adler32();
+    /** Pending data chunk. */
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    /** Pending compressed blocks, in write order. */
+    private final Queue<ForkJoinTask<byte[]>> pending = new ArrayDeque<>();
+    /** Output stream. */
+    private final OutputStream output;
+    /** Image height. */
+    private final int height;
+    /** Alpha channel flag. */
+    private final boolean alpha;
+    /** Deflate level. */
+    private final int level;
+    /** Filtered line. */
+    private final byte[] line;
+    /** Sequential deflater, <code>null</code> if parallel. */
+    private final Deflater deflater;
+    /** Sequential deflate output, <code>null</code> if parallel. */
+    private final byte[] deflated;
+    /** Parallel block, <code>null</code> if sequential. */
+    private final ByteArrayOutputStream block;
+    /** Pending data chunk length. */
+    private int chunkLength;
+    /** Written lines. */
+    private int lines;
+
+    /**
+     * Create writer and write the PNG header.
+     * 
+     * @param output The output stream (must not be <code>null</code>).
+     * @param width The image width (strictly positive).
+     * @param height The image height (strictly positive).
+     * @param alpha <code>true</code> to write alpha channel, <code>false</code> else.
+     * @param level The deflate level, from {@link Deflater#DEFAULT_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.
+     * @param parallel <code>true</code> to deflate blocks in parallel, <code>false</code> else.
+     * @throws IOException If error on writing.
+     * @throws LionEngineException If invalid arguments.
+     */
+    PngWriterSwt(OutputStream output, int width, int height, boolean alpha, int level, boolean parallel)
+            throws IOException
+    {
+        super();
+
+        Check.superiorStrict(width, 0);
+        Check.superiorStrict(height, 0);
+        Check.superiorOrEqual(level, Deflater.DEFAULT_COMPRESSION);
+        Check.inferiorOrEqual(level, Deflater.BEST_COMPRESSION);
+
+        this.output = output;
+        this.height = height;
+        this.alpha = alpha;
+        this.level = level;
+
+        final int channels;
+        if (alpha)
+        {
+            channels = 4;
+        }
+        else
+        {
+            channels = 3;
+        }
+        line = new byte[1 + width * channels];
+        line[0] = FILTER_SUB;
+
+        if (parallel)
+        {
+            deflater = null;
+            deflated = null;
+            block = new ByteArrayOutputStream(BLOCK_SIZE + line.length);
+        }
+        else
+        {
+            deflater = new Deflater(level, true);
+            deflated = new byte[CHUNK_SIZE];
+            block = null;
+        }
+
+        output.write(SIGNATURE);
+        writeHeader(width, height);
+        writeData(ZLIB_HEADER >>> SHIFT_GREEN);
+        writeData(ZLIB_HEADER & BYTE_MASK);
+    }
+
+    /**
+     * Write the next line.
+     * 
+     * @param argb The line pixels, as ARGB values (must be of image width length).
+     * @throws IOException If error on writing.
+     * @throws LionEngineException If all lines already written.
+     */
+    void writeLine(int[] argb) throws IOException
+    {
+        if (lines == height)
+        {
+            throw new LionEngineException(ERROR_LINES + (lines + 1));
+        }
+
+        int index = 1;
+        int previous = 0;
+        for (final int pixel : argb)
+        {
+            line[index++] = (byte) ((pixel >>> SHIFT_RED) - (previous >>> SHIFT_RED));
+            line[index++] = (byte) ((pixel >>> SHIFT_GREEN) - (previous >>> SHIFT_GREEN));
+            line[index++] = (byte) (pixel - previous);
+            if (alpha)
+            {
+                line[index++] = (byte) ((pixel >>> SHIFT_ALPHA) - (previous >>> SHIFT_ALPHA));
+            }
+            previous = pixel;
+        }
+        adler.update(line);
+
+        if (block != null)
+        {
+            block.write(line);
+            if (block.size() >= BLOCK_SIZE)
+            {
+                submit(false);
+            }
+        }
+        else
+        {
+            deflater.setInput(line);
+            while (!deflater.needsInput())
+            {
+                writeData(deflated, 0, deflater.deflate(deflated));
+            }
+        }
+        lines++;
+    }
+
+    /**
+     * Flush remaining data and write the PNG end. Output stream is not closed.
+     * 
+     * @throws IOException If error on writing.
+     * @throws LionEngineException If not all lines written.
+     */
+    void finish() throws IOException
+    {
+        if (lines != height)
+        {
+            throw new LionEngineException(ERROR_LINES + lines);
+        }
+
+        if (block != null)
+        {
+            submit(true);
+        }
+        else
+        {
+            deflater.finish();
+            while (!deflater.finished())
+            {
+                writeData(deflated, 0, deflater.deflate(deflated));
+            }
+            deflater.end();
+        }
+
+        final int checksum = (int) adler.getValue();
+        writeData(checksum >>> SHIFT_ALPHA);
+        writeData(checksum >>> SHIFT_RED & BYTE_MASK);
+        writeData(checksum >>> SHIFT_GREEN & BYTE_MASK);
+        writeData(checksum & BYTE_MASK);
+        if (chunkLength > 0)
+        {
+            writeChunk(IDAT, chunk, chunkLength);
+            chunkLength = 0;
+        }
+        writeChunk(IEND, chunk, 0);
+        output.flush();
+    }
+
+    /**
+     * Deflate current block on the common pool, and write completed blocks once enough are in flight.
+     * 
+     * @param last <code>true</code> if last block, all blocks are written, <code>false</code> else.
+     * @throws IOException If error on writing.
+     */
+    private void submit(boolean last) throws IOException
+    {
+        final byte[] input = block.toByteArray();
+        block.reset();
+        pending.add(ForkJoinPool.commonPool().submit(() -> deflate(input, level, last)));
+
+        final int inFlight = ForkJoinPool.getCommonPoolParallelism() + 1;
+        while (!pending.isEmpty() && (last || pending.size() > inFlight))
+        {
+            final byte[] compressed = pending.poll().join();
+            writeData(compressed, 0, compressed.length);
+        }
+    }
+
+    /**
+     * Write the header chunk.
+     * 
+     * @param width The image width.
+     * @param height The image height.
+     * @throws IOException If error on writing.
+     */
+    private void writeHeader(int width, int height) throws IOException
+    {
+        final ByteArrayOutputStream header = new ByteArrayOutputStream(IHDR_LENGTH);
+        writeInt(header, width);
+        writeInt(header, height);
+        header.write(BIT_DEPTH);
+        if (alpha)
+        {
+            header.write(COLOR_RGBA);
+        }
+        else
+        {
+            header.write(COLOR_RGB);
+        }
+        header.write(0);
+        header.write(0);
+        header.write(0);
+        writeChunk(IHDR, header.toByteArray(), IHDR_LENGTH);
+    }
+
+    /**
+     * Append a byte to the data chunks.
+     * 
+     * @param value The byte value.
+     * @throws IOException If error on writing.
+     */
+    private void writeData(int value) throws IOException
+    {
+        chunk[chunkLength++] = (byte) value;
+        if (chunkLength == CHUNK_SIZE)
+        {
+            writeChunk(IDAT, chunk, chunkLength);
+            chunkLength = 0;
+        }
+    }
+
+    /**
+     * Append bytes to the data chunks.
+     * 
+     * @param data The bytes.
+     * @param offset The first byte offset.
+     * @param length The number of bytes.
+     * @throws IOException If error on writing.
+     */
+    private void writeData(byte[] data, int offset, int length) throws IOException
+    {
+        int written = 0;
+        while (written < length)
+        {
+            final int count = Math.min(length - written, CHUNK_SIZE - chunkLength);
+            System.arraycopy(data, offset + written, chunk, chunkLength, count);
+            chunkLength += count;
+            written += count;
+            if (chunkLength == CHUNK_SIZE)
+            {
+                writeChunk(IDAT, chunk, chunkLength);
+                chunkLength = 0;
+            }
+        }
+    }
+
+    /**
+     * Write a chunk.
+     * 
+     * @param type The chunk type.
+     * @param data The chunk data.
+     * @param length The chunk data length.
+     * @throws IOException If error on writing.
+     */
+    private void writeChunk(byte[] type, byte[] data, int length) throws IOException
+    {
+        crc.reset();
+        crc.update(type);
+        crc.update(data, 0, length);
+
+        writeInt(output, length);
+        output.write(type);
+        output.write(data, 0, length);
+        writeInt(output, (int) crc.getValue());
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Palette raster generation on {@link ImageData}.
+ * <p>
+ * A raster replaces each reference color found in the image by the color at the same index of its palette row.
+ * Only distinct changed colors of each row are remapped, identical rows share the same remap, and identical rasters
+ * share the same data instance. Rasters are built in parallel on the common fork join pool.
+ * </p>
+ */
+final class RasterSwt
+{
+    /** No remap row index. */
+    private static final int NONE = -1;
+
+    /**
+     * Get the RGB colors of each palette line.
+     * 
+     * @param palette The palette data.
+     * @return The colors, by line then column.
+     */
+    static int[][] getRows(ImageData palette)
+    {
+        final ImageData direct = ImageDataSwt.toDirect(palette);
+        final int[][] rows = new int[direct.height][direct.width];
+        for (int y = 0; y < direct.height; y++)
+        {
+            final int[] row = rows[y];
+            ImageDataSwt.getLine(direct, y, row);
+            for (int x = 0; x < row.length; x++)
+            {
+                row[x] = ImageDataSwt.getRgb(direct.palette, row[x]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Create one raster per row. Raster of index <code>r</code> uses the row <code>r</code> on all its lines if no
+     * period, else its lines cycle on all rows every period, starting from row <code>r</code>.
+     * 
+     * @param image The source data.
+     * @param reference The reference colors, replaced by the row color at same index.
+     * @param rows The rows colors.
+     * @param period The number of lines to cycle on all rows, <code>0</code> for none.
+     * @return The rasters, transparent pixel and alpha are kept.
+     */
+    static ImageData[] create(ImageData image, int[] reference, int[][] rows, int period)
+    {
+        final ImageData source = ImageDataSwt.toDirect(image);
+        final Remap[] remaps = new Remap[rows.length];
+        final int[] canonical = getCanonical(source.palette, reference, rows, remaps);
+
+        final int[][] lines = new int[rows.length][];
+        final int[] shared = new int[rows.length];
+        final Map<IntBuffer, Integer> first = new HashMap<>();
+        for (int r = 0; r < rows.length; r++)
+        {
+            lines[r] = getLines(canonical, r, period);
+            final Integer index = Integer.valueOf(r);
+            shared[r] = first.computeIfAbsent(IntBuffer.wrap(lines[r]), key -> index).intValue();
+        }
+
+        final ImageData[] rasters = new ImageData[rows.length];
+        IntStream.range(0, rows.length)
+                 .filter(r -> shared[r] == r)
+                 .parallel()
+                 .forEach(r -> rasters[r] = remap(source, remaps, lines[r]));
+        for (int r = 0; r < rows.length; r++)
+        {
+            rasters[r] = rasters[shared[r]];
+        }
+        return rasters;
+    }
+
+    /**
+     * Get the first row index with same colors for each row, and create the remap of these first rows.
+     * 
+     * @param palette The source palette.
+     * @param reference The reference colors.
+     * @param rows The rows colors.
+     * @param remaps The remaps output, by first row index.
+     * @return The first row index for each row, {@link #NONE} for rows without any changed color.
+     */
+    private static int[] getCanonical(PaletteData palette, int[] reference, int[][] rows, Remap[] remaps)
+    {
+        final int[] canonical = new int[rows.length];
+        final Map<IntBuffer, Integer> first = new HashMap<>();
+        for (int i = 0; i < rows.length; i++)
+        {
+            final Integer index = Integer.valueOf(i);
+            canonical[i] = first.computeIfAbsent(IntBuffer.wrap(rows[i]), key -> index).intValue();
+            if (canonical[i] == i)
+            {
+                final Remap remap = new Remap(palette, reference, rows[i]);
+                if (remap.isEmpty())
+                {
+                    first.put(IntBuffer.wrap(rows[i]), Integer.valueOf(NONE));
+                    canonical[i] = NONE;
+                }
+                else
+                {
+                    remaps[i] = remap;
+                }
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * Get the remap row of each raster line, lines cycling on period.
+     * 
+     * @param canonical The first row index for each row.
+     * @param raster The raster index.
+     * @param period The number of lines to cycle on all rows, <code>0</code> for none.
+     * @return The remap row index by line modulo array length.
+     */
+    private static int[] getLines(int[] canonical, int raster, int period)
+    {
+        final int[] lines = new int[Math.max(1, period)];
+        for (int y = 0; y < lines.length; y++)
+        {
+            lines[y] = canonical[(raster + y * canonical.length / lines.length) % canonical.length];
+        }
+        return lines;
+    }
+
+    /**
+     * Create a raster by remapping source lines.
+     * 
+     * @param source The direct source data.
+     * @param remaps The remaps by row index.
+     * @param lines The remap row index by line modulo array length.
+     * @return The raster data.
+     */
+    private static ImageData remap(ImageData source, Remap[] remaps, int[] lines)
+    {
+        final ImageData raster = (ImageData) source.clone();
+        final int transparent = source.transparentPixel;
+        final int[] line = new int[source.width];
+        for (int y = 0; y < source.height; y++)
+        {
+            final int row = lines[y % lines.length];
+            if (row != NONE)
+            {
+                final Remap remap = remaps[row];
+                ImageDataSwt.getLine(source, y, line);
+
+                int lastSource = line[0];
+                int lastRaster = remap.apply(lastSource);
+                for (int x = 0; x < line.length; x++)
+                {
+                    final int pixel = line[x];
+                    if (pixel != transparent)
+                    {
+                        if (pixel != lastSource)
+                        {
+                            lastSource = pixel;
+                            lastRaster = remap.apply(pixel);
+                        }
+                        line[x] = lastRaster;
+                    }
+                }
+                ImageDataSwt.setLine(raster, y, line);
+            }
+        }
+        return raster;
+    }
+
+    /**
+     * Private constructor.
+     */
+    private RasterSwt()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+
+    /**
+     * Distinct changed colors of a row, as sorted source pixels and their replacement pixels.
+     */
+    private static final class Remap
+    {
+        /** Source pixels, sorted. */
+        private final int[] keys;
+        /** Replacement pixels, by key index. */
+        private final int[] values;
+
+        /**
+         * Create remap.
+         * 
+         * @param palette The source palette.
+         * @param reference The reference colors.
+         * @param row The row colors.
+         */
+        Remap(PaletteData palette, int[] reference, int[] row)
+        {
+            final Map<Integer, Integer> changed = new TreeMap<>();
+            final int count = Math.min(reference.length, row.length);
+            for (int i = 0; i < count; i++)
+            {
+                if (reference[i] != row[i])
+                {
+                    changed.putIfAbsent(Integer.valueOf(ImageDataSwt.getPixel(palette, reference[i])),
+                                        Integer.valueOf(ImageDataSwt.getPixel(palette, row[i])));
+                }
+            }
+
+            keys = new int[changed.size()];
+            values = new int[changed.size()];
+            int index = 0;
+            for (final Map.Entry<Integer, Integer> entry : changed.entrySet())
+            {
+                keys[index] = entry.getKey().intValue();
+                values[index] = entry.getValue().intValue();
+                index++;
+            }
+        }
+
+        /**
+         * Check if remap has no changed color.
+         * 
+         * @return <code>true</code> if no changed color, <code>false</code> else.
+         */
+        boolean isEmpty()
+        {
+            return keys.length == 0;
+        }
+
+        /**
+         * Get the replacement pixel.
+         * 
+         * @param pixel The source pixel.
+         * @return The replacement pixel, source pixel if not changed.
+         */
+        int apply(int pixel)
+        {
+            final int index = Arrays.binarySearch(keys, pixel);
+            if (index < 0)
+            {
+                return pixel;
+            }
+            return values[index];
+        }
+    }
+}
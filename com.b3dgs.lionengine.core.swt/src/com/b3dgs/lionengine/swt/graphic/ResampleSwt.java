@@ -0,0 +1,641 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+import com.b3dgs.lionengine.LionEngineException;
+
+/**
+ * Resize and rotation of image data, without any native image.
+ * <p>
+ * Pixels are read once as ARGB values in a primitive buffer, then output lines are computed by bands on the common
+ * fork join pool. Interpolated colors are weighted by their alpha, so transparent pixels do not bleed on edges.
+ * Nearest resize works on raw pixels and keeps the source palette.
+ * </p>
+ */
+final class ResampleSwt
+{
+    /** Maximum number of lines computed by a single band task. */
+    private static final int BAND_LINES = 32;
+    /** Interpolation weight of a full pixel, fixed point. */
+    private static final int WEIGHT = 256;
+    /** Tolerance of sampling coordinates snapped to pixel, and of rotated bounds. */
+    private static final double EPSILON = 1E-6;
+    /** Output depth. */
+    private static final int DEPTH = 24;
+    /** Byte mask. */
+    private static final int BYTE_MASK = 0xFF;
+    /** Color mask of an ARGB value. */
+    private static final int RGB_MASK = 0xFFFFFF;
+    /** Alpha shift in an ARGB value. */
+    private static final int SHIFT_ALPHA = 24;
+    /** Red shift in an ARGB value. */
+    private static final int SHIFT_RED = 16;
+    /** Green shift in an ARGB value. */
+    private static final int SHIFT_GREEN = 8;
+    /** Full turn in degree. */
+    private static final int TURN = 360;
+
+    /**
+     * Resize data.
+     * 
+     * @param source The source data.
+     * @param width The new width (strictly positive).
+     * @param height The new height (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The resized data.
+     */
+    static ImageData resize(ImageData source, int width, int height, Resampling resampling)
+    {
+        if (Resampling.NEAREST == resampling)
+        {
+            return resizeNearest(source, width, height);
+        }
+
+        final int[] argb = getArgb(source);
+        final int[] resized = new int[width * height];
+        if (Resampling.BOX == resampling)
+        {
+            invoke((start, end) -> resizeBox(argb, source.width, source.height, resized, width, height, start, end),
+                   height);
+        }
+        else
+        {
+            invoke((start, end) -> resizeBilinear(argb,
+                                                  source.width,
+                                                  source.height,
+                                                  resized,
+                                                  width,
+                                                  height,
+                                                  start,
+                                                  end),
+                   height);
+        }
+        return toData(resized, width, height, ImageDataSwt.hasAlpha(source));
+    }
+
+    /**
+     * Rotate data around its center. Output is sized to the rotated bounds, uncovered pixels are transparent.
+     * 
+     * @param source The source data.
+     * @param angle The angle in degree, clockwise.
+     * @param resampling The resampling filter.
+     * @return The rotated data.
+     */
+    static ImageData rotate(ImageData source, double angle, Resampling resampling)
+    {
+        final double radians = Math.toRadians(angle);
+        final int width = getBound(source.width, source.height, radians, true);
+        final int height = getBound(source.width, source.height, radians, false);
+        final int[] argb = getArgb(source);
+        return toData(rotate(argb, source.width, source.height, radians, width, height, resampling),
+                      width,
+                      height,
+                      true);
+    }
+
+    /**
+     * Rotate data in all directions, in one pass. Source is read once, frames share the same size, which is the largest
+     * rotated bounds, and are centered on it.
+     * 
+     * @param source The source data.
+     * @param directions The number of directions on a full turn, first one is not rotated (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The rotated data, clockwise, one per direction.
+     */
+    static ImageData[] rotateAll(ImageData source, int directions, Resampling resampling)
+    {
+        int width = 0;
+        int height = 0;
+        for (int i = 0; i < directions; i++)
+        {
+            final double radians = Math.toRadians(i * (double) TURN / directions);
+            width = Math.max(width, getBound(source.width, source.height, radians, true));
+            height = Math.max(height, getBound(source.width, source.height, radians, false));
+        }
+
+        final int[] argb = getArgb(source);
+        final ImageData[] frames = new ImageData[directions];
+        for (int i = 0; i < directions; i++)
+        {
+            final double radians = Math.toRadians(i * (double) TURN / directions);
+            frames[i] = toData(rotate(argb, source.width, source.height, radians, width, height, resampling),
+                               width,
+                               height,
+                               true);
+        }
+        return frames;
+    }
+
+    /**
+     * Get the rotated bounds size.
+     * 
+     * @param width The source width.
+     * @param height The source height.
+     * @param radians The angle in radian.
+     * @param horizontal <code>true</code> for bounds width, <code>false</code> for bounds height.
+     * @return The bounds size.
+     */
+    private static int getBound(int width, int height, double radians, boolean horizontal)
+    {
+        final double cos = Math.abs(Math.cos(radians));
+        final double sin = Math.abs(Math.sin(radians));
+        final double bound;
+        if (horizontal)
+        {
+            bound = width * cos + height * sin;
+        }
+        else
+        {
+            bound = width * sin + height * cos;
+        }
+        return Math.max(1, (int) Math.ceil(bound - EPSILON));
+    }
+
+    /**
+     * Read data as ARGB values.
+     * 
+     * @param data The data.
+     * @return The ARGB values, line by line.
+     */
+    private static int[] getArgb(ImageData data)
+    {
+        final int[] argb = new int[data.width * data.height];
+        invoke((start, end) ->
+        {
+            final int[] line = new int[data.width];
+            for (int y = start; y < end; y++)
+            {
+                ImageDataSwt.getArgb(data, y, line);
+                System.arraycopy(line, 0, argb, y * data.width, data.width);
+            }
+        }, data.height);
+        return argb;
+    }
+
+    /**
+     * Create data from ARGB values.
+     * 
+     * @param argb The ARGB values, line by line.
+     * @param width The data width.
+     * @param height The data height.
+     * @param alpha <code>true</code> to store alpha, <code>false</code> for opaque data.
+     * @return The created data.
+     */
+    private static ImageData toData(int[] argb, int width, int height, boolean alpha)
+    {
+        final ImageData data = new ImageData(width, height, DEPTH, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+        if (alpha)
+        {
+            data.alphaData = new byte[width * height];
+        }
+        invoke((start, end) ->
+        {
+            final int[] line = new int[width];
+            for (int y = start; y < end; y++)
+            {
+                final int offset = y * width;
+                for (int x = 0; x < width; x++)
+                {
+                    final int pixel = argb[offset + x];
+                    line[x] = pixel & RGB_MASK;
+                    if (alpha)
+                    {
+                        data.alphaData[offset + x] = (byte) (pixel >>> SHIFT_ALPHA);
+                    }
+                }
+                ImageDataSwt.setLine(data, y, line);
+            }
+        }, height);
+        return data;
+    }
+
+    /**
+     * Resize raw pixels to closest ones, keeping palette, transparent pixel and alpha.
+     * 
+     * @param source The source data.
+     * @param width The new width.
+     * @param height The new height.
+     * @return The resized data.
+     */
+    private static ImageData resizeNearest(ImageData source, int width, int height)
+    {
+        final ImageData data = new ImageData(width, height, source.depth, source.palette);
+        data.transparentPixel = source.transparentPixel;
+        if (source.alphaData != null)
+        {
+            data.alphaData = new byte[width * height];
+        }
+
+        final int[] columns = new int[width];
+        for (int x = 0; x < width; x++)
+        {
+            columns[x] = (int) ((long) x * source.width / width);
+        }
+        invoke((start, end) ->
+        {
+            final int[] sourceLine = new int[source.width];
+            final int[] line = new int[width];
+            for (int y = start; y < end; y++)
+            {
+                final int sy = (int) ((long) y * source.height / height);
+                ImageDataSwt.getLine(source, sy, sourceLine);
+                for (int x = 0; x < width; x++)
+                {
+                    line[x] = sourceLine[columns[x]];
+                }
+                ImageDataSwt.setLine(data, y, line);
+                if (data.alphaData != null)
+                {
+                    for (int x = 0; x < width; x++)
+                    {
+                        data.alphaData[y * width + x] = source.alphaData[sy * source.width + columns[x]];
+                    }
+                }
+            }
+        }, height);
+        return data;
+    }
+
+    /**
+     * Resize lines with bilinear interpolation, pixels centers are aligned.
+     * 
+     * @param source The source ARGB values.
+     * @param sourceWidth The source width.
+     * @param sourceHeight The source height.
+     * @param output The output ARGB values.
+     * @param width The output width.
+     * @param height The output height.
+     * @param start The first line (included).
+     * @param end The last line (excluded).
+     */
+    // CHECKSTYLE IGNORE LINE: ParameterNumber
+    private static void resizeBilinear(int[] source,
+                                       int sourceWidth,
+                                       int sourceHeight,
+                                       int[] output,
+                                       int width,
+                                       int height,
+                                       int start,
+                                       int end)
+    {
+        final Accumulator accumulator = new Accumulator();
+        final double scaleX = sourceWidth / (double) width;
+        final double scaleY = sourceHeight / (double) height;
+        for (int y = start; y < end; y++)
+        {
+            final double fy = snap((y + 0.5) * scaleY - 0.5);
+            final int y0 = (int) Math.floor(fy);
+            final int wy = (int) ((fy - y0) * WEIGHT);
+            final int line0 = clamp(y0, sourceHeight) * sourceWidth;
+            final int line1 = clamp(y0 + 1, sourceHeight) * sourceWidth;
+            for (int x = 0; x < width; x++)
+            {
+                final double fx = snap((x + 0.5) * scaleX - 0.5);
+                final int x0 = (int) Math.floor(fx);
+                final int wx = (int) ((fx - x0) * WEIGHT);
+                final int c0 = clamp(x0, sourceWidth);
+                final int c1 = clamp(x0 + 1, sourceWidth);
+
+                accumulator.reset();
+                accumulator.add(source[line0 + c0], (WEIGHT - wx) * (WEIGHT - wy));
+                accumulator.add(source[line0 + c1], wx * (WEIGHT - wy));
+                accumulator.add(source[line1 + c0], (WEIGHT - wx) * wy);
+                accumulator.add(source[line1 + c1], wx * wy);
+                output[y * width + x] = accumulator.get();
+            }
+        }
+    }
+
+    /**
+     * Resize lines with the average of covered pixels, at least one pixel is covered.
+     * 
+     * @param source The source ARGB values.
+     * @param sourceWidth The source width.
+     * @param sourceHeight The source height.
+     * @param output The output ARGB values.
+     * @param width The output width.
+     * @param height The output height.
+     * @param start The first line (included).
+     * @param end The last line (excluded).
+     */
+    // CHECKSTYLE IGNORE LINE: ParameterNumber
+    private static void resizeBox(int[] source,
+                                  int sourceWidth,
+                                  int sourceHeight,
+                                  int[] output,
+                                  int width,
+                                  int height,
+                                  int start,
+                                  int end)
+    {
+        final Accumulator accumulator = new Accumulator();
+        for (int y = start; y < end; y++)
+        {
+            final int y0 = (int) ((long) y * sourceHeight / height);
+            final int y1 = Math.max(y0 + 1, (int) ((long) (y + 1) * sourceHeight / height));
+            for (int x = 0; x < width; x++)
+            {
+                final int x0 = (int) ((long) x * sourceWidth / width);
+                final int x1 = Math.max(x0 + 1, (int) ((long) (x + 1) * sourceWidth / width));
+
+                accumulator.reset();
+                for (int sy = y0; sy < y1; sy++)
+                {
+                    for (int sx = x0; sx < x1; sx++)
+                    {
+                        accumulator.add(source[sy * sourceWidth + sx], 1);
+                    }
+                }
+                output[y * width + x] = accumulator.get();
+            }
+        }
+    }
+
+    /**
+     * Rotate ARGB values around their center, into centered bounds.
+     * 
+     * @param source The source ARGB values.
+     * @param sourceWidth The source width.
+     * @param sourceHeight The source height.
+     * @param radians The angle in radian, clockwise.
+     * @param width The bounds width.
+     * @param height The bounds height.
+     * @param resampling The resampling filter.
+     * @return The rotated ARGB values.
+     */
+    // CHECKSTYLE IGNORE LINE: ParameterNumber
+    private static int[] rotate(int[] source,
+                                int sourceWidth,
+                                int sourceHeight,
+                                double radians,
+                                int width,
+                                int height,
+                                Resampling resampling)
+    {
+        final int[] output = new int[width * height];
+        final double cos = Math.cos(radians);
+        final double sin = Math.sin(radians);
+        final double sourceX = sourceWidth / 2.0 - 0.5;
+        final double sourceY = sourceHeight / 2.0 - 0.5;
+        invoke((start, end) ->
+        {
+            final Accumulator accumulator = new Accumulator();
+            for (int y = start; y < end; y++)
+            {
+                final double cy = y + 0.5 - height / 2.0;
+                for (int x = 0; x < width; x++)
+                {
+                    final double cx = x + 0.5 - width / 2.0;
+                    final double fx = snap(cos * cx + sin * cy + sourceX);
+                    final double fy = snap(-sin * cx + cos * cy + sourceY);
+                    if (Resampling.NEAREST == resampling)
+                    {
+                        output[y * width + x] = get(source,
+                                                    sourceWidth,
+                                                    sourceHeight,
+                                                    (int) Math.floor(fx + 0.5),
+                                                    (int) Math.floor(fy + 0.5));
+                    }
+                    else
+                    {
+                        final int x0 = (int) Math.floor(fx);
+                        final int y0 = (int) Math.floor(fy);
+                        final int wx = (int) ((fx - x0) * WEIGHT);
+                        final int wy = (int) ((fy - y0) * WEIGHT);
+
+                        accumulator.reset();
+                        accumulator.add(get(source, sourceWidth, sourceHeight, x0, y0), (WEIGHT - wx) * (WEIGHT - wy));
+                        accumulator.add(get(source, sourceWidth, sourceHeight, x0 + 1, y0), wx * (WEIGHT - wy));
+                        accumulator.add(get(source, sourceWidth, sourceHeight, x0, y0 + 1), (WEIGHT - wx) * wy);
+                        accumulator.add(get(source, sourceWidth, sourceHeight, x0 + 1, y0 + 1), wx * wy);
+                        output[y * width + x] = accumulator.get();
+                    }
+                }
+            }
+        }, height);
+        return output;
+    }
+
+    /**
+     * Get the ARGB value, transparent outside source.
+     * 
+     * @param source The source ARGB values.
+     * @param width The source width.
+     * @param height The source height.
+     * @param x The horizontal location.
+     * @param y The vertical location.
+     * @return The ARGB value.
+     */
+    private static int get(int[] source, int width, int height, int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+        {
+            return 0;
+        }
+        return source[y * width + x];
+    }
+
+    /**
+     * Snap coordinate to closest pixel if close enough, so quarter turns and identity are exact.
+     * 
+     * @param value The coordinate.
+     * @return The snapped coordinate.
+     */
+    private static double snap(double value)
+    {
+        final double rounded = Math.rint(value);
+        if (Math.abs(value - rounded) < EPSILON)
+        {
+            return rounded;
+        }
+        return value;
+    }
+
+    /**
+     * Clamp index in range.
+     * 
+     * @param value The index.
+     * @param length The range length.
+     * @return The clamped index in <code>[0 - length[</code>.
+     */
+    private static int clamp(int value, int length)
+    {
+        return Math.max(0, Math.min(length - 1, value));
+    }
+
+    /**
+     * Compute lines by bands on the common pool.
+     * 
+     * @param band The band computation.
+     * @param lines The number of lines.
+     */
+    private static void invoke(Band band, int lines)
+    {
+        ForkJoinPool.commonPool().invoke(new BandTask(band, 0, lines));
+    }
+
+    /**
+     * Private constructor.
+     */
+    private ResampleSwt()
+    {
+        throw new LionEngineException(LionEngineException.ERROR_PRIVATE_CONSTRUCTOR);
+    }
+
+    /**
+     * Computation of a band of lines.
+     */
+    @FunctionalInterface
+    private interface Band
+    {
+        /**
+         * Compute lines.
+         * 
+         * @param start The first line (included).
+         * @param end The last line (excluded).
+         */
+        void compute(int start, int end);
+    }
+
+    /**
+     * Sum of weighted ARGB values, colors weighted by their alpha.
+     */
+    private static final class Accumulator
+    {
+        /** Weighted alpha sum. */
+        private long alpha;
+        /** Weighted red sum. */
+        private long red;
+        /** Weighted green sum. */
+        private long green;
+        /** Weighted blue sum. */
+        private long blue;
+        /** Weights sum. */
+        private long weight;
+
+        /**
+         * Create accumulator.
+         */
+        Accumulator()
+        {
+            super();
+        }
+
+        /**
+         * Reset sums.
+         */
+        void reset()
+        {
+            alpha = 0L;
+            red = 0L;
+            green = 0L;
+            blue = 0L;
+            weight = 0L;
+        }
+
+        /**
+         * Add a weighted value.
+         * 
+         * @param argb The ARGB value.
+         * @param factor The value weight.
+         */
+        void add(int argb, int factor)
+        {
+            final long weighted = (long) (argb >>> SHIFT_ALPHA) * factor;
+            alpha += weighted;
+            red += (argb >> SHIFT_RED & BYTE_MASK) * weighted;
+            green += (argb >> SHIFT_GREEN & BYTE_MASK) * weighted;
+            blue += (argb & BYTE_MASK) * weighted;
+            weight += factor;
+        }
+
+        /**
+         * Get the average value.
+         * 
+         * @return The average ARGB value, <code>0</code> if fully transparent.
+         */
+        int get()
+        {
+            if (alpha == 0L || weight == 0L)
+            {
+                return 0;
+            }
+            final long half = alpha / 2L;
+            final int a = (int) ((alpha + weight / 2L) / weight);
+            final int r = (int) ((red + half) / alpha);
+            final int g = (int) ((green + half) / alpha);
+            final int b = (int) ((blue + half) / alpha);
+            return a << SHIFT_ALPHA | r << SHIFT_RED | g << SHIFT_GREEN | b;
+        }
+    }
+
+    /**
+     * Compute a range of lines, forked in halves until range is small enough.
+     */
+    private static final class BandTask extends RecursiveAction
+    {
+        /** Serial UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Band computation. */
+        private final transient Band band;
+        /** First line (included). */
+        private final int start;
+        /** Last line (excluded). */
+        private final int end;
+
+        /**
+         * Create task.
+         * 
+         * @param band The band computation.
+         * @param start The first line (included).
+         * @param end The last line (excluded).
+         */
+        BandTask(Band band, int start, int end)
+        {
+            super();
+
+            this.band = band;
+            this.start = start;
+            this.end = end;
+        }
+
+        /*
+         * RecursiveAction
+         */
+
+        @Override
+        protected void compute()
+        {
+            if (end - start > BAND_LINES)
+            {
+                final int middle = start + (end - start) / 2;
+                invokeAll(new BandTask(band, start, middle), new BandTask(band, middle, end));
+            }
+            else
+            {
+                band.compute(start, end);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.swt.graphic;
+
+/**
+ * Resampling filter of image data resize and rotation, see {@link ToolsSwt}.
+ */
+public enum Resampling
+{
+    /** Closest pixel, colors and palette are kept as is. */
+    NEAREST,
+    /** Interpolation of the four closest pixels, weighted by their alpha. */
+    BILINEAR,
+    /** Average of the covered pixels, suited to downscale. Rotation interpolates as {@link #BILINEAR}. */
+    BOX;
+}
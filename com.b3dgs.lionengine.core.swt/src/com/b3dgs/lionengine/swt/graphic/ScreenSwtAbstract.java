@@ -27,6 +27,7 @@ import org.eclipse.swt.events.FocusListener;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
@@ -45,6 +46,8 @@ import com.b3dgs.lionengine.graphic.ScreenListener;
 import com.b3dgs.lionengine.io.InputDeviceDirectional;
 import com.b3dgs.lionengine.io.InputDevicePointer;
 import com.b3dgs.lionengine.swt.Keyboard;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
 import com.b3dgs.lionengine.swt.Mouse;
 
 /**
@@ -57,6 +60,8 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
 {
     /** Max ready time in millisecond. */
     private static final long READY_TIMEOUT = 5000L;
+    /** Opaque alpha value. */
+    private static final int ALPHA_OPAQUE = 255;
 
     /**
      * Get screen title.
@@ -93,8 +98,14 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
     protected Canvas canvas;
     /** Graphic buffer reference. */
     private Graphic gbuf;
-    /** Last GC used. */
+    /** Frame statistics. */
+    private final FrameStatsSwt stats = new FrameStatsSwt();
+    /** Buffer GC, kept between frames. */
     private GC lastGc;
+    /** Canvas GC, kept between frames. */
+    private GC canvasGc;
+    /** Buffer of the current graphic. */
+    private ImageBufferSwt graphicBuffer;
     /** Width. */
     private int width;
     /** Height. */
@@ -199,6 +210,60 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
         canvas.forceFocus();
     }
 
+    /**
+     * Create the buffer graphic and the canvas GC, disposing previous ones.
+     */
+    private void prepareGraphic()
+    {
+        disposeGraphic();
+        gbuf = buffer.createGraphic();
+        lastGc = (GC) gbuf.getGraphic();
+        canvasGc = new GC(canvas);
+        Metrics.increment(Metric.HANDLE_ALLOCATED);
+        graphicBuffer = buffer;
+        graphics.setGraphic(lastGc);
+    }
+
+    /**
+     * Reset the buffer GC state which may have been changed during the frame.
+     */
+    private void resetGraphic()
+    {
+        lastGc.setAlpha(ALPHA_OPAQUE);
+        lastGc.setClipping((Rectangle) null);
+        lastGc.setTransform(null);
+    }
+
+    /**
+     * Dispose the buffer and canvas GC.
+     */
+    private void disposeGraphic()
+    {
+        if (lastGc != null)
+        {
+            lastGc.dispose();
+            lastGc = null;
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+        if (canvasGc != null)
+        {
+            canvasGc.dispose();
+            canvasGc = null;
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+        graphicBuffer = null;
+    }
+
+    /**
+     * Get the frame statistics, updated on each {@link #update()}.
+     * 
+     * @return The frame statistics.
+     */
+    public FrameStatsSwt getFrameStats()
+    {
+        return stats;
+    }
+
     /**
      * Called when screen is disposed.
      */
@@ -238,9 +303,7 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
 
         buf.setVisible(true);
         buf.update();
-        gbuf = buffer.createGraphic();
-        lastGc = (GC) gbuf.getGraphic();
-        graphics.setGraphic(lastGc);
+        prepareGraphic();
         frame.update();
         frame.setEnabled(true);
         frame.setVisible(true);
@@ -249,7 +312,8 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
     @Override
     public void preUpdate()
     {
-        // Nothing to do
+        ((KeyboardSwt) getInputDevice(Keyboard.class)).getEvents().snapshot();
+        ((MouseSwt) getInputDevice(Mouse.class)).getEvents().snapshot();
     }
 
     @Override
@@ -258,14 +322,17 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
         if (!canvas.isDisposed())
         {
             display.readAndDispatch();
-
-            final GC gc = new GC(canvas);
-            gc.drawImage(buffer.getSurface(), 0, 0);
-            gc.dispose();
-            lastGc.dispose();
-            gbuf = buffer.createGraphic();
-            lastGc = (GC) gbuf.getGraphic();
-            graphics.setGraphic(lastGc);
+            if (buffer != graphicBuffer)
+            {
+                prepareGraphic();
+            }
+
+            final long start = System.nanoTime();
+            canvasGc.drawImage(buffer.getSurface(), 0, 0);
+            resetGraphic();
+            final long end = System.nanoTime();
+            stats.update(start, end);
+            Metrics.endFrame(end - start);
         }
     }
 
@@ -274,6 +341,7 @@ public abstract class ScreenSwtAbstract extends ScreenAbstract implements FocusL
     {
         graphics.clear(0, 0, width, height);
         update();
+        disposeGraphic();
         buf.dispose();
         frame.dispose();
         display.dispose();
@@ -16,6 +16,9 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Device;
@@ -29,12 +32,24 @@ import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.TextStyle;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
 
 /**
  * Text implementation.
+ * <p>
+ * Measured string extents are cached, and the native color is kept until text color changes. In atlas mode, strings
+ * made of printable ASCII glyphs are drawn from a {@link GlyphAtlasSwt}, suited to static labels drawn each frame.
+ * Font, atlas and native color are released by {@link #dispose()}.
+ * </p>
  */
 final class TextSwt implements Text
 {
+    /** Maximum number of cached extents. */
+    private static final int EXTENTS = 128;
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+
     /**
      * Get the style equivalence.
      * 
@@ -85,6 +100,23 @@ final class TextSwt implements Text
     private ColorRgba color;
     /** Changed flag. */
     private boolean txtChanged;
+    /** Cached extents by string, in access order. */
+    private final Map<String, Point> extents = new LinkedHashMap<String, Point>(EXTENTS, LOAD_FACTOR, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Point> eldest)
+        {
+            return size() > EXTENTS;
+        }
+    };
+    /** Atlas mode flag. */
+    private final boolean atlasMode;
+    /** Glyph atlas, <code>null</code> if not created. */
+    private GlyphAtlasSwt atlas;
+    /** Native color, <code>null</code> if not created. */
+    private Color nativeColor;
 
     /**
      * Internal constructor.
@@ -95,8 +127,23 @@ final class TextSwt implements Text
      * @param style The font style.
      */
     TextSwt(Device device, String fontName, int size, TextStyle style)
+    {
+        this(device, fontName, size, style, false);
+    }
+
+    /**
+     * Internal constructor.
+     * 
+     * @param device The device reference.
+     * @param fontName The font name.
+     * @param size The font size (in pixel).
+     * @param style The font style.
+     * @param atlasMode <code>true</code> to draw from a glyph atlas, <code>false</code> to draw native text.
+     */
+    TextSwt(Device device, String fontName, int size, TextStyle style, boolean atlasMode)
     {
         this.device = device;
+        this.atlasMode = atlasMode;
         this.size = size;
         final double scale = 1.5;
         font = new Font(device, fontName, (int) Math.round(size / scale), TextSwt.getStyle(style));
@@ -104,6 +151,111 @@ final class TextSwt implements Text
         color = ColorRgba.WHITE;
     }
 
+    /**
+     * Get the string extent with the text font, measure it if not cached.
+     * 
+     * @param gc The graphic context.
+     * @param text The string.
+     * @return The string extent.
+     */
+    private Point getExtent(GC gc, String text)
+    {
+        Point extent = extents.get(text);
+        if (extent == null)
+        {
+            setFont(gc);
+            extent = gc.stringExtent(text);
+            extents.put(text, extent);
+        }
+        return extent;
+    }
+
+    /**
+     * Set the text font if not already set.
+     * 
+     * @param gc The graphic context.
+     */
+    private void setFont(GC gc)
+    {
+        if (gc.getFont() != font)
+        {
+            gc.setFont(font);
+        }
+    }
+
+    /**
+     * Get the string width, from atlas or measured extent.
+     * 
+     * @param gc The graphic context.
+     * @param text The string.
+     * @param fromAtlas <code>true</code> if string is drawn from atlas, <code>false</code> else.
+     * @return The string width.
+     */
+    private int getStringWidth(GC gc, String text, boolean fromAtlas)
+    {
+        if (fromAtlas)
+        {
+            return atlas.getWidth(text);
+        }
+        return getExtent(gc, text).x;
+    }
+
+    /**
+     * Get the glyph atlas, create it if needed.
+     * 
+     * @return The glyph atlas.
+     */
+    private GlyphAtlasSwt getAtlas()
+    {
+        if (atlas == null)
+        {
+            atlas = new GlyphAtlasSwt(device, font, color);
+        }
+        return atlas;
+    }
+
+    /**
+     * Get the native color, create it if needed.
+     * 
+     * @return The native color.
+     */
+    private Color getNativeColor()
+    {
+        if (nativeColor == null)
+        {
+            nativeColor = new Color(device, color.getRed(), color.getGreen(), color.getBlue());
+            Metrics.increment(Metric.HANDLE_ALLOCATED);
+        }
+        return nativeColor;
+    }
+
+    /**
+     * Dispose the native color and the glyph atlas if created, both depending of the text color.
+     */
+    private void disposeColor()
+    {
+        if (nativeColor != null)
+        {
+            nativeColor.dispose();
+            nativeColor = null;
+            Metrics.increment(Metric.HANDLE_DISPOSED);
+        }
+        if (atlas != null)
+        {
+            atlas.dispose();
+            atlas = null;
+        }
+    }
+
+    /**
+     * Dispose the font, the glyph atlas and the native color. Text cannot be drawn anymore.
+     */
+    void dispose()
+    {
+        disposeColor();
+        font.dispose();
+    }
+
     /*
      * Text
      */
@@ -118,9 +270,7 @@ final class TextSwt implements Text
     public void draw(Graphic g, int x, int y, Align alignment, String text)
     {
         final GC gc = (GC) g.getGraphic();
-        gc.setTextAntialias(SWT.OFF);
-        gc.setFont(font);
-        final Point textSize = gc.stringExtent(text);
+        final boolean fromAtlas = atlasMode && getAtlas().supports(text);
         final int tx;
         final int ty;
 
@@ -131,12 +281,12 @@ final class TextSwt implements Text
         }
         else if (Align.CENTER == alignment)
         {
-            tx = x - textSize.x / 2;
+            tx = x - getStringWidth(gc, text, fromAtlas) / 2;
             ty = y;
         }
         else if (Align.RIGHT == alignment)
         {
-            tx = x - textSize.x;
+            tx = x - getStringWidth(gc, text, fromAtlas);
             ty = y;
         }
         else
@@ -144,10 +294,17 @@ final class TextSwt implements Text
             throw new LionEngineException(alignment);
         }
 
-        final Color c = new Color(device, color.getRed(), color.getGreen(), color.getBlue());
-        gc.setForeground(c);
-        gc.drawString(text, tx, ty, true);
-        c.dispose();
+        if (fromAtlas)
+        {
+            atlas.draw(gc, text, tx, ty);
+        }
+        else
+        {
+            gc.setTextAntialias(SWT.OFF);
+            setFont(gc);
+            gc.setForeground(getNativeColor());
+            gc.drawString(text, tx, ty, true);
+        }
     }
 
     @Override
@@ -185,6 +342,10 @@ final class TextSwt implements Text
     @Override
     public void setColor(ColorRgba color)
     {
+        if (!this.color.equals(color))
+        {
+            disposeColor();
+        }
         this.color = color;
     }
 
@@ -221,12 +382,16 @@ final class TextSwt implements Text
     @Override
     public int getStringWidth(Graphic g, String str)
     {
-        return ((GC) g.getGraphic()).stringExtent(str).x;
+        return getStringWidth((GC) g.getGraphic(), str, atlasMode && getAtlas().supports(str));
     }
 
     @Override
     public int getStringHeight(Graphic g, String str)
     {
-        return ((GC) g.getGraphic()).stringExtent(str).y;
+        if (atlasMode && getAtlas().supports(str))
+        {
+            return atlas.getHeight();
+        }
+        return getExtent((GC) g.getGraphic(), str).y;
     }
 }
@@ -16,6 +16,7 @@
  */
 package com.b3dgs.lionengine.swt.graphic;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
@@ -31,14 +32,14 @@ import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 
+import com.b3dgs.lionengine.Check;
 import com.b3dgs.lionengine.LionEngineException;
-import com.b3dgs.lionengine.geom.Rectangle;
 import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Text;
 import com.b3dgs.lionengine.graphic.Transparency;
 import com.b3dgs.lionengine.graphic.UtilColor;
 
@@ -103,8 +104,19 @@ public final class ToolsSwt
      */
     public static Image createImage(int width, int height, ColorRgba transparency)
     {
-        final Device device = getDisplay();
+        return new Image(getDisplay(), createImageData(width, height, transparency));
+    }
 
+    /**
+     * Create an image data filled with the transparent color, without any native image.
+     * 
+     * @param width The image width.
+     * @param height The image height.
+     * @param transparency The image transparency, <code>null</code> if none.
+     * @return The image data.
+     */
+    public static ImageData createImageData(int width, int height, ColorRgba transparency)
+    {
         final PaletteData palette = new PaletteData(0xff, 0xff00, 0xff0000);
         final ImageData data = new ImageData(width, height, 24, palette);
         final int transparent;
@@ -130,7 +142,7 @@ public final class ToolsSwt
             data.setPixels(0, y, pixels.length, pixels, 0);
         }
 
-        return new Image(device, data);
+        return data;
     }
 
     /**
@@ -226,19 +238,30 @@ public final class ToolsSwt
      */
     public static Image applyMask(Image image, int maskColor)
     {
-        final ImageData sourceData = image.getImageData();
-        final int width = sourceData.width;
-        final int height = sourceData.height;
+        return new Image(image.getDevice(), applyMask(image.getImageData(), maskColor));
+    }
 
-        final ImageData newData = new ImageData(width, height, sourceData.depth, sourceData.palette);
+    /**
+     * Apply color mask to a copy of the image data.
+     * 
+     * @param source The image data reference (not modified).
+     * @param maskColor The color mask.
+     * @return The masked image data.
+     */
+    public static ImageData applyMask(ImageData source, int maskColor)
+    {
+        final ImageData data = (ImageData) source.clone();
         final ColorRgba mask = new ColorRgba(maskColor);
-        newData.transparentPixel = newData.palette.getPixel(new RGB(mask.getRed(), mask.getGreen(), mask.getBlue()));
-
-        return new Image(image.getDevice(), newData);
+        ImageDataSwt.applyMask(data, data.palette.getPixel(new RGB(mask.getRed(), mask.getGreen(), mask.getBlue())));
+        return data;
     }
 
     /**
      * Split an image into an array of sub image.
+     * <p>
+     * Frames data are sliced from the source data in parallel, only the images are created on the calling thread.
+     * Images with an icon mask are drawn frame by frame.
+     * </p>
      * 
      * @param image The image to split.
      * @param h The number of horizontal divisions (strictly positive).
@@ -248,8 +271,19 @@ public final class ToolsSwt
      */
     public static Image[] splitImage(Image image, int h, int v)
     {
-        final int total = h * v;
         final ImageData data = image.getImageData();
+        if (data.maskData == null)
+        {
+            final ImageData[] frames = ImageDataSwt.split(data, h, v);
+            final Image[] images = new Image[frames.length];
+            for (int frame = 0; frame < frames.length; frame++)
+            {
+                images[frame] = new Image(image.getDevice(), frames[frame]);
+            }
+            return images;
+        }
+
+        final int total = h * v;
         final int width = data.width / h;
         final int height = data.height / v;
         final Image[] images = new Image[total];
@@ -271,7 +305,7 @@ public final class ToolsSwt
     }
 
     /**
-     * Rotate input image.
+     * Rotate input image, with nearest neighbor (keeps pixel edges).
      * 
      * @param image The input image.
      * @param angle The angle to apply in degree (0-359).
@@ -280,79 +314,116 @@ public final class ToolsSwt
      */
     public static Image rotate(Image image, int angle)
     {
-        final ImageData sourceData = image.getImageData();
-        final int width = sourceData.width;
-        final int height = sourceData.height;
-
-        final Rectangle rectangle = new Rectangle(0, 0, width, height);
-        rectangle.rotate(angle);
-
-        final ImageData newData = new ImageData(rectangle.getWidth(),
-                                                rectangle.getHeight(),
-                                                sourceData.depth,
-                                                sourceData.palette);
-        newData.transparentPixel = sourceData.transparentPixel;
-
-        final Device device = image.getDevice();
-        final Image rotated = new Image(device, newData);
-        final GC gc = new GC(rotated);
-        final org.eclipse.swt.graphics.Transform transform = new org.eclipse.swt.graphics.Transform(device);
-        final float rotate = (float) Math.toRadians(angle);
-        final float cos = (float) Math.cos(rotate);
-        final float sin = (float) Math.sin(rotate);
-
-        transform.setElements(cos, sin, -sin, cos, (float) (width / 2.0), (float) (height / 2.0));
-        gc.setTransform(transform);
-        gc.drawImage(image,
-                     (int) ((rectangle.getWidth() - width) / 2.0),
-                     (int) ((rectangle.getHeight() - height) / 2.0));
-        gc.dispose();
-
-        return rotated;
+        return new Image(image.getDevice(), rotate(image.getImageData(), angle, Resampling.NEAREST));
     }
 
     /**
-     * Resize input image.
+     * Rotate image data around its center, without any native image. Output is sized to the rotated bounds, uncovered
+     * pixels are transparent.
+     * 
+     * @param data The image data (not modified).
+     * @param angle The angle to apply in degree, clockwise.
+     * @param resampling The resampling filter.
+     * @return The rotated image data.
+     * @throws LionEngineException If invalid arguments.
+     */
+    public static ImageData rotate(ImageData data, double angle, Resampling resampling)
+    {
+        Check.notNull(data);
+        Check.notNull(resampling);
+
+        return ResampleSwt.rotate(data, angle, resampling);
+    }
+
+    /**
+     * Rotate image data in all directions in one batch, without any native image. Source is read once, frames have
+     * the same size and are centered, suited to precompute the directions of an object.
+     * 
+     * @param data The image data (not modified).
+     * @param directions The number of directions on a full turn, first one is not rotated (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The rotated image data, clockwise, one per direction.
+     * @throws LionEngineException If invalid arguments.
+     */
+    public static ImageData[] rotateAll(ImageData data, int directions, Resampling resampling)
+    {
+        Check.notNull(data);
+        Check.superiorStrict(directions, 0);
+        Check.notNull(resampling);
+
+        return ResampleSwt.rotateAll(data, directions, resampling);
+    }
+
+    /**
+     * Resize input image to closest pixels.
      * 
      * @param image The input image.
      * @param width The new width.
      * @param height The new height.
      * @return The new image with new size.
      * @throws SWTException If error on getting data.
+     * @throws LionEngineException If invalid size.
      */
     public static Image resize(Image image, int width, int height)
     {
-        return new Image(image.getDevice(), image.getImageData().scaledTo(width, height));
+        return new Image(image.getDevice(), resize(image.getImageData(), width, height, Resampling.NEAREST));
+    }
+
+    /**
+     * Resize image data, without any native image.
+     * 
+     * @param data The image data (not modified).
+     * @param width The new width (strictly positive).
+     * @param height The new height (strictly positive).
+     * @param resampling The resampling filter.
+     * @return The resized image data.
+     * @throws LionEngineException If invalid arguments.
+     */
+    public static ImageData resize(ImageData data, int width, int height, Resampling resampling)
+    {
+        Check.notNull(data);
+        Check.superiorStrict(width, 0);
+        Check.superiorStrict(height, 0);
+        Check.notNull(resampling);
+
+        return ResampleSwt.resize(data, width, height, resampling);
+    }
+
+    /**
+     * Copy an area of image data, keeping its format and transparency.
+     * 
+     * @param data The image data (not modified).
+     * @param x The horizontal area location (positive).
+     * @param y The vertical area location (positive).
+     * @param width The area width (strictly positive).
+     * @param height The area height (strictly positive).
+     * @return The area data.
+     * @throws LionEngineException If invalid arguments or area outside data.
+     */
+    public static ImageData copy(ImageData data, int x, int y, int width, int height)
+    {
+        Check.notNull(data);
+        Check.superiorOrEqual(x, 0);
+        Check.superiorOrEqual(y, 0);
+        Check.superiorStrict(width, 0);
+        Check.superiorStrict(height, 0);
+        Check.inferiorOrEqual(x + width, data.width);
+        Check.inferiorOrEqual(y + height, data.height);
+
+        return ImageDataSwt.copy(data, x, y, width, height);
     }
 
     /**
      * Flip an image depending of the axis.
      * 
      * @param image The image source.
-     * @param vertical <code>true</code> if vertical, <code>false</code> if horizontal.
+     * @param vertical <code>true</code> if vertical (upside down), <code>false</code> if horizontal (mirror).
      * @return The flipped image data.
      * @throws SWTException If error on getting data.
      */
     public static Image flip(Image image, boolean vertical)
     {
-        final ImageData data = image.getImageData();
-        final ImageData flip = image.getImageData();
-        for (int y = 0; y < data.height; y++)
-        {
-            for (int x = 0; x < data.width; x++)
-            {
-                final int pixel = data.getPixel(x, y);
-                if (vertical)
-                {
-                    flip.setPixel(data.width - x - 1, y, pixel);
-                }
-                else
-                {
-                    flip.setPixel(x, data.height - y - 1, pixel);
-                }
-            }
-        }
-        return new Image(image.getDevice(), flip);
+        return new Image(image.getDevice(), ImageDataSwt.flip(image.getImageData(), vertical));
     }
 
     /**
@@ -380,41 +451,70 @@ public final class ToolsSwt
     }
 
     /**
-     * Save an image into a file.
+     * Save an image into a file, as PNG with default deflate level.
      * 
      * @param image The image to save.
      * @param output The output stream.
-     * @throws SWTException If error on getting data.
+     * @throws SWTException If error on getting data or writing.
      */
     public static void saveImage(Image image, OutputStream output)
     {
-        final ImageLoader imageLoader = new ImageLoader();
-        final ImageData data = image.getImageData();
-        final boolean hasAlpha = data.alphaData != null;
-        for (int x = 0; x < data.width; x++)
+        saveImage(image, output, PngWriterSwt.DEFAULT_LEVEL, false);
+    }
+
+    /**
+     * Save an image into a file, as PNG streamed line by line. Alpha channel is written only if image has a
+     * transparent pixel or alpha.
+     * 
+     * @param image The image to save.
+     * @param output The output stream.
+     * @param level The deflate level, from <code>-1</code> (default) to <code>9</code> (best).
+     * @param parallel <code>true</code> to deflate in parallel, <code>false</code> else.
+     * @throws SWTException If error on getting data or writing.
+     * @throws LionEngineException If invalid level.
+     */
+    public static void saveImage(Image image, OutputStream output, int level, boolean parallel)
+    {
+        saveImage(image.getImageData(), output, level, parallel);
+    }
+
+    /**
+     * Save an image data into a file, as PNG streamed line by line, without any native image.
+     * 
+     * @param data The image data to save.
+     * @param output The output stream.
+     * @param level The deflate level, from <code>-1</code> (default) to <code>9</code> (best).
+     * @param parallel <code>true</code> to deflate in parallel, <code>false</code> else.
+     * @throws SWTException If error on writing.
+     * @throws LionEngineException If invalid level.
+     */
+    public static void saveImage(ImageData data, OutputStream output, int level, boolean parallel)
+    {
+        try
         {
+            final PngWriterSwt writer = new PngWriterSwt(output,
+                                                         data.width,
+                                                         data.height,
+                                                         ImageDataSwt.hasAlpha(data),
+                                                         level,
+                                                         parallel);
+            final int[] line = new int[data.width];
             for (int y = 0; y < data.height; y++)
             {
-                if (data.getPixel(x, y) == data.transparentPixel)
-                {
-                    data.setAlpha(x, y, 0);
-                }
-                else if (!hasAlpha)
-                {
-                    data.setAlpha(x, y, 255);
-                }
+                ImageDataSwt.getArgb(data, y, line);
+                writer.writeLine(line);
             }
+            writer.finish();
         }
-        data.transparentPixel = -1;
-        imageLoader.data = new ImageData[]
+        catch (final IOException exception)
         {
-            data
-        };
-        imageLoader.save(output, SWT.IMAGE_PNG);
+            SWT.error(SWT.ERROR_IO, exception);
+        }
     }
 
     /**
-     * Get raster buffer from data.
+     * Get raster buffer from data. Direct palettes have their pixels multiplied,
+     * indexed palettes are extended with the multiplied colors.
      * 
      * @param image The image.
      * @param fr The first red.
@@ -423,10 +523,30 @@ public final class ToolsSwt
      * @return The rastered image.
      * @throws SWTException If error on getting data.
      */
-    // CHECKSTYLE IGNORE LINE: ExecutableStatementCount
     public static Image getRasterBuffer(Image image, double fr, double fg, double fb)
     {
-        final ImageData data = image.getImageData();
+        return new Image(image.getDevice(), getRasterBuffer(image.getImageData(), fr, fg, fb));
+    }
+
+    /**
+     * Get raster buffer from data, without any native image. Direct palettes have their pixels multiplied,
+     * indexed palettes are extended with the multiplied colors.
+     * 
+     * @param data The image data, modified by the raster.
+     * @param fr The first red.
+     * @param fg The first green.
+     * @param fb The first blue.
+     * @return The rastered image data.
+     */
+    // CHECKSTYLE IGNORE LINE: ExecutableStatementCount
+    public static ImageData getRasterBuffer(ImageData data, double fr, double fg, double fb)
+    {
+        if (ImageDataSwt.isDirect(data))
+        {
+            ImageDataSwt.raster(data, fr, fg, fb);
+            return data;
+        }
+
         final PaletteData palette = data.palette;
         final RGB[] colors = palette.getRGBs();
         final Map<Integer, RGB> newColors = new TreeMap<>();
@@ -476,7 +596,21 @@ public final class ToolsSwt
         }
         palette.colors = newColorsRgb;
 
-        return new Image(image.getDevice(), data);
+        return data;
+    }
+
+    /**
+     * Dispose the native resources of a text created by the SWT factory, which cannot be drawn anymore.
+     * Does nothing for other texts.
+     * 
+     * @param text The text to dispose.
+     */
+    public static void disposeText(Text text)
+    {
+        if (text instanceof TextSwt)
+        {
+            ((TextSwt) text).dispose();
+        }
     }
 
     /**
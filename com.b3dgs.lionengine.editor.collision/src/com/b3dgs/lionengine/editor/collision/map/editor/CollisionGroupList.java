@@ -23,6 +23,7 @@ import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Xml;
 import com.b3dgs.lionengine.editor.ObjectListAbstract;
 import com.b3dgs.lionengine.editor.ObjectListListener;
+import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionGroup;
@@ -132,7 +133,7 @@ public class CollisionGroupList extends ObjectListAbstract<CollisionGroup> imple
             final MapTileCollision mapCollision = map.getFeature(MapTileCollision.class);
             final Media formulasConfig = mapCollision.getFormulasConfig();
             removeCollision(formulasConfig, collision);
-            mapCollision.loadCollisions(formulasConfig, groupsConfig);
+            UtilWorld.loadCollisions(mapCollision, formulasConfig, groupsConfig);
         }
         else if (groupsConfig != null)
         {
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Xml;
 import com.b3dgs.lionengine.editor.dialog.DialogAbstract;
 import com.b3dgs.lionengine.editor.utility.UtilIcon;
+import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionFormula;
@@ -114,7 +115,7 @@ public class CollisionsMapEditDialog extends DialogAbstract
         if (map.hasFeature(MapTileCollision.class))
         {
             final MapTileCollision mapCollision = map.getFeature(MapTileCollision.class);
-            mapCollision.loadCollisions(mapCollision.getFormulasConfig(), media);
+            UtilWorld.loadCollisions(mapCollision, mapCollision.getFormulasConfig(), media);
         }
     }
 }
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.editor.project.ProjectModel;
 import com.b3dgs.lionengine.editor.toolbar.SetPointerCollisionHandler;
 import com.b3dgs.lionengine.editor.toolbar.SetShowCollisionsHandler;
 import com.b3dgs.lionengine.editor.utility.UtilIcon;
+import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.utility.dialog.UtilDialog;
 import com.b3dgs.lionengine.editor.widget.BrowseWidget;
 import com.b3dgs.lionengine.editor.world.WorldModel;
@@ -142,7 +143,7 @@ public class CollisionImportDialog extends DialogAbstract
         final MapTileHelper map = WorldModel.INSTANCE.getMap();
 
         final MapTileCollision mapCollision = map.getFeature(MapTileCollision.class);
-        mapCollision.loadCollisions(formulas.getMedia(), collisions.getMedia());
+        UtilWorld.loadCollisions(mapCollision, formulas.getMedia(), collisions.getMedia());
 
         final WorldPart part = WorldModel.INSTANCE.getServices().get(WorldPart.class);
         part.setToolItemEnabled(SetShowCollisionsHandler.ID, true);
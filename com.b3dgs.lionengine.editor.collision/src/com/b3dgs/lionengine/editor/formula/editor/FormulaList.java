@@ -23,6 +23,7 @@ import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Xml;
 import com.b3dgs.lionengine.editor.ObjectListAbstract;
 import com.b3dgs.lionengine.editor.ObjectListListener;
+import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.game.feature.tile.TileGroupsConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
@@ -145,7 +146,7 @@ public class FormulaList extends ObjectListAbstract<CollisionFormula> implements
             final MapTileCollision mapCollision = map.getFeature(MapTileCollision.class);
             final Media formulasConfig = mapCollision.getFormulasConfig();
             removeFormula(formulasConfig, formula);
-            mapCollision.loadCollisions(formulasConfig, mapCollision.getCollisionsConfig());
+            UtilWorld.loadCollisions(mapCollision, formulasConfig, mapCollision.getCollisionsConfig());
         }
         else if (config != null)
         {
@@ -18,6 +18,7 @@ package com.b3dgs.lionengine.editor.world.renderer;
 
 import java.util.Map;
 
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.updater.Marker;
 import com.b3dgs.lionengine.editor.world.updater.WorldInteractionTileCollision;
 import com.b3dgs.lionengine.game.feature.Camera;
@@ -35,6 +36,8 @@ public class WorldSelectedTilesCollision implements WorldRenderListener
     private final Camera camera;
     /** Tile interaction. */
     private final WorldInteractionTileCollision interactionTile;
+    /** Rendered flag. */
+    private boolean rendered;
 
     /**
      * Create the renderer.
@@ -96,9 +99,19 @@ public class WorldSelectedTilesCollision implements WorldRenderListener
     public void onRender(Graphic g, int width, int height, double scale, int tw, int th)
     {
         final Line currentLine = interactionTile.getCollisionLine();
-        if (currentLine != null)
+        rendered = currentLine != null;
+        if (rendered)
         {
             renderAssigningCollision(g, currentLine, scale, tw, th);
         }
     }
+
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        if (rendered || interactionTile.getCollisionLine() != null)
+        {
+            area.invalidate();
+        }
+    }
 }
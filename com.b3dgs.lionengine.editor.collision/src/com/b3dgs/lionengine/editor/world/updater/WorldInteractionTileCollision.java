@@ -34,6 +34,8 @@ import com.b3dgs.lionengine.editor.toolbar.FormulaItem;
 import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.PaletteModel;
 import com.b3dgs.lionengine.editor.world.PaletteType;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
 import com.b3dgs.lionengine.editor.world.view.WorldView;
 import com.b3dgs.lionengine.game.Force;
 import com.b3dgs.lionengine.game.feature.Camera;
@@ -137,6 +139,10 @@ public class WorldInteractionTileCollision implements CollisionVerifier, WorldMo
     private final MapTileGroup mapGroup;
     /** Palette model. */
     private final PaletteModel palette;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
     /** Line collision assign. */
     private Line collLine;
     /** Start x collision assign. */
@@ -168,6 +174,8 @@ public class WorldInteractionTileCollision implements CollisionVerifier, WorldMo
         map = services.get(MapTile.class);
         mapGroup = map.getFeature(MapTileGroup.class);
         palette = services.get(PaletteModel.class);
+        dirty = services.get(WorldDirtyArea.class);
+        mapCache = services.get(WorldMapCache.class);
     }
 
     /**
@@ -396,7 +404,9 @@ public class WorldInteractionTileCollision implements CollisionVerifier, WorldMo
             groupNode.save(config);
             mapGroup.loadGroups(config);
             final MapTileCollision mapCollision = map.getFeature(MapTileCollision.class);
-            mapCollision.loadCollisions(mapCollision.getFormulasConfig(), mapCollision.getCollisionsConfig());
+            UtilWorld.loadCollisions(mapCollision,
+                                     mapCollision.getFormulasConfig(),
+                                     mapCollision.getCollisionsConfig());
         }
     }
 
@@ -421,6 +431,8 @@ public class WorldInteractionTileCollision implements CollisionVerifier, WorldMo
             collStart = null;
             collEnd = null;
             collLine = null;
+            mapCache.invalidate();
+            dirty.invalidate();
         }
     }
 
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world;
+
+import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.junit.SWTBotJunit4ClassRunner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.editor.UtilEditorTests;
+import com.b3dgs.lionengine.editor.map.UtilNl;
+import com.b3dgs.lionengine.editor.map.imports.MapImportDialogTest;
+import com.b3dgs.lionengine.editor.project.ImportProjectTest;
+import com.b3dgs.lionengine.editor.world.MapTileHelperEditor;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.editor.world.WorldModel;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+
+/**
+ * Test the world edits journal with imported map.
+ */
+@RunWith(SWTBotJunit4ClassRunner.class)
+public class WorldJournalTest
+{
+    private static final SWTBot BOT = new SWTBot();
+
+    /**
+     * Get the tile number of a cell.
+     * 
+     * @param map The map reference.
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @return The tile number, {@link WorldJournal#NONE} if no tile.
+     */
+    private static int getNumber(MapTileHelperEditor map, int tx, int ty)
+    {
+        final Tile tile = map.getTile(tx, ty);
+        if (tile == null)
+        {
+            return WorldJournal.NONE;
+        }
+        return tile.getNumber();
+    }
+
+    /**
+     * Record and set a cell tile.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @param number The new tile number, {@link WorldJournal#NONE} to remove tile.
+     */
+    private static void set(WorldJournal journal, MapTileHelperEditor map, int tx, int ty, int number)
+    {
+        journal.addTile(tx, ty, getNumber(map, tx, ty));
+        if (number == WorldJournal.NONE)
+        {
+            map.removeTile(tx, ty);
+        }
+        else
+        {
+            map.setTile(tx, ty, number);
+        }
+    }
+
+    /**
+     * Test the world edits journal.
+     */
+    @Test
+    public void testWorldJournal()
+    {
+        Assert.assertNotNull(ImportProjectTest.createProject(BOT, getClass()));
+        UtilEditorTests.copy(".map", Medias.create("sheets.xml"));
+        UtilEditorTests.copy(".map", Medias.create("groups.xml"));
+        UtilEditorTests.copy(".map", Medias.create("0.png"));
+
+        BOT.menu(UtilNl.get("menu.map.import"), true).click();
+        MapImportDialogTest.fillDialog(BOT);
+
+        final MapTileHelperEditor map = WorldModel.INSTANCE.getServices().get(MapTileHelperEditor.class);
+        final WorldJournal journal = WorldModel.INSTANCE.getServices().get(WorldJournal.class);
+
+        Assert.assertFalse(journal.canUndo());
+        Assert.assertFalse(journal.canRedo());
+
+        testUndoRedo(journal, map);
+        testCoalesce(journal, map);
+        testNone(journal, map);
+        testRedoKept(journal, map);
+        testBudget(journal, map);
+    }
+
+    /**
+     * Test undo and redo of tiles.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     */
+    private void testUndoRedo(WorldJournal journal, MapTileHelperEditor map)
+    {
+        journal.clear();
+        final int old = getNumber(map, 0, 0);
+        final int number = old == 0 ? 1 : 0;
+
+        journal.begin();
+        set(journal, map, 0, 0, number);
+        journal.end();
+
+        Assert.assertTrue(journal.canUndo());
+        Assert.assertFalse(journal.canRedo());
+
+        journal.undo();
+
+        Assert.assertEquals(old, getNumber(map, 0, 0));
+        Assert.assertFalse(journal.canUndo());
+        Assert.assertTrue(journal.canRedo());
+
+        journal.redo();
+
+        Assert.assertEquals(number, getNumber(map, 0, 0));
+        Assert.assertTrue(journal.canUndo());
+        Assert.assertFalse(journal.canRedo());
+    }
+
+    /**
+     * Test records coalescing: first old number kept, unchanged cells dropped.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     */
+    private void testCoalesce(WorldJournal journal, MapTileHelperEditor map)
+    {
+        journal.clear();
+        final int old = getNumber(map, 1, 0);
+
+        journal.begin();
+        set(journal, map, 1, 0, old + 1);
+        set(journal, map, 1, 0, old + 2);
+        set(journal, map, 2, 0, getNumber(map, 2, 0));
+        journal.end();
+
+        Assert.assertEquals(Integer.BYTES * 4, journal.getSize());
+
+        journal.undo();
+
+        Assert.assertEquals(old, getNumber(map, 1, 0));
+
+        journal.clear();
+        journal.begin();
+        set(journal, map, 2, 0, getNumber(map, 2, 0));
+        journal.end();
+
+        Assert.assertFalse(journal.canUndo());
+        Assert.assertEquals(0, journal.getSize());
+    }
+
+    /**
+     * Test undo and redo of removed tiles.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     */
+    private void testNone(WorldJournal journal, MapTileHelperEditor map)
+    {
+        journal.clear();
+        final int old = getNumber(map, 3, 0);
+
+        journal.begin();
+        set(journal, map, 3, 0, WorldJournal.NONE);
+        journal.end();
+
+        Assert.assertNull(map.getTile(3, 0));
+
+        journal.undo();
+
+        Assert.assertEquals(old, getNumber(map, 3, 0));
+
+        journal.redo();
+
+        Assert.assertNull(map.getTile(3, 0));
+
+        journal.begin();
+        set(journal, map, 3, 0, old);
+        journal.end();
+        journal.undo();
+
+        Assert.assertNull(map.getTile(3, 0));
+
+        journal.redo();
+
+        Assert.assertEquals(old, getNumber(map, 3, 0));
+    }
+
+    /**
+     * Test undone edits kept by an edit without change, discarded by an edit with change.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     */
+    private void testRedoKept(WorldJournal journal, MapTileHelperEditor map)
+    {
+        journal.clear();
+        final int old = getNumber(map, 4, 0);
+
+        journal.begin();
+        set(journal, map, 4, 0, old + 1);
+        journal.end();
+        journal.undo();
+
+        journal.begin();
+        set(journal, map, 4, 0, old);
+        journal.end();
+
+        Assert.assertTrue(journal.canRedo());
+
+        journal.begin();
+        set(journal, map, 5, 0, getNumber(map, 5, 0) + 1);
+        journal.end();
+
+        Assert.assertFalse(journal.canRedo());
+        Assert.assertEquals(old, getNumber(map, 4, 0));
+
+        journal.undo();
+
+        Assert.assertFalse(journal.canUndo());
+    }
+
+    /**
+     * Test oldest edits dropped when exceeding budget, last one kept.
+     * 
+     * @param journal The journal reference.
+     * @param map The map reference.
+     */
+    private void testBudget(WorldJournal journal, MapTileHelperEditor map)
+    {
+        journal.clear();
+        final int record = Integer.BYTES * 4;
+        for (int tx = 6; tx < 9; tx++)
+        {
+            journal.begin();
+            set(journal, map, tx, 0, getNumber(map, tx, 0) + 1);
+            journal.end();
+        }
+
+        Assert.assertEquals(record * 3, journal.getSize());
+
+        journal.setBudget(record * 2);
+
+        Assert.assertEquals(record * 2, journal.getSize());
+
+        journal.setBudget(0);
+
+        Assert.assertEquals(record, journal.getSize());
+
+        journal.undo();
+
+        Assert.assertFalse(journal.canUndo());
+
+        journal.setBudget(WorldJournal.DEFAULT_BUDGET);
+        journal.clear();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world.updater;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.b3dgs.lionengine.editor.map.sheet.palette.BrushShape;
+
+/**
+ * Test the tile brush geometry.
+ */
+public class TileBrushTest
+{
+    /**
+     * Get the distinct cells painted by a brush stamp.
+     * 
+     * @param shape The brush shape.
+     * @param size The brush size.
+     * @return The painted cells, as <code>tx,ty</code>.
+     */
+    private static Set<String> stamp(BrushShape shape, int size)
+    {
+        final TileBrush brush = new TileBrush();
+        brush.set(shape, size);
+        final Set<String> cells = new HashSet<>();
+        brush.paint(10, 10, 10, 10, (tx, ty) -> cells.add(tx + "," + ty));
+        return cells;
+    }
+
+    /**
+     * Test the square footprint.
+     */
+    @Test
+    public void testSquare()
+    {
+        for (int size = 1; size <= 8; size++)
+        {
+            Assert.assertEquals(size * size, stamp(BrushShape.SQUARE, size).size());
+        }
+
+        final Set<String> cells = stamp(BrushShape.SQUARE, 3);
+        Assert.assertTrue(cells.contains("9,9"));
+        Assert.assertTrue(cells.contains("11,11"));
+        Assert.assertFalse(cells.contains("12,10"));
+    }
+
+    /**
+     * Test the round footprint.
+     */
+    @Test
+    public void testRound()
+    {
+        final int[] expected =
+        {
+            1, 4, 5, 12, 21, 24, 37, 52
+        };
+        for (int size = 1; size <= expected.length; size++)
+        {
+            Assert.assertEquals(expected[size - 1], stamp(BrushShape.ROUND, size).size());
+        }
+
+        final Set<String> cells = stamp(BrushShape.ROUND, 3);
+        Assert.assertTrue(cells.contains("10,10"));
+        Assert.assertTrue(cells.contains("9,10"));
+        Assert.assertTrue(cells.contains("10,11"));
+        Assert.assertFalse(cells.contains("9,9"));
+        Assert.assertFalse(cells.contains("11,11"));
+    }
+
+    /**
+     * Test the segment rasterization, without gap and ends included.
+     */
+    @Test
+    public void testSegment()
+    {
+        final TileBrush brush = new TileBrush();
+        final List<int[]> cells = new ArrayList<>();
+        brush.paint(0, 0, 10, -3, (tx, ty) -> cells.add(new int[]
+        {
+            tx, ty
+        }));
+
+        Assert.assertEquals(11, cells.size());
+        Assert.assertArrayEquals(new int[]
+        {
+            0, 0
+        }, cells.get(0));
+        Assert.assertArrayEquals(new int[]
+        {
+            10, -3
+        }, cells.get(cells.size() - 1));
+        for (int i = 1; i < cells.size(); i++)
+        {
+            Assert.assertTrue(Math.abs(cells.get(i)[0] - cells.get(i - 1)[0]) <= 1);
+            Assert.assertTrue(Math.abs(cells.get(i)[1] - cells.get(i - 1)[1]) <= 1);
+        }
+    }
+
+    /**
+     * Test the stamp on each segment cell.
+     */
+    @Test
+    public void testSegmentStamp()
+    {
+        final TileBrush brush = new TileBrush();
+        brush.set(BrushShape.SQUARE, 2);
+        final Set<String> cells = new HashSet<>();
+        brush.paint(0, 0, 3, 0, (tx, ty) -> cells.add(tx + "," + ty));
+
+        Assert.assertEquals(10, cells.size());
+        Assert.assertTrue(cells.contains("0,0"));
+        Assert.assertTrue(cells.contains("4,1"));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world.updater;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.eclipse.swtbot.swt.finder.SWTBot;
+import org.eclipse.swtbot.swt.finder.junit.SWTBotJunit4ClassRunner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.b3dgs.lionengine.Medias;
+import com.b3dgs.lionengine.editor.UtilEditorTests;
+import com.b3dgs.lionengine.editor.map.UtilNl;
+import com.b3dgs.lionengine.editor.map.imports.MapImportDialogTest;
+import com.b3dgs.lionengine.editor.project.ImportProjectTest;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
+import com.b3dgs.lionengine.editor.world.WorldModel;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+
+/**
+ * Test the tile fill geometry with imported map, undone with journal.
+ */
+@RunWith(SWTBotJunit4ClassRunner.class)
+public class TileFillTest
+{
+    private static final SWTBot BOT = new SWTBot();
+
+    /**
+     * Get the map tile numbers.
+     * 
+     * @param map The map reference.
+     * @return The tile numbers per cell, {@link WorldJournal#NONE} if no tile.
+     */
+    private static int[][] getNumbers(MapTile map)
+    {
+        final int[][] numbers = new int[map.getInTileHeight()][map.getInTileWidth()];
+        for (int ty = 0; ty < map.getInTileHeight(); ty++)
+        {
+            for (int tx = 0; tx < map.getInTileWidth(); tx++)
+            {
+                final Tile tile = map.getTile(tx, ty);
+                if (tile == null)
+                {
+                    numbers[ty][tx] = WorldJournal.NONE;
+                }
+                else
+                {
+                    numbers[ty][tx] = tile.getNumber();
+                }
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Count the cells connected to a cell with the same number.
+     * 
+     * @param numbers The tile numbers per cell.
+     * @param tx The horizontal start cell.
+     * @param ty The vertical start cell.
+     * @return The number of connected cells.
+     */
+    private static int countRegion(int[][] numbers, int tx, int ty)
+    {
+        final int height = numbers.length;
+        final int width = numbers[0].length;
+        final boolean[][] visited = new boolean[height][width];
+        final Deque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]
+        {
+            tx, ty
+        });
+        visited[ty][tx] = true;
+        int count = 0;
+        while (!queue.isEmpty())
+        {
+            final int[] cell = queue.poll();
+            count++;
+            final int[][] neighbors =
+            {
+                {
+                    cell[0] + 1, cell[1]
+                },
+                {
+                    cell[0] - 1, cell[1]
+                },
+                {
+                    cell[0], cell[1] + 1
+                },
+                {
+                    cell[0], cell[1] - 1
+                }
+            };
+            for (final int[] neighbor : neighbors)
+            {
+                final int x = neighbor[0];
+                final int y = neighbor[1];
+                if (x >= 0
+                    && y >= 0
+                    && x < width
+                    && y < height
+                    && !visited[y][x]
+                    && numbers[y][x] == numbers[ty][tx])
+                {
+                    visited[y][x] = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Test the tile fill.
+     */
+    @Test
+    public void testTileFill()
+    {
+        Assert.assertNotNull(ImportProjectTest.createProject(BOT, getClass()));
+        UtilEditorTests.copy(".map", Medias.create("sheets.xml"));
+        UtilEditorTests.copy(".map", Medias.create("groups.xml"));
+        UtilEditorTests.copy(".map", Medias.create("0.png"));
+
+        BOT.menu(UtilNl.get("menu.map.import"), true).click();
+        MapImportDialogTest.fillDialog(BOT);
+
+        final Services services = WorldModel.INSTANCE.getServices();
+        final MapTile map = services.get(MapTile.class);
+        final WorldJournal journal = services.get(WorldJournal.class);
+        final WorldDirtyArea dirty = services.get(WorldDirtyArea.class);
+        final TileStroke stroke = new TileStroke(map, journal, dirty::addTile);
+        final TileFill fill = new TileFill(map, stroke, dirty, services.get(WorldMapCache.class));
+        final int[][] numbers = getNumbers(map);
+        final int number = numbers[0][0] == 0 ? 1 : 0;
+
+        Assert.assertEquals(0, fill.flood(-1, 0, number, false));
+        Assert.assertEquals(0, fill.flood(0, 0, numbers[0][0], false));
+
+        stroke.start();
+        journal.begin();
+
+        Assert.assertEquals(8, fill.rectangle(-2, -2, 3, 1, number));
+
+        stroke.flush();
+        journal.end();
+        journal.undo();
+
+        Assert.assertArrayEquals(numbers, getNumbers(map));
+
+        stroke.start();
+        journal.begin();
+
+        Assert.assertEquals(countRegion(numbers, 0, 0), fill.flood(0, 0, number, false));
+
+        stroke.flush();
+        journal.end();
+        journal.undo();
+
+        Assert.assertArrayEquals(numbers, getNumbers(map));
+    }
+}
@@ -25,6 +25,8 @@ import com.b3dgs.lionengine.editor.dialog.DialogAbstract;
 import com.b3dgs.lionengine.editor.utility.UtilIcon;
 import com.b3dgs.lionengine.editor.utility.dialog.UtilDialog;
 import com.b3dgs.lionengine.editor.widget.BrowseWidget;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
 import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.game.feature.tile.TileGroupsConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.LevelRipConverter;
@@ -117,5 +119,7 @@ public class MapImportDialog extends DialogAbstract
         {
             map.getFeature(MapTileGroup.class).loadGroups(groups.getMedia());
         }
+        WorldModel.INSTANCE.getServices().get(WorldMapCache.class).invalidate();
+        WorldModel.INSTANCE.getServices().get(WorldJournal.class).clear();
     }
 }
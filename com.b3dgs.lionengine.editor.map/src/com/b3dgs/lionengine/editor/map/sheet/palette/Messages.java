@@ -43,6 +43,24 @@ public final class Messages extends NLS
     public static String Decrease;
     /** Increase. */
     public static String Increase;
+    /** Brush. */
+    public static String Brush;
+    /** Square brush. */
+    public static String BrushSquare;
+    /** Round brush. */
+    public static String BrushRound;
+    /** Brush size. */
+    public static String BrushSize;
+    /** Tool. */
+    public static String Tool;
+    /** Brush tool. */
+    public static String ToolBrush;
+    /** Fill tile tool. */
+    public static String ToolFillTile;
+    /** Fill group tool. */
+    public static String ToolFillGroup;
+    /** Rectangle tool. */
+    public static String ToolRectangle;
 
     /**
      * Initialize.
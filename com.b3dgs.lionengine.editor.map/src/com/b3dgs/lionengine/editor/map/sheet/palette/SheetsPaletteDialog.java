@@ -96,6 +96,20 @@ public final class SheetsPaletteDialog implements MouseListener, Focusable
         SheetsPaletteDialog.lastLocation = lastLocation;
     }
 
+    /**
+     * Create an edition tool radio.
+     * 
+     * @param area The tools area.
+     * @param text The tool text.
+     * @param tool The tool selected by radio.
+     */
+    private static void createTool(Group area, String text, TileTool tool)
+    {
+        final Button radio = UtilButton.createRadio(text, area);
+        radio.setSelection(tool == SheetsPaletteModel.INSTANCE.getTileTool());
+        UtilButton.setAction(radio, () -> SheetsPaletteModel.INSTANCE.setTileTool(tool));
+    }
+
     /** Map reference. */
     private final MapTile map = WorldModel.INSTANCE.getMap();
     /** Shell dialog. */
@@ -151,6 +165,8 @@ public final class SheetsPaletteDialog implements MouseListener, Focusable
         simple = true;
 
         createTypes();
+        createTools();
+        createBrush();
         createBottom();
     }
 
@@ -185,6 +201,61 @@ public final class SheetsPaletteDialog implements MouseListener, Focusable
         });
     }
 
+    /**
+     * Create the edition tools part.
+     */
+    private void createTools()
+    {
+        final Group area = new Group(shell, SWT.NONE);
+        area.setText(Messages.Tool);
+        area.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+        final int items = 4;
+        area.setLayout(new GridLayout(items, false));
+
+        createTool(area, Messages.ToolBrush, TileTool.BRUSH);
+        createTool(area, Messages.ToolFillTile, TileTool.FILL_TILE);
+        createTool(area, Messages.ToolFillGroup, TileTool.FILL_GROUP);
+        createTool(area, Messages.ToolRectangle, TileTool.RECTANGLE);
+    }
+
+    /**
+     * Create the brush part.
+     */
+    private void createBrush()
+    {
+        final Group area = new Group(shell, SWT.NONE);
+        area.setText(Messages.Brush);
+        area.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+        final int items = 5;
+        area.setLayout(new GridLayout(items, false));
+
+        final SheetsPaletteModel model = SheetsPaletteModel.INSTANCE;
+        final Button square = UtilButton.createRadio(Messages.BrushSquare, area);
+        square.setSelection(BrushShape.SQUARE == model.getBrushShape());
+        UtilButton.setAction(square, () -> model.setBrushShape(BrushShape.SQUARE));
+
+        final Button round = UtilButton.createRadio(Messages.BrushRound, area);
+        round.setSelection(BrushShape.ROUND == model.getBrushShape());
+        UtilButton.setAction(round, () -> model.setBrushShape(BrushShape.ROUND));
+
+        final Button decrease = UtilButton.create(area, Messages.Decrease, null);
+        final Text sizeText = UtilText.create(Messages.BrushSize, area);
+        sizeText.setEditable(false);
+        sizeText.setText(String.valueOf(model.getBrushSize()));
+        final Button increase = UtilButton.create(area, Messages.Increase, null);
+
+        UtilButton.setAction(decrease, () ->
+        {
+            model.setBrushSize(model.getBrushSize() - 1);
+            sizeText.setText(String.valueOf(model.getBrushSize()));
+        });
+        UtilButton.setAction(increase, () ->
+        {
+            model.setBrushSize(model.getBrushSize() + 1);
+            sizeText.setText(String.valueOf(model.getBrushSize()));
+        });
+    }
+
     /**
      * Create the bottom part.
      */
@@ -16,6 +16,8 @@
  */
 package com.b3dgs.lionengine.editor.map.sheet.palette;
 
+import com.b3dgs.lionengine.UtilMath;
+
 /**
  * Contains the sheets palette data.
  */
@@ -23,11 +25,19 @@ public class SheetsPaletteModel
 {
     /** Palette model. */
     public static final SheetsPaletteModel INSTANCE = new SheetsPaletteModel();
+    /** Maximum brush size in tile. */
+    public static final int BRUSH_SIZE_MAX = 16;
 
     /** Selected palette tile. */
     private int tile;
     /** Sheet palette type. */
     private SheetPaletteType type = SheetPaletteType.SELECTION;
+    /** Edition tool. */
+    private TileTool tool = TileTool.BRUSH;
+    /** Brush shape. */
+    private BrushShape brushShape = BrushShape.SQUARE;
+    /** Brush size in tile. */
+    private int brushSize = 1;
 
     /**
      * Create the model.
@@ -57,6 +67,36 @@ public class SheetsPaletteModel
         this.type = type;
     }
 
+    /**
+     * Set the edition tool.
+     * 
+     * @param tool The edition tool.
+     */
+    public void setTileTool(TileTool tool)
+    {
+        this.tool = tool;
+    }
+
+    /**
+     * Set the brush shape.
+     * 
+     * @param shape The brush shape.
+     */
+    public void setBrushShape(BrushShape shape)
+    {
+        brushShape = shape;
+    }
+
+    /**
+     * Set the brush size.
+     * 
+     * @param size The brush size in tile, clamped between <code>1</code> and {@link #BRUSH_SIZE_MAX}.
+     */
+    public void setBrushSize(int size)
+    {
+        brushSize = UtilMath.clamp(size, 1, BRUSH_SIZE_MAX);
+    }
+
     /**
      * Get the selected tile.
      * 
@@ -76,4 +116,34 @@ public class SheetsPaletteModel
     {
         return type;
     }
+
+    /**
+     * Get the edition tool.
+     * 
+     * @return The edition tool.
+     */
+    public TileTool getTileTool()
+    {
+        return tool;
+    }
+
+    /**
+     * Get the brush shape.
+     * 
+     * @return The brush shape.
+     */
+    public BrushShape getBrushShape()
+    {
+        return brushShape;
+    }
+
+    /**
+     * Get the brush size.
+     * 
+     * @return The brush size in tile.
+     */
+    public int getBrushSize()
+    {
+        return brushSize;
+    }
 }
@@ -16,8 +16,11 @@
  */
 package com.b3dgs.lionengine.editor.map.world.renderer;
 
+import java.util.Objects;
+
 import com.b3dgs.lionengine.editor.map.world.updater.TileSelectionListener;
 import com.b3dgs.lionengine.editor.map.world.updater.WorldInteractionTile;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.renderer.WorldRenderListener;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
@@ -46,6 +49,10 @@ public class WorldSelectedTiles implements WorldRenderListener
     private final MapTileGroup mapGroup;
     /** Camera reference. */
     private final Camera camera;
+    /** Last rendered tile, <code>null</code> if none. */
+    private Tile renderedTile;
+    /** Last rendered group, <code>null</code> if none. */
+    private String renderedGroup;
 
     /**
      * Create the renderer.
@@ -132,5 +139,18 @@ public class WorldSelectedTiles implements WorldRenderListener
             g.setColor(COLOR_TILE_SELECTED);
             renderSelectedTile(g, tile, scale, tw, th);
         }
+        renderedTile = tile;
+        renderedGroup = tileGroup;
+    }
+
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        if (!Objects.equals(renderedGroup, selection.getTileGroup()))
+        {
+            area.invalidate();
+        }
+        area.addTile(renderedTile);
+        area.addTile(selection.getTile());
     }
 }
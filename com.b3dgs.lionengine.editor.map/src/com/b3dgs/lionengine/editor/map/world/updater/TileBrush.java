@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world.updater;
+
+import com.b3dgs.lionengine.editor.map.sheet.palette.BrushShape;
+
+/**
+ * Brush rasterizing painted cells in tile space.
+ * <p>
+ * A drag is rasterized as the segment between previous and current pointed cells, with Bresenham algorithm, and the
+ * brush footprint is stamped on each cell of the segment, so fast drags leave no gap.
+ * </p>
+ */
+public final class TileBrush
+{
+    /** Mean squared distance of a cell corners to its center, corners being at center plus or minus half a cell. */
+    private static final double CORNERS = 0.5;
+
+    /**
+     * Get the brush footprint, centered on painted cell.
+     * <p>
+     * A round brush keeps the cells touching its center, and the cells whose corners are, on average, inside the circle
+     * of brush size: their squared distance to the brush center, plus {@link #CORNERS}, is lower than the squared brush
+     * radius.
+     * </p>
+     * 
+     * @param shape The brush shape.
+     * @param size The brush size in tile.
+     * @return The footprint horizontal and vertical offsets, as consecutive pairs.
+     */
+    private static int[] createFootprint(BrushShape shape, int size)
+    {
+        final int[] offsets = new int[size * size * 2];
+        final double radius = size / 2.0;
+        final int min = -(size - 1) / 2;
+        int count = 0;
+        for (int j = 0; j < size; j++)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                final double dx = i + 0.5 - radius;
+                final double dy = j + 0.5 - radius;
+                final boolean center = Math.abs(dx) <= 0.5 && Math.abs(dy) <= 0.5;
+                if (BrushShape.SQUARE == shape || center || dx * dx + dy * dy + CORNERS < radius * radius)
+                {
+                    offsets[count] = min + i;
+                    offsets[count + 1] = min + j;
+                    count += 2;
+                }
+            }
+        }
+        final int[] footprint = new int[count];
+        System.arraycopy(offsets, 0, footprint, 0, count);
+        return footprint;
+    }
+
+    /** Footprint offsets pairs. */
+    private int[] footprint = createFootprint(BrushShape.SQUARE, 1);
+    /** Footprint shape. */
+    private BrushShape shape = BrushShape.SQUARE;
+    /** Footprint size. */
+    private int size = 1;
+
+    /**
+     * Create brush.
+     */
+    public TileBrush()
+    {
+        super();
+    }
+
+    /**
+     * Set the brush, footprint is only computed again if changed.
+     * 
+     * @param shape The brush shape.
+     * @param size The brush size in tile.
+     */
+    public void set(BrushShape shape, int size)
+    {
+        if (shape != this.shape || size != this.size)
+        {
+            this.shape = shape;
+            this.size = size;
+            footprint = createFootprint(shape, size);
+        }
+    }
+
+    /**
+     * Stamp the brush on each cell of the segment, ends included. Cells may be stamped several times.
+     * 
+     * @param x0 The horizontal start cell.
+     * @param y0 The vertical start cell.
+     * @param x1 The horizontal end cell.
+     * @param y1 The vertical end cell.
+     * @param cell The painted cell consumer.
+     */
+    public void paint(int x0, int y0, int x1, int y1, Cell cell)
+    {
+        final int dx = Math.abs(x1 - x0);
+        final int dy = -Math.abs(y1 - y0);
+        final int sx = Integer.signum(x1 - x0);
+        final int sy = Integer.signum(y1 - y0);
+        int error = dx + dy;
+        int x = x0;
+        int y = y0;
+        boolean done = false;
+        while (!done)
+        {
+            stamp(x, y, cell);
+            done = x == x1 && y == y1;
+            final int error2 = error * 2;
+            if (error2 >= dy)
+            {
+                error += dy;
+                x += sx;
+            }
+            if (error2 <= dx)
+            {
+                error += dx;
+                y += sy;
+            }
+        }
+    }
+
+    /**
+     * Stamp the brush footprint on cell.
+     * 
+     * @param x The horizontal cell.
+     * @param y The vertical cell.
+     * @param cell The painted cell consumer.
+     */
+    private void stamp(int x, int y, Cell cell)
+    {
+        for (int i = 0; i < footprint.length; i += 2)
+        {
+            cell.paint(x + footprint[i], y + footprint[i + 1]);
+        }
+    }
+
+    /**
+     * Painted cell consumer.
+     */
+    @FunctionalInterface
+    public interface Cell
+    {
+        /**
+         * Paint cell.
+         * 
+         * @param tx The horizontal cell.
+         * @param ty The vertical cell.
+         */
+        void paint(int tx, int ty);
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world.updater;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
+
+/**
+ * Fill map regions in bulk: connected region of a tile number or group (flood fill), or rectangle.
+ * <p>
+ * Region cells are gathered with an array work queue, then set on map without any per cell notification: the region
+ * bounds are reported once to the dirty area and the map cache. Transitions are resolved on the region boundary only,
+ * as inner cells are surrounded by the same tile.
+ * </p>
+ * <p>
+ * Region cells are reported to the edits journal through the stroke before being set.
+ * </p>
+ */
+public final class TileFill
+{
+    /** Cell not visited. */
+    private static final byte UNKNOWN = 0;
+    /** Cell in region. */
+    private static final byte FILLED = 1;
+    /** Cell visited, out of region. */
+    private static final byte REJECTED = 2;
+    /** Horizontal offsets of the direct neighbors. */
+    private static final int[] DIRECT_X =
+    {
+        1, -1, 0, 0
+    };
+    /** Vertical offsets of the direct neighbors. */
+    private static final int[] DIRECT_Y =
+    {
+        0, 0, 1, -1
+    };
+
+    /** Map reference. */
+    private final MapTile map;
+    /** Map tile group reference. */
+    private final MapTileGroup mapGroup;
+    /** Stroke used for boundary resolution. */
+    private final TileStroke stroke;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
+    /** Region cells, also used as work queue. */
+    private int[] cells = new int[0];
+    /** Boundary cells. */
+    private int[] boundary = new int[0];
+    /** Cells state. */
+    private byte[] states = new byte[0];
+
+    /**
+     * Create fill.
+     * 
+     * @param map The map reference.
+     * @param stroke The stroke used for boundary resolution.
+     * @param dirty The dirty area.
+     * @param mapCache The map cache.
+     */
+    public TileFill(MapTile map, TileStroke stroke, WorldDirtyArea dirty, WorldMapCache mapCache)
+    {
+        super();
+
+        this.map = map;
+        this.stroke = stroke;
+        this.dirty = dirty;
+        this.mapCache = mapCache;
+        mapGroup = map.getFeature(MapTileGroup.class);
+    }
+
+    /**
+     * Fill the region connected to the cell, made of cells with the same tile number or the same group.
+     * 
+     * @param tx The horizontal start cell.
+     * @param ty The vertical start cell.
+     * @param number The filled tile number.
+     * @param group <code>true</code> to match cells of the same group, <code>false</code> of the same tile number.
+     * @return The number of filled cells.
+     */
+    public int flood(int tx, int ty, int number, boolean group)
+    {
+        final int width = map.getInTileWidth();
+        final int height = map.getInTileHeight();
+        if (tx < 0 || ty < 0 || tx >= width || ty >= height)
+        {
+            return 0;
+        }
+        final Tile start = map.getTile(tx, ty);
+        if (!group && start != null && start.getNumber() == number)
+        {
+            return 0;
+        }
+
+        prepare(width * height);
+        final Object key = getKey(start, group);
+        int head = 0;
+        int tail = 0;
+        cells[tail++] = ty * width + tx;
+        states[ty * width + tx] = FILLED;
+        while (head < tail)
+        {
+            final int cell = cells[head++];
+            final int x = cell % width;
+            final int y = cell / width;
+            for (int i = 0; i < DIRECT_X.length; i++)
+            {
+                final int nx = x + DIRECT_X[i];
+                final int ny = y + DIRECT_Y[i];
+                if (nx >= 0 && ny >= 0 && nx < width && ny < height && states[ny * width + nx] == UNKNOWN)
+                {
+                    final int neighbor = ny * width + nx;
+                    if (Objects.equals(key, getKey(map.getTile(nx, ny), group)))
+                    {
+                        states[neighbor] = FILLED;
+                        cells[tail++] = neighbor;
+                    }
+                    else
+                    {
+                        states[neighbor] = REJECTED;
+                    }
+                }
+            }
+        }
+        apply(tail, number);
+        return tail;
+    }
+
+    /**
+     * Fill the rectangle between two cells, included, clipped to map.
+     * 
+     * @param x0 The horizontal first cell.
+     * @param y0 The vertical first cell.
+     * @param x1 The horizontal second cell.
+     * @param y1 The vertical second cell.
+     * @param number The filled tile number.
+     * @return The number of filled cells.
+     */
+    public int rectangle(int x0, int y0, int x1, int y1, int number)
+    {
+        final int width = map.getInTileWidth();
+        final int height = map.getInTileHeight();
+        final int minX = Math.max(0, Math.min(x0, x1));
+        final int minY = Math.max(0, Math.min(y0, y1));
+        final int maxX = Math.min(width - 1, Math.max(x0, x1));
+        final int maxY = Math.min(height - 1, Math.max(y0, y1));
+
+        prepare(width * height);
+        int count = 0;
+        for (int y = minY; y <= maxY; y++)
+        {
+            for (int x = minX; x <= maxX; x++)
+            {
+                cells[count++] = y * width + x;
+                states[y * width + x] = FILLED;
+            }
+        }
+        apply(count, number);
+        return count;
+    }
+
+    /**
+     * Get the key matched by region cells.
+     * 
+     * @param tile The tile (can be <code>null</code>).
+     * @param group <code>true</code> for the tile group, <code>false</code> for the tile number.
+     * @return The tile key, <code>null</code> if no tile.
+     */
+    private Object getKey(Tile tile, boolean group)
+    {
+        if (tile == null)
+        {
+            return null;
+        }
+        if (group)
+        {
+            return mapGroup.getGroup(tile);
+        }
+        return Integer.valueOf(tile.getNumber());
+    }
+
+    /**
+     * Prepare buffers for a map size, reset cells state.
+     * 
+     * @param size The number of map cells.
+     */
+    private void prepare(int size)
+    {
+        if (states.length < size)
+        {
+            cells = new int[size];
+            boundary = new int[size];
+            states = new byte[size];
+        }
+        else
+        {
+            Arrays.fill(states, 0, size, UNKNOWN);
+        }
+    }
+
+    /**
+     * Set region cells on map, report region bounds once, then resolve its boundary.
+     * 
+     * @param count The number of region cells.
+     * @param number The filled tile number.
+     */
+    private void apply(int count, int number)
+    {
+        final int width = map.getInTileWidth();
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        int boundaries = 0;
+        for (int i = 0; i < count; i++)
+        {
+            final int x = cells[i] % width;
+            final int y = cells[i] / width;
+            stroke.record(x, y);
+            map.setTile(x, y, number);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            if (isBoundary(x, y))
+            {
+                boundary[boundaries++] = cells[i];
+            }
+        }
+        if (count > 0)
+        {
+            final int tw = map.getTileWidth();
+            final int th = map.getTileHeight();
+            final int areaWidth = maxX - minX + 1;
+            final int areaHeight = maxY - minY + 1;
+            mapCache.invalidateArea(minX, minY, areaWidth, areaHeight);
+            dirty.addWorld(minX * (double) tw, minY * (double) th, areaWidth * tw, areaHeight * th);
+            stroke.resolve(boundary, boundaries);
+        }
+    }
+
+    /**
+     * Check if region cell has a neighbor out of region, diagonals included.
+     * 
+     * @param x The horizontal cell.
+     * @param y The vertical cell.
+     * @return <code>true</code> if on region boundary, <code>false</code> if inside.
+     */
+    private boolean isBoundary(int x, int y)
+    {
+        final int width = map.getInTileWidth();
+        final int height = map.getInTileHeight();
+        boolean boundary = false;
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(height - 1, y + 1); ny++)
+        {
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++)
+            {
+                boundary |= states[ny * width + nx] != FILLED;
+            }
+        }
+        return boundary;
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.map.world.updater;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+import com.b3dgs.lionengine.game.feature.tile.TileGroupType;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
+import com.b3dgs.lionengine.game.feature.tile.map.transition.MapTileTransition;
+import com.b3dgs.lionengine.game.feature.tile.map.transition.circuit.MapTileCircuit;
+
+/**
+ * Tiles painted during a brush stroke, resolved together.
+ * <p>
+ * Each cell is set on map once per stroke, however many times the brush passes over it. Transitions and circuits are
+ * resolved on {@link #flush()}, at most every {@link #FLUSH_DELAY} during the stroke ({@link #update()}) and at its
+ * end: the union of pending cells neighborhoods is gathered first, then transitions are resolved once per pending cell
+ * on the union boundary, as inner cells are surrounded by the same tile, then circuits once per cell around them.
+ * </p>
+ * <p>
+ * Cells are tracked with a state per map cell and array work queues, without boxing. Painted cells and the cells a
+ * resolution can reach ({@link #TRANSITION_RADIUS}, {@link #CIRCUIT_RADIUS}) are reported once per stroke to the
+ * {@link WorldJournal} before being changed, so that undo restores every tile the resolvers replaced.
+ * </p>
+ */
+public final class TileStroke
+{
+    /** Minimum delay between two resolutions during a stroke in milli. */
+    static final long FLUSH_DELAY = 100L;
+    /** Nano to milli. */
+    private static final long NANO_TO_MILLI = 1_000_000L;
+    /** Cell painted since stroke start. */
+    private static final byte PAINTED = 1;
+    /** Cell pending resolution. */
+    private static final byte PENDING = 2;
+    /** Cell reported to journal since stroke start. */
+    private static final byte RECORDED = 4;
+    /** Cell pending circuit resolution. */
+    private static final byte CIRCUIT = 8;
+    /**
+     * Radius of cells changed by a transition resolution: the neighbors of the resolved tile, and the neighbors of the
+     * ones replaced by a transition tile, resolved in a second pass.
+     */
+    private static final int TRANSITION_RADIUS = 2;
+    /** Radius of cells changed by a circuit resolution: the resolved tile and its neighbors. */
+    private static final int CIRCUIT_RADIUS = 1;
+
+    /** Map reference. */
+    private final MapTile map;
+    /** Map tile group reference. */
+    private final MapTileGroup mapGroup;
+    /** Map tile transition reference. */
+    private final MapTileTransition mapTransition;
+    /** Map tile circuit reference. */
+    private final MapTileCircuit mapCircuit;
+    /** Edits journal. */
+    private final WorldJournal journal;
+    /** Changed tile notification. */
+    private final Consumer<Tile> changed;
+    /** Cells state flags. */
+    private byte[] states = new byte[0];
+    /** Painted cells not yet resolved, in paint order. */
+    private int[] pending = new int[0];
+    /** Number of pending cells. */
+    private int pendingCount;
+    /** Circuit cells to resolve. */
+    private int[] circuits = new int[0];
+    /** Number of circuit cells. */
+    private int circuitCount;
+    /** Last resolution time in nano. */
+    private long last;
+
+    /**
+     * Create stroke.
+     * 
+     * @param map The map reference.
+     * @param journal The edits journal.
+     * @param changed The changed tile notification (dirty area, cache invalidation).
+     */
+    public TileStroke(MapTile map, WorldJournal journal, Consumer<Tile> changed)
+    {
+        super();
+
+        this.map = map;
+        this.journal = journal;
+        this.changed = changed;
+        mapGroup = map.getFeature(MapTileGroup.class);
+        mapTransition = map.getFeature(MapTileTransition.class);
+        mapCircuit = map.getFeature(MapTileCircuit.class);
+    }
+
+    /**
+     * Start a new stroke, resolving the previous one if needed.
+     */
+    public void start()
+    {
+        flush();
+
+        final int size = map.getInTileWidth() * map.getInTileHeight();
+        if (states.length != size)
+        {
+            states = new byte[size];
+            pending = new int[size];
+            circuits = new int[size];
+        }
+        else
+        {
+            Arrays.fill(states, (byte) 0);
+        }
+    }
+
+    /**
+     * Paint the cell if inside map and not already painted during stroke. Resolution is deferred.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @param number The painted tile number.
+     */
+    void paint(int tx, int ty, int number)
+    {
+        if (isInside(tx, ty))
+        {
+            final int cell = ty * map.getInTileWidth() + tx;
+            if ((states[cell] & PAINTED) == 0)
+            {
+                states[cell] |= PAINTED;
+                record(tx, ty);
+                map.setTile(tx, ty, number);
+                changed.accept(map.getTile(tx, ty));
+                addPending(cell);
+            }
+        }
+    }
+
+    /**
+     * Resolve pending cells if delay elapsed since last resolution.
+     */
+    void update()
+    {
+        if ((System.nanoTime() - last) / NANO_TO_MILLI >= FLUSH_DELAY)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Resolve cells changed in bulk outside the stroke, with circuits around them.
+     * 
+     * @param cells The changed cells index (<code>ty * mapInTileWidth + tx</code>).
+     * @param count The number of cells to read.
+     */
+    void resolve(int[] cells, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            addPending(cells[i]);
+        }
+        flush();
+    }
+
+    /**
+     * Resolve transitions of pending cells, then circuits around them.
+     */
+    public void flush()
+    {
+        final int width = map.getInTileWidth();
+        for (int i = 0; i < pendingCount; i++)
+        {
+            recordArea(pending[i] % width, pending[i] / width, TRANSITION_RADIUS);
+        }
+        for (int i = 0; i < pendingCount; i++)
+        {
+            final int cell = pending[i];
+            final Tile tile = getTile(cell);
+            final TileGroupType groupType = mapGroup.getType(tile);
+            if (TileGroupType.PLAIN == groupType && isBoundary(cell % width, cell / width))
+            {
+                for (final Tile resolved : mapTransition.resolve(tile))
+                {
+                    changed.accept(resolved);
+                    addCircuitNeighbors(resolved);
+                }
+            }
+            if (TileGroupType.CIRCUIT == groupType)
+            {
+                addCircuit(cell);
+            }
+        }
+        for (int i = 0; i < pendingCount; i++)
+        {
+            states[pending[i]] &= ~PENDING;
+        }
+        for (int i = 0; i < circuitCount; i++)
+        {
+            recordArea(circuits[i] % width, circuits[i] / width, CIRCUIT_RADIUS);
+        }
+        for (int i = 0; i < circuitCount; i++)
+        {
+            final Tile tile = getTile(circuits[i]);
+            mapCircuit.resolve(tile);
+            changed.accept(tile);
+            for (final Tile neighbor : map.getNeighbors(tile))
+            {
+                changed.accept(neighbor);
+            }
+            states[circuits[i]] &= ~CIRCUIT;
+        }
+        pendingCount = 0;
+        circuitCount = 0;
+        last = System.nanoTime();
+    }
+
+    /**
+     * Report cell current tile to journal, once per stroke.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     */
+    void record(int tx, int ty)
+    {
+        final int cell = ty * map.getInTileWidth() + tx;
+        if ((states[cell] & RECORDED) == 0)
+        {
+            states[cell] |= RECORDED;
+            final Tile tile = map.getTile(tx, ty);
+            if (tile == null)
+            {
+                journal.addTile(tx, ty, WorldJournal.NONE);
+            }
+            else
+            {
+                journal.addTile(tx, ty, tile.getNumber());
+            }
+        }
+    }
+
+    /**
+     * Check if cell is inside map.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @return <code>true</code> if inside map, <code>false</code> else.
+     */
+    private boolean isInside(int tx, int ty)
+    {
+        return tx >= 0 && ty >= 0 && tx < map.getInTileWidth() && ty < map.getInTileHeight();
+    }
+
+    /**
+     * Check if pending cell has a neighbor not pending, diagonals included.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @return <code>true</code> if on pending union boundary, <code>false</code> if inside.
+     */
+    private boolean isBoundary(int tx, int ty)
+    {
+        final int width = map.getInTileWidth();
+        boolean boundary = false;
+        for (int y = Math.max(0, ty - 1); y <= Math.min(map.getInTileHeight() - 1, ty + 1); y++)
+        {
+            for (int x = Math.max(0, tx - 1); x <= Math.min(width - 1, tx + 1); x++)
+            {
+                boundary |= (states[y * width + x] & PENDING) == 0;
+            }
+        }
+        return boundary;
+    }
+
+    /**
+     * Report cells around a cell to journal, as resolution may change them.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @param radius The area radius in cells.
+     */
+    private void recordArea(int tx, int ty, int radius)
+    {
+        for (int y = Math.max(0, ty - radius); y <= Math.min(map.getInTileHeight() - 1, ty + radius); y++)
+        {
+            for (int x = Math.max(0, tx - radius); x <= Math.min(map.getInTileWidth() - 1, tx + radius); x++)
+            {
+                record(x, y);
+            }
+        }
+    }
+
+    /**
+     * Queue cell for resolution if not already pending.
+     * 
+     * @param cell The cell index.
+     */
+    private void addPending(int cell)
+    {
+        if ((states[cell] & PENDING) == 0)
+        {
+            states[cell] |= PENDING;
+            pending[pendingCount++] = cell;
+        }
+    }
+
+    /**
+     * Queue cell for circuit resolution if not already queued.
+     * 
+     * @param cell The cell index.
+     */
+    private void addCircuit(int cell)
+    {
+        if ((states[cell] & CIRCUIT) == 0)
+        {
+            states[cell] |= CIRCUIT;
+            circuits[circuitCount++] = cell;
+        }
+    }
+
+    /**
+     * Add circuit neighbors of a resolved tile, as transition resolution may break them.
+     * 
+     * @param resolved The resolved tile.
+     */
+    private void addCircuitNeighbors(Tile resolved)
+    {
+        for (final Tile neighbor : map.getNeighbors(resolved))
+        {
+            if (TileGroupType.CIRCUIT == mapGroup.getType(neighbor))
+            {
+                addCircuit(neighbor.getInTileY() * map.getInTileWidth() + neighbor.getInTileX());
+            }
+        }
+    }
+
+    /**
+     * Get the current map tile of a cell.
+     * 
+     * @param cell The cell index.
+     * @return The map tile.
+     */
+    private Tile getTile(int cell)
+    {
+        final int width = map.getInTileWidth();
+        return map.getTile(cell % width, cell / width);
+    }
+}
@@ -22,28 +22,41 @@ import java.util.Collection;
 import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.editor.map.sheet.palette.SheetPaletteType;
 import com.b3dgs.lionengine.editor.map.sheet.palette.SheetsPaletteModel;
+import com.b3dgs.lionengine.editor.map.sheet.palette.TileTool;
 import com.b3dgs.lionengine.editor.properties.PropertiesModel;
 import com.b3dgs.lionengine.editor.properties.PropertiesPart;
 import com.b3dgs.lionengine.editor.utility.UtilPart;
 import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.PaletteModel;
 import com.b3dgs.lionengine.editor.world.PaletteType;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
 import com.b3dgs.lionengine.editor.world.updater.WorldMouseClickListener;
 import com.b3dgs.lionengine.editor.world.updater.WorldMouseMoveListener;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.tile.Tile;
-import com.b3dgs.lionengine.game.feature.tile.TileGroupType;
 import com.b3dgs.lionengine.game.feature.tile.TileGroupsConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroupModel;
-import com.b3dgs.lionengine.game.feature.tile.map.transition.MapTileTransition;
-import com.b3dgs.lionengine.game.feature.tile.map.transition.circuit.MapTileCircuit;
+import com.b3dgs.lionengine.geom.Point;
 import com.b3dgs.lionengine.swt.graphic.MouseSwt;
 
 /**
  * Handle the interaction with tiles.
+ * <p>
+ * Tiles painted while dragging form a {@link TileStroke}, resolved at stroke end and periodically during it. Each
+ * mouse move paints the {@link TileBrush} along the segment from the previously pointed cell, as one batch.
+ * </p>
+ * <p>
+ * Fill tools change their whole region at once with {@link TileFill}: flood fill on press, rectangle between press and
+ * release cells.
+ * </p>
+ * <p>
+ * Each press to release sequence is recorded as one {@link WorldJournal} edit.
+ * </p>
  */
 public class WorldInteractionTile implements WorldMouseClickListener, WorldMouseMoveListener
 {
@@ -57,12 +70,26 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
     private final MapTile map;
     /** Map tile group reference. */
     private final MapTileGroup mapGroup;
-    /** Map tile transition reference. */
-    private final MapTileTransition mapTransition;
-    /** Map tile circuit reference. */
-    private final MapTileCircuit mapCircuit;
     /** Palette model. */
     private final PaletteModel palette;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
+    /** Edits journal. */
+    private final WorldJournal journal;
+    /** Current stroke. */
+    private final TileStroke stroke;
+    /** Tile brush. */
+    private final TileBrush brush = new TileBrush();
+    /** Region fill. */
+    private final TileFill fill;
+    /** Last painted horizontal cell. */
+    private int lastTx;
+    /** Last painted vertical cell. */
+    private int lastTy;
+    /** Painting flag, <code>true</code> if last painted cell is defined. */
+    private boolean painting;
     /** Selected tile. */
     private Tile selectedTile;
 
@@ -75,10 +102,13 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
     {
         camera = services.get(Camera.class);
         palette = services.get(PaletteModel.class);
+        dirty = services.get(WorldDirtyArea.class);
+        mapCache = services.get(WorldMapCache.class);
+        journal = services.get(WorldJournal.class);
         map = services.get(MapTile.class);
         mapGroup = map.getFeature(MapTileGroup.class);
-        mapTransition = map.getFeature(MapTileTransition.class);
-        mapCircuit = map.getFeature(MapTileCircuit.class);
+        stroke = new TileStroke(map, journal, this::addChanged);
+        fill = new TileFill(map, stroke, dirty, mapCache);
         tileSelectionListeners.add(listener);
     }
 
@@ -134,12 +164,17 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
         if (map.isCreated())
         {
             final Tile tile = UtilWorld.getTile(map, camera, mx, my);
-            updatePointerTile(tile);
+            updatePointerTile(tile, mx, my);
         }
         else
         {
             selectedTile = null;
         }
+        if (selectedTile != null)
+        {
+            // Selection listeners may change any tile (group assignment...)
+            dirty.invalidate();
+        }
         for (final TileSelectionListener current : tileSelectionListeners)
         {
             if (selectedTile != null)
@@ -158,8 +193,10 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
      * Update the pointer with current pointed tile depending of the palette.
      * 
      * @param tile The pointed tile.
+     * @param mx The horizontal mouse location.
+     * @param my The vertical mouse location.
      */
-    private void updatePointerTile(Tile tile)
+    private void updatePointerTile(Tile tile, int mx, int my)
     {
         final SheetPaletteType type = SheetsPaletteModel.INSTANCE.getSheetPaletteType();
         switch (type)
@@ -169,7 +206,7 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
                 break;
             case EDITION:
                 selectedTile = null;
-                updateTileEdition(tile);
+                updateTileEdition(mx, my);
                 break;
             default:
                 throw new LionEngineException(type);
@@ -177,50 +214,101 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
     }
 
     /**
-     * Update the tile edition from palette.
+     * Update the tile edition from palette, depending of the selected tool.
      * 
-     * @param tile The pointed tile.
+     * @param mx The horizontal mouse location.
+     * @param my The vertical mouse location.
      */
-    private void updateTileEdition(Tile tile)
+    private void updateTileEdition(int mx, int my)
     {
-        final int tilePalette = SheetsPaletteModel.INSTANCE.getSelectedTile();
-        if (tile != null)
+        final Point point = UtilWorld.getPoint(camera, mx, my);
+        final int tx = Math.floorDiv(point.getX(), map.getTileWidth());
+        final int ty = Math.floorDiv(point.getY(), map.getTileHeight());
+        final SheetsPaletteModel model = SheetsPaletteModel.INSTANCE;
+        final TileTool tool = model.getTileTool();
+        switch (tool)
         {
-            map.setTile(tile.getInTileX(), tile.getInTileY(), tilePalette);
+            case BRUSH:
+                updateBrush(tx, ty, model);
+                break;
+            case FILL_TILE:
+            case FILL_GROUP:
+                if (!painting)
+                {
+                    fill.flood(tx, ty, model.getSelectedTile(), TileTool.FILL_GROUP == tool);
+                    painting = true;
+                }
+                break;
+            case RECTANGLE:
+                if (!painting)
+                {
+                    lastTx = tx;
+                    lastTy = ty;
+                    painting = true;
+                }
+                break;
+            default:
+                throw new LionEngineException(tool);
+        }
+    }
 
-            final Tile newTile = map.getTile(tile.getInTileX(), tile.getInTileY());
-            final TileGroupType groupType = mapGroup.getType(newTile);
-            if (TileGroupType.PLAIN == groupType)
-            {
-                final Collection<Tile> resolved = mapTransition.resolve(newTile);
-                fixCircuits(resolved);
-            }
-            if (TileGroupType.CIRCUIT == groupType)
-            {
-                mapCircuit.resolve(newTile);
-            }
+    /**
+     * Paint brush from last painted cell to pointed cell.
+     * 
+     * @param tx The horizontal pointed cell.
+     * @param ty The vertical pointed cell.
+     * @param model The palette model.
+     */
+    private void updateBrush(int tx, int ty, SheetsPaletteModel model)
+    {
+        if (!painting)
+        {
+            lastTx = tx;
+            lastTy = ty;
+            painting = true;
         }
+
+        final int number = model.getSelectedTile();
+        brush.set(model.getBrushShape(), model.getBrushSize());
+        brush.paint(lastTx, lastTy, tx, ty, (x, y) -> stroke.paint(x, y, number));
+        stroke.update();
+
+        lastTx = tx;
+        lastTy = ty;
     }
 
     /**
-     * Fix circuits due to transition resolution close to existing circuits.
+     * Fill rectangle from pressed cell to released cell if rectangle tool is being used.
      * 
-     * @param resolved The list of updated tiles.
+     * @param mx The horizontal mouse location.
+     * @param my The vertical mouse location.
      */
-    private void fixCircuits(Collection<Tile> resolved)
+    private void updateRectangle(int mx, int my)
     {
-        for (final Tile resolvedTile : resolved)
+        final SheetsPaletteModel model = SheetsPaletteModel.INSTANCE;
+        if (painting
+            && map.isCreated()
+            && SheetPaletteType.EDITION == model.getSheetPaletteType()
+            && TileTool.RECTANGLE == model.getTileTool())
         {
-            for (final Tile neighbor : map.getNeighbors(resolvedTile))
-            {
-                if (TileGroupType.CIRCUIT == mapGroup.getType(neighbor))
-                {
-                    mapCircuit.resolve(neighbor);
-                }
-            }
+            final Point point = UtilWorld.getPoint(camera, mx, my);
+            final int tx = Math.floorDiv(point.getX(), map.getTileWidth());
+            final int ty = Math.floorDiv(point.getY(), map.getTileHeight());
+            fill.rectangle(lastTx, lastTy, tx, ty, model.getSelectedTile());
         }
     }
 
+    /**
+     * Add changed tile to dirty area and invalidate its map cache chunk.
+     * 
+     * @param tile The changed tile.
+     */
+    private void addChanged(Tile tile)
+    {
+        dirty.addTile(tile);
+        mapCache.invalidateTile(tile);
+    }
+
     /**
      * Check if property can be past from middle click.
      */
@@ -231,6 +319,8 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
         if (selectedTile != null && TileGroupsConfig.NODE_GROUP.equals(copy))
         {
             UtilWorld.changeTileGroup(mapGroup, mapGroup.getGroup(selectedTile), group, selectedTile);
+            mapCache.invalidate();
+            dirty.invalidate();
         }
     }
 
@@ -243,6 +333,9 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
     {
         if (palette.isPalette(PaletteType.POINTER_TILE))
         {
+            stroke.start();
+            journal.begin();
+            painting = false;
             updatePointerTile(mx, my, click);
         }
         if (click == MouseSwt.MIDDLE)
@@ -254,7 +347,13 @@ public class WorldInteractionTile implements WorldMouseClickListener, WorldMouse
     @Override
     public void onMouseReleased(int click, int mx, int my)
     {
-        // Nothing to do
+        updateRectangle(mx, my);
+        stroke.flush();
+        if (palette.isPalette(PaletteType.POINTER_TILE))
+        {
+            journal.end();
+        }
+        painting = false;
     }
 
     /*
@@ -29,6 +29,7 @@ import com.b3dgs.lionengine.editor.ObjectRepresentation;
 import com.b3dgs.lionengine.editor.object.ObjectsTester;
 import com.b3dgs.lionengine.editor.project.ProjectModel;
 import com.b3dgs.lionengine.editor.utility.UtilWorld;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
 import com.b3dgs.lionengine.game.Configurer;
 import com.b3dgs.lionengine.game.FeatureProvider;
 import com.b3dgs.lionengine.game.SizeConfig;
@@ -47,6 +48,10 @@ import com.b3dgs.lionengine.geom.Rectangle;
 
 /**
  * Allows to control the object on the editor with the mouse.
+ * <p>
+ * Each dragging is recorded as one {@link WorldJournal} edit, with the move of each dragged object from dragging start
+ * to {@link #stopDragging()}.
+ * </p>
  */
 public class ObjectControl
 {
@@ -54,6 +59,8 @@ public class ObjectControl
     private final Map<Transformable, Boolean> objectsOver = new HashMap<>();
     /** Mouse selection object flag. */
     private final Map<Transformable, Boolean> objectsSelection = new HashMap<>();
+    /** Dragged objects location at dragging start. */
+    private final Map<Transformable, double[]> origins = new HashMap<>();
     /** Camera reference. */
     private final Camera camera;
     /** Spawner reference. */
@@ -62,6 +69,8 @@ public class ObjectControl
     private final MapTile map;
     /** Handler object. */
     private final Handler handler;
+    /** Edits journal. */
+    private final WorldJournal journal;
     /** Moving object flag. */
     private boolean dragging;
 
@@ -78,6 +87,22 @@ public class ObjectControl
         map = services.get(MapTile.class);
         handler = services.get(Handler.class);
         spawner = services.get(Spawner.class);
+        journal = services.get(WorldJournal.class);
+    }
+
+    /**
+     * Start recording a dragging, storing selected objects location.
+     */
+    private void startMoves()
+    {
+        journal.begin();
+        for (final Transformable transformable : getSelectedObjects())
+        {
+            origins.put(transformable, new double[]
+            {
+                transformable.getX(), transformable.getY()
+            });
+        }
     }
 
     /**
@@ -109,6 +134,7 @@ public class ObjectControl
         if (!dragging)
         {
             dragging = true;
+            startMoves();
         }
         for (final Transformable transformable : handler.get(Transformable.class))
         {
@@ -129,11 +155,21 @@ public class ObjectControl
     }
 
     /**
-     * Stop the dragging.
+     * Stop the dragging, recording dragged objects move since dragging start.
      */
     public void stopDragging()
     {
         dragging = false;
+        for (final Map.Entry<Transformable, double[]> origin : origins.entrySet())
+        {
+            final Transformable transformable = origin.getKey();
+            final double[] location = origin.getValue();
+            journal.addMove(transformable.getFeature(Identifiable.class).getId().intValue(),
+                            transformable.getX() - location[0],
+                            transformable.getY() - location[1]);
+        }
+        origins.clear();
+        journal.end();
     }
 
     /**
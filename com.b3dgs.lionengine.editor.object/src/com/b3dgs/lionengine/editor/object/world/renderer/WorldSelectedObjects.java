@@ -16,14 +16,19 @@
  */
 package com.b3dgs.lionengine.editor.object.world.renderer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 import com.b3dgs.lionengine.Origin;
 import com.b3dgs.lionengine.editor.ObjectRepresentation;
 import com.b3dgs.lionengine.editor.object.world.ObjectControl;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.renderer.WorldRenderListener;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Handler;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionengine.geom.Rectangle;
 import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 
@@ -35,12 +40,29 @@ public class WorldSelectedObjects implements WorldRenderListener
     /** Color of the box around the selected object. */
     private static final ColorRgba COLOR_ENTITY_SELECTION = new ColorRgba(128, 240, 128, 192);
 
+    /**
+     * Add object screen area to dirty area.
+     * 
+     * @param area The dirty area.
+     * @param object The object reference.
+     */
+    private static void addDirty(WorldDirtyArea area, ObjectRepresentation object)
+    {
+        final Rectangle rectangle = object.getRectangle();
+        area.addView((int) Math.floor(rectangle.getX()),
+                     (int) Math.floor(rectangle.getY()),
+                     rectangle.getWidth() + 1,
+                     rectangle.getHeight() + 1);
+    }
+
     /** Camera reference. */
     private final Camera camera;
     /** Handler object. */
     private final Handler handlerObject;
     /** Object controller. */
     private final ObjectControl objectControl;
+    /** Last rendered objects. */
+    private final Collection<ObjectRepresentation> rendered = new ArrayList<>();
 
     /**
      * Create the renderer.
@@ -61,6 +83,7 @@ public class WorldSelectedObjects implements WorldRenderListener
     @Override
     public void onRender(Graphic g, int width, int height, double scale, int tw, int th)
     {
+        rendered.clear();
         g.setColor(COLOR_ENTITY_SELECTION);
 
         for (final ObjectRepresentation object : handlerObject.get(ObjectRepresentation.class))
@@ -76,6 +99,24 @@ public class WorldSelectedObjects implements WorldRenderListener
                            (int) (transformable.getWidth() * scale),
                            (int) (transformable.getHeight() * scale),
                            true);
+                rendered.add(object);
+            }
+        }
+    }
+
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        for (final ObjectRepresentation object : rendered)
+        {
+            addDirty(area, object);
+        }
+        for (final ObjectRepresentation object : handlerObject.get(ObjectRepresentation.class))
+        {
+            final Transformable transformable = object.getFeature(Transformable.class);
+            if (objectControl.isOver(transformable) || objectControl.isSelected(transformable))
+            {
+                addDirty(area, object);
             }
         }
     }
@@ -25,13 +25,16 @@ import com.b3dgs.lionengine.editor.object.world.ObjectControl;
 import com.b3dgs.lionengine.editor.world.PaletteModel;
 import com.b3dgs.lionengine.editor.world.PaletteType;
 import com.b3dgs.lionengine.editor.world.Selection;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.updater.WorldMouseClickListener;
 import com.b3dgs.lionengine.editor.world.updater.WorldMouseMoveListener;
 import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handler;
 import com.b3dgs.lionengine.game.feature.Refreshable;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.Transformable;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.geom.Rectangle;
 import com.b3dgs.lionengine.swt.graphic.MouseSwt;
 
 /**
@@ -49,6 +52,10 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
     private final PaletteModel palette;
     /** Map reference. */
     private final MapTile map;
+    /** Handler reference. */
+    private final Handler handler;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
 
     /**
      * Create the interactions handler.
@@ -63,6 +70,8 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         selection = services.get(Selection.class);
         palette = services.get(PaletteModel.class);
         map = services.get(MapTile.class);
+        handler = services.get(Handler.class);
+        dirty = services.get(WorldDirtyArea.class);
     }
 
     /**
@@ -85,6 +94,24 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         objectSelectionListeners.remove(listener);
     }
 
+    /**
+     * Add the selected objects screen area to the dirty area.
+     */
+    private void addDirtySelected()
+    {
+        for (final ObjectRepresentation object : handler.get(ObjectRepresentation.class))
+        {
+            if (objectControl.isSelected(object.getFeature(Transformable.class)))
+            {
+                final Rectangle rectangle = object.getRectangle();
+                dirty.addView((int) Math.floor(rectangle.getX()),
+                              (int) Math.floor(rectangle.getY()),
+                              rectangle.getWidth() + 1,
+                              rectangle.getHeight() + 1);
+            }
+        }
+    }
+
     /**
      * Update the pointer in factory case.
      * 
@@ -163,7 +190,9 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         objectControl.updateMouseOver(mx, my);
         if (click == MouseSwt.LEFT)
         {
+            addDirtySelected();
             objectControl.updateDragging(oldMx, oldMy, mx, my);
+            addDirtySelected();
         }
     }
 
@@ -172,11 +201,11 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
      */
     private void endDragging()
     {
-        objectControl.stopDragging();
         for (final Transformable transformable : objectControl.getSelectedObjects())
         {
             alignToGrid(transformable);
         }
+        objectControl.stopDragging();
     }
 
     /**
@@ -213,7 +242,9 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         }
         else
         {
+            addDirtySelected();
             objectControl.updateDragging(oldMx, oldMy, mx, my);
+            addDirtySelected();
         }
     }
 
@@ -235,6 +266,7 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         {
             alignToGrid(transformable);
         }
+        objectControl.stopDragging();
         if (selections.size() == 1)
         {
             final Transformable object = selections.toArray(new Transformable[1])[0];
@@ -263,10 +295,12 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         {
             controlObject(click, mx, my);
             selectObject(mx, my);
+            dirty.invalidate();
         }
         else if (palette.isPalette(PaletteType.SELECTION))
         {
             startSelection(mx, my);
+            dirty.invalidate();
         }
     }
 
@@ -276,10 +310,12 @@ public class WorldInteractionObject implements WorldMouseClickListener, WorldMou
         if (palette.isPalette(PaletteType.POINTER_OBJECT))
         {
             endDragging();
+            dirty.invalidate();
         }
         else if (palette.isPalette(PaletteType.SELECTION))
         {
             endSelection(mx, my);
+            dirty.invalidate();
         }
     }
 
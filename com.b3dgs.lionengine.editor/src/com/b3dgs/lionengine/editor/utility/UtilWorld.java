@@ -24,12 +24,15 @@ import com.b3dgs.lionengine.LionEngineException;
 import com.b3dgs.lionengine.Media;
 import com.b3dgs.lionengine.Shape;
 import com.b3dgs.lionengine.Xml;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
+import com.b3dgs.lionengine.editor.world.WorldModel;
 import com.b3dgs.lionengine.game.feature.tile.Tile;
 import com.b3dgs.lionengine.game.feature.tile.TileConfig;
 import com.b3dgs.lionengine.game.feature.tile.TileGroupsConfig;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTileGroup;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.CollisionGroup;
+import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollision;
 import com.b3dgs.lionengine.geom.Point;
 
 /**
@@ -68,6 +71,20 @@ public final class UtilWorld
         return map.getTileAt(x, y);
     }
 
+    /**
+     * Load map collisions and invalidate the cached map rendering, which includes the collisions overlay.
+     * Collisions must always be reloaded from here to keep the world up to date.
+     * 
+     * @param mapCollision The map collision reference.
+     * @param formulas The formulas configuration.
+     * @param collisions The collisions configuration.
+     */
+    public static void loadCollisions(MapTileCollision mapCollision, Media formulas, Media collisions)
+    {
+        mapCollision.loadCollisions(formulas, collisions);
+        WorldModel.INSTANCE.getServices().get(WorldMapCache.class).invalidate();
+    }
+
     /**
      * Change tile group.
      * 
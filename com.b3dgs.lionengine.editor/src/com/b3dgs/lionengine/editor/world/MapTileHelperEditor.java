@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world;
+
+import java.util.BitSet;
+
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+import com.b3dgs.lionengine.helper.MapTileHelper;
+
+/**
+ * Specific implementation for editor, allowing to remove a tile from a cell.
+ * <p>
+ * Removed cells are flagged, and return no tile until a tile is set again on them.
+ * </p>
+ */
+public class MapTileHelperEditor extends MapTileHelper
+{
+    /** Removed cells (<code>ty * inTileWidth + tx</code>). */
+    private final BitSet removed = new BitSet();
+
+    /**
+     * Create map.
+     * 
+     * @param services The services reference.
+     */
+    public MapTileHelperEditor(Services services)
+    {
+        super(services);
+    }
+
+    /**
+     * Remove the tile of a cell.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     */
+    public void removeTile(int tx, int ty)
+    {
+        removed.set(ty * getInTileWidth() + tx);
+    }
+
+    /*
+     * MapTileHelper
+     */
+
+    @Override
+    public void setTile(int tx, int ty, int number)
+    {
+        removed.clear(ty * getInTileWidth() + tx);
+        super.setTile(tx, ty, number);
+    }
+
+    @Override
+    public Tile getTile(int tx, int ty)
+    {
+        if (tx >= 0 && ty >= 0 && tx < getInTileWidth() && removed.get(ty * getInTileWidth() + tx))
+        {
+            return null;
+        }
+        return super.getTile(tx, ty);
+    }
+}
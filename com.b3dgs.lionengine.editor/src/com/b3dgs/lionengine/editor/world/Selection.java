@@ -41,6 +41,16 @@ public class Selection
     private boolean selecting;
     /** Selected flag. */
     private boolean selected;
+    /** Last rendered horizontal location. */
+    private int renderedX;
+    /** Last rendered vertical location. */
+    private int renderedY;
+    /** Last rendered width. */
+    private int renderedWidth;
+    /** Last rendered height. */
+    private int renderedHeight;
+    /** Rendered flag. */
+    private boolean rendered;
 
     /**
      * Create the selection updater.
@@ -150,14 +160,52 @@ public class Selection
      */
     public void render(Graphic g, ColorRgba color)
     {
-        if (isSelecting())
+        render(g, color, 0);
+    }
+
+    /**
+     * Draw the current selection on an output of lower level of detail.
+     * 
+     * @param g The graphic output.
+     * @param color The selection color.
+     * @param level The level of detail, output resolution being divided by <code>2^level</code>.
+     */
+    public void render(Graphic g, ColorRgba color, int level)
+    {
+        rendered = isSelecting();
+        if (rendered)
         {
             final int sx = startX;
             final int sy = startY;
             final int w = endX - sx;
             final int h = endY - sy;
             g.setColor(color);
-            g.drawRect(sx, sy, w, h, true);
+            g.drawRect(sx >> level, sy >> level, w >> level, h >> level, true);
+
+            renderedX = Math.min(startX, endX);
+            renderedY = Math.min(startY, endY);
+            renderedWidth = Math.abs(w) + 1;
+            renderedHeight = Math.abs(h) + 1;
+        }
+    }
+
+    /**
+     * Report the area changed since last rendering (previous selection and current selection).
+     * 
+     * @param area The dirty area to fill.
+     */
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        if (rendered)
+        {
+            area.addView(renderedX, renderedY, renderedWidth, renderedHeight);
+        }
+        if (isSelecting())
+        {
+            area.addView(Math.min(startX, endX),
+                         Math.min(startY, endY),
+                         Math.abs(endX - startX) + 1,
+                         Math.abs(endY - startY) + 1);
         }
     }
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world;
+
+import com.b3dgs.lionengine.game.feature.Camera;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+
+/**
+ * Represents the world area changed since last redraw, used to only repaint the changed part of the view.
+ * <p>
+ * Area is stored in view coordinates (unscaled, top-left origin), world locations are converted with the camera.
+ * A full invalidation means the whole view must be repainted (camera moved, zoom changed...).
+ * </p>
+ */
+public class WorldDirtyArea
+{
+    /** Camera reference. */
+    private final Camera camera;
+    /** Area left (inclusive). */
+    private int minX;
+    /** Area top (inclusive). */
+    private int minY;
+    /** Area right (exclusive). */
+    private int maxX;
+    /** Area bottom (exclusive). */
+    private int maxY;
+    /** Has area flag. */
+    private boolean area;
+    /** Full invalidation flag. */
+    private boolean full;
+
+    /**
+     * Create the dirty area.
+     * 
+     * @param camera The camera reference.
+     */
+    public WorldDirtyArea(Camera camera)
+    {
+        this.camera = camera;
+    }
+
+    /**
+     * Add a view area.
+     * 
+     * @param x The horizontal view location.
+     * @param y The vertical view location.
+     * @param width The area width.
+     * @param height The area height.
+     */
+    public void addView(int x, int y, int width, int height)
+    {
+        if (full || width < 0 || height < 0)
+        {
+            return;
+        }
+        if (area)
+        {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x + width);
+            maxY = Math.max(maxY, y + height);
+        }
+        else
+        {
+            minX = x;
+            minY = y;
+            maxX = x + width;
+            maxY = y + height;
+            area = true;
+        }
+    }
+
+    /**
+     * Add a world area.
+     * 
+     * @param x The horizontal world location (left).
+     * @param y The vertical world location (bottom).
+     * @param width The area width.
+     * @param height The area height.
+     */
+    public void addWorld(double x, double y, int width, int height)
+    {
+        final int vx = (int) Math.floor(camera.getViewpointX(x));
+        final int vy = (int) Math.floor(camera.getViewpointY(y)) - height;
+        addView(vx, vy, width, height);
+    }
+
+    /**
+     * Add a tile area.
+     * 
+     * @param tile The tile reference (can be <code>null</code>).
+     */
+    public void addTile(Tile tile)
+    {
+        if (tile != null)
+        {
+            addWorld(tile.getX(), tile.getY(), tile.getWidth(), tile.getHeight());
+        }
+    }
+
+    /**
+     * Invalidate the whole view.
+     */
+    public void invalidate()
+    {
+        full = true;
+    }
+
+    /**
+     * Reset area once redraw has been requested.
+     */
+    public void reset()
+    {
+        area = false;
+        full = false;
+    }
+
+    /**
+     * Check if the whole view must be repainted.
+     * 
+     * @return <code>true</code> if full invalidation, <code>false</code> else.
+     */
+    public boolean isFull()
+    {
+        return full;
+    }
+
+    /**
+     * Check if nothing changed.
+     * 
+     * @return <code>true</code> if no area and no full invalidation, <code>false</code> else.
+     */
+    public boolean isEmpty()
+    {
+        return !full && !area;
+    }
+
+    /**
+     * Get the area left location.
+     * 
+     * @return The area left location.
+     */
+    public int getX()
+    {
+        return minX;
+    }
+
+    /**
+     * Get the area top location.
+     * 
+     * @return The area top location.
+     */
+    public int getY()
+    {
+        return minY;
+    }
+
+    /**
+     * Get the area width.
+     * 
+     * @return The area width.
+     */
+    public int getWidth()
+    {
+        return maxX - minX;
+    }
+
+    /**
+     * Get the area height.
+     * 
+     * @return The area height.
+     */
+    public int getHeight()
+    {
+        return maxY - minY;
+    }
+}
@@ -0,0 +1,547 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.b3dgs.lionengine.game.feature.Featurable;
+import com.b3dgs.lionengine.game.feature.Handler;
+import com.b3dgs.lionengine.game.feature.Identifiable;
+import com.b3dgs.lionengine.game.feature.Refreshable;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.Transformable;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+
+/**
+ * Undo and redo journal of world edits, stored as delta records in primitive arrays.
+ * <p>
+ * An edit is recorded between {@link #begin()} and {@link #end()}, usually a whole mouse stroke. Tile records are
+ * <code>(tx, ty, oldNumber, newNumber)</code>: cells are reported with {@link #addTile(int, int, int)} before being
+ * changed, and coalesced on {@link #end()}, keeping the first old number and reading the new one from map, dropping
+ * unchanged cells. Cells without tile before or after the edit are recorded with {@link #NONE}, and their tile is
+ * removed when applied. Object records are <code>(id, dx, dy)</code>. Undo and redo only apply the recorded cells and
+ * moves, the map is never copied.
+ * </p>
+ * <p>
+ * Records refer to the current map, so the journal must be cleared with {@link #clear()} once a map is loaded.
+ * </p>
+ * <p>
+ * Records size is bounded by a memory budget: oldest edits are dropped when exceeded, the last one is always kept.
+ * </p>
+ */
+public class WorldJournal
+{
+    /** Default records budget in bytes. */
+    public static final int DEFAULT_BUDGET = 8 * 1024 * 1024;
+    /** No tile number, the cell tile is removed when applied. */
+    public static final int NONE = -1;
+    /** Integers per tile record. */
+    private static final int TILE_RECORD = 4;
+    /** Doubles per move record. */
+    private static final int MOVE_RECORD = 2;
+    /** Tile record size in bytes. */
+    private static final int TILE_BYTES = TILE_RECORD * Integer.BYTES;
+    /** Move record size in bytes. */
+    private static final int MOVE_BYTES = Integer.BYTES + MOVE_RECORD * Double.BYTES;
+    /** Initial capacity in records. */
+    private static final int CAPACITY = 64;
+
+    /**
+     * Ensure array capacity, doubling it if needed.
+     * 
+     * @param array The array reference.
+     * @param length The required length.
+     * @return The array with enough capacity.
+     */
+    private static int[] ensure(int[] array, int length)
+    {
+        if (array.length < length)
+        {
+            return Arrays.copyOf(array, Math.max(length, array.length * 2));
+        }
+        return array;
+    }
+
+    /**
+     * Ensure array capacity, doubling it if needed.
+     * 
+     * @param array The array reference.
+     * @param length The required length.
+     * @return The array with enough capacity.
+     */
+    private static double[] ensure(double[] array, int length)
+    {
+        if (array.length < length)
+        {
+            return Arrays.copyOf(array, Math.max(length, array.length * 2));
+        }
+        return array;
+    }
+
+    /** Map reference. */
+    private final MapTileHelperEditor map;
+    /** Handler reference. */
+    private final Handler handler;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
+    /** Tile records. */
+    private int[] tiles = new int[CAPACITY * TILE_RECORD];
+    /** Number of tile records. */
+    private int tileCount;
+    /** Moved objects id. */
+    private int[] moveIds = new int[CAPACITY];
+    /** Moves delta. */
+    private double[] moveDeltas = new double[CAPACITY * MOVE_RECORD];
+    /** Number of move records. */
+    private int moveCount;
+    /** Tile records end per edit. */
+    private int[] entryTiles = new int[CAPACITY];
+    /** Move records end per edit. */
+    private int[] entryMoves = new int[CAPACITY];
+    /** Number of edits. */
+    private int entries;
+    /** Number of applied edits, next undone edit is the previous one. */
+    private int cursor;
+    /** Records budget in bytes. */
+    private int budget = DEFAULT_BUDGET;
+    /** Recording flag. */
+    private boolean recording;
+
+    /**
+     * Create journal.
+     * 
+     * @param services The services reference.
+     */
+    public WorldJournal(Services services)
+    {
+        super();
+
+        map = services.get(MapTileHelperEditor.class);
+        handler = services.get(Handler.class);
+        dirty = services.get(WorldDirtyArea.class);
+        mapCache = services.get(WorldMapCache.class);
+    }
+
+    /**
+     * Start recording an edit. Edits undone are kept until the edit changes something.
+     */
+    public void begin()
+    {
+        tileCount = getTileStart(entries);
+        moveCount = getMoveStart(entries);
+        recording = true;
+    }
+
+    /**
+     * Record a cell before its change. Ignored if not recording.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @param oldNumber The tile number before change, {@link #NONE} if no tile.
+     */
+    public void addTile(int tx, int ty, int oldNumber)
+    {
+        if (recording)
+        {
+            tiles = ensure(tiles, (tileCount + 1) * TILE_RECORD);
+            final int offset = tileCount * TILE_RECORD;
+            tiles[offset] = tx;
+            tiles[offset + 1] = ty;
+            tiles[offset + 2] = oldNumber;
+            tiles[offset + 3] = oldNumber;
+            tileCount++;
+        }
+    }
+
+    /**
+     * Record an object move. Ignored if not recording.
+     * 
+     * @param id The object id.
+     * @param dx The horizontal move.
+     * @param dy The vertical move.
+     */
+    public void addMove(int id, double dx, double dy)
+    {
+        if (recording && (Double.compare(dx, 0.0) != 0 || Double.compare(dy, 0.0) != 0))
+        {
+            moveIds = ensure(moveIds, moveCount + 1);
+            moveDeltas = ensure(moveDeltas, (moveCount + 1) * MOVE_RECORD);
+            moveIds[moveCount] = id;
+            moveDeltas[moveCount * MOVE_RECORD] = dx;
+            moveDeltas[moveCount * MOVE_RECORD + 1] = dy;
+            moveCount++;
+        }
+    }
+
+    /**
+     * End the current edit. Discarded if nothing changed, else edits undone are discarded.
+     */
+    public void end()
+    {
+        if (recording)
+        {
+            recording = false;
+            coalesce(getTileStart(entries));
+            if (tileCount > getTileStart(entries) || moveCount > getMoveStart(entries))
+            {
+                discardUndone();
+                entryTiles = ensure(entryTiles, entries + 1);
+                entryMoves = ensure(entryMoves, entries + 1);
+                entryTiles[entries] = tileCount;
+                entryMoves[entries] = moveCount;
+                entries++;
+                cursor = entries;
+                trim();
+            }
+        }
+    }
+
+    /**
+     * Undo the last applied edit if exists and not recording.
+     */
+    public void undo()
+    {
+        if (!recording && cursor > 0)
+        {
+            cursor--;
+            applyTiles(cursor, true);
+            applyMoves(cursor, true);
+        }
+    }
+
+    /**
+     * Redo the last undone edit if exists and not recording.
+     */
+    public void redo()
+    {
+        if (!recording && cursor < entries)
+        {
+            applyTiles(cursor, false);
+            applyMoves(cursor, false);
+            cursor++;
+        }
+    }
+
+    /**
+     * Clear all edits, to be called when map is loaded.
+     */
+    public void clear()
+    {
+        tileCount = 0;
+        moveCount = 0;
+        entries = 0;
+        cursor = 0;
+        recording = false;
+    }
+
+    /**
+     * Set the records budget. Oldest edits are dropped if exceeded.
+     * 
+     * @param budget The budget in bytes.
+     */
+    public void setBudget(int budget)
+    {
+        this.budget = budget;
+        trim();
+    }
+
+    /**
+     * Get the records size.
+     * 
+     * @return The records size in bytes.
+     */
+    public int getSize()
+    {
+        return getSize(0);
+    }
+
+    /**
+     * Check if an edit can be undone.
+     * 
+     * @return <code>true</code> if can undo, <code>false</code> else.
+     */
+    public boolean canUndo()
+    {
+        return !recording && cursor > 0;
+    }
+
+    /**
+     * Check if an edit can be redone.
+     * 
+     * @return <code>true</code> if can redo, <code>false</code> else.
+     */
+    public boolean canRedo()
+    {
+        return !recording && cursor < entries;
+    }
+
+    /**
+     * Get the first tile record of an edit.
+     * 
+     * @param entry The edit index.
+     * @return The first tile record.
+     */
+    private int getTileStart(int entry)
+    {
+        if (entry > 0)
+        {
+            return entryTiles[entry - 1];
+        }
+        return 0;
+    }
+
+    /**
+     * Get the first move record of an edit.
+     * 
+     * @param entry The edit index.
+     * @return The first move record.
+     */
+    private int getMoveStart(int entry)
+    {
+        if (entry > 0)
+        {
+            return entryMoves[entry - 1];
+        }
+        return 0;
+    }
+
+    /**
+     * Get the current tile number of a cell.
+     * 
+     * @param tx The horizontal cell.
+     * @param ty The vertical cell.
+     * @return The tile number, {@link #NONE} if no tile.
+     */
+    private int getNumber(int tx, int ty)
+    {
+        final Tile tile = map.getTile(tx, ty);
+        if (tile == null)
+        {
+            return NONE;
+        }
+        return tile.getNumber();
+    }
+
+    /**
+     * Keep first record of each cell since start, with its current number as new number, dropping unchanged cells.
+     * 
+     * @param start The first tile record of the edit.
+     */
+    private void coalesce(int start)
+    {
+        final Set<Long> cells = new HashSet<>();
+        int count = start;
+        for (int i = start; i < tileCount; i++)
+        {
+            final int offset = i * TILE_RECORD;
+            final int tx = tiles[offset];
+            final int ty = tiles[offset + 1];
+            final int oldNumber = tiles[offset + 2];
+            final int newNumber = getNumber(tx, ty);
+            if (cells.add(Long.valueOf((long) tx << Integer.SIZE | ty & 0xFFFF_FFFFL)) && newNumber != oldNumber)
+            {
+                final int destination = count * TILE_RECORD;
+                tiles[destination] = tx;
+                tiles[destination + 1] = ty;
+                tiles[destination + 2] = oldNumber;
+                tiles[destination + 3] = newNumber;
+                count++;
+            }
+        }
+        tileCount = count;
+    }
+
+    /**
+     * Discard edits undone, moving the current edit records after the last applied edit.
+     */
+    private void discardUndone()
+    {
+        if (entries > cursor)
+        {
+            final int tileFrom = getTileStart(entries);
+            final int moveFrom = getMoveStart(entries);
+            final int tileTo = getTileStart(cursor);
+            final int moveTo = getMoveStart(cursor);
+            System.arraycopy(tiles,
+                             tileFrom * TILE_RECORD,
+                             tiles,
+                             tileTo * TILE_RECORD,
+                             (tileCount - tileFrom) * TILE_RECORD);
+            System.arraycopy(moveIds, moveFrom, moveIds, moveTo, moveCount - moveFrom);
+            System.arraycopy(moveDeltas,
+                             moveFrom * MOVE_RECORD,
+                             moveDeltas,
+                             moveTo * MOVE_RECORD,
+                             (moveCount - moveFrom) * MOVE_RECORD);
+            tileCount -= tileFrom - tileTo;
+            moveCount -= moveFrom - moveTo;
+            entries = cursor;
+        }
+    }
+
+    /**
+     * Get the records size from an edit to the last one.
+     * 
+     * @param entry The first edit index.
+     * @return The records size in bytes.
+     */
+    private int getSize(int entry)
+    {
+        return (tileCount - getTileStart(entry)) * TILE_BYTES + (moveCount - getMoveStart(entry)) * MOVE_BYTES;
+    }
+
+    /**
+     * Drop oldest applied edits while records exceed budget, keeping at least the last one.
+     */
+    private void trim()
+    {
+        final int max = Math.min(cursor, entries - 1);
+        int dropped = 0;
+        while (dropped < max && getSize(dropped) > budget)
+        {
+            dropped++;
+        }
+        if (dropped > 0)
+        {
+            drop(dropped);
+        }
+    }
+
+    /**
+     * Drop oldest edits, shifting the next ones records.
+     * 
+     * @param count The number of edits to drop.
+     */
+    private void drop(int count)
+    {
+        final int tileStart = entryTiles[count - 1];
+        final int moveStart = entryMoves[count - 1];
+        System.arraycopy(tiles, tileStart * TILE_RECORD, tiles, 0, (tileCount - tileStart) * TILE_RECORD);
+        System.arraycopy(moveIds, moveStart, moveIds, 0, moveCount - moveStart);
+        System.arraycopy(moveDeltas, moveStart * MOVE_RECORD, moveDeltas, 0, (moveCount - moveStart) * MOVE_RECORD);
+        for (int i = count; i < entries; i++)
+        {
+            entryTiles[i - count] = entryTiles[i] - tileStart;
+            entryMoves[i - count] = entryMoves[i] - moveStart;
+        }
+        tileCount -= tileStart;
+        moveCount -= moveStart;
+        entries -= count;
+        cursor -= count;
+    }
+
+    /**
+     * Apply tile records of an edit, in reverse order with old numbers to undo. Cells without tile are removed.
+     * 
+     * @param entry The edit index.
+     * @param undo <code>true</code> to undo, <code>false</code> to redo.
+     */
+    private void applyTiles(int entry, boolean undo)
+    {
+        final int start = getTileStart(entry);
+        final int end = entryTiles[entry];
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = start; i < end; i++)
+        {
+            final int offset;
+            if (undo)
+            {
+                offset = (end - 1 - i + start) * TILE_RECORD;
+            }
+            else
+            {
+                offset = i * TILE_RECORD;
+            }
+            final int tx = tiles[offset];
+            final int ty = tiles[offset + 1];
+            final int number = tiles[offset + (undo ? 2 : 3)];
+            if (number == NONE)
+            {
+                map.removeTile(tx, ty);
+            }
+            else
+            {
+                map.setTile(tx, ty, number);
+            }
+            minX = Math.min(minX, tx);
+            minY = Math.min(minY, ty);
+            maxX = Math.max(maxX, tx);
+            maxY = Math.max(maxY, ty);
+        }
+        if (end > start)
+        {
+            final int tw = map.getTileWidth();
+            final int th = map.getTileHeight();
+            final int width = maxX - minX + 1;
+            final int height = maxY - minY + 1;
+            mapCache.invalidateArea(minX, minY, width, height);
+            dirty.addWorld(minX * (double) tw, minY * (double) th, width * tw, height * th);
+        }
+    }
+
+    /**
+     * Apply move records of an edit, in reverse order with opposite delta to undo. Removed objects are ignored.
+     * 
+     * @param entry The edit index.
+     * @param undo <code>true</code> to undo, <code>false</code> to redo.
+     */
+    private void applyMoves(int entry, boolean undo)
+    {
+        final int start = getMoveStart(entry);
+        final int end = entryMoves[entry];
+        if (end > start)
+        {
+            final Map<Integer, Transformable> objects = new HashMap<>();
+            for (final Featurable featurable : handler.values())
+            {
+                objects.put(featurable.getFeature(Identifiable.class).getId(),
+                            featurable.getFeature(Transformable.class));
+            }
+            final double sign = undo ? -1.0 : 1.0;
+            for (int i = start; i < end; i++)
+            {
+                final int index;
+                if (undo)
+                {
+                    index = end - 1 - i + start;
+                }
+                else
+                {
+                    index = i;
+                }
+                final Transformable transformable = objects.get(Integer.valueOf(moveIds[index]));
+                if (transformable != null)
+                {
+                    transformable.moveLocation(1.0,
+                                               sign * moveDeltas[index * MOVE_RECORD],
+                                               sign * moveDeltas[index * MOVE_RECORD + 1]);
+                    transformable.getFeature(Refreshable.class).update(1.0);
+                }
+            }
+            dirty.invalidate();
+        }
+    }
+}
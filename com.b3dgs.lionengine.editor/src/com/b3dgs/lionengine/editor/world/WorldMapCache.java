@@ -0,0 +1,816 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Image;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.game.feature.Camera;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.game.feature.tile.Tile;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
+import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.swt.graphic.ImageBufferSwt;
+import com.b3dgs.lionengine.swt.graphic.Resampling;
+import com.b3dgs.lionengine.swt.graphic.ToolsSwt;
+
+/**
+ * Cache of the rendered map, split into chunks of {@link #CHUNK_SIZE} tiles.
+ * <p>
+ * Each chunk is rendered once with the {@link MapTileViewer} in its own buffer, and only rendered again once
+ * invalidated by a tile change ({@link #invalidateTile(Tile)}) or a global change ({@link #invalidate()}). Rendering
+ * the map is then a blit of the visible chunks. Chunks are reset when map size or tile size change, and invalidated
+ * with the scaled tiles when a sheet surface is replaced.
+ * </p>
+ * <p>
+ * Lower levels of detail are rendered from chunk mipmaps, each level being the previous one halved with a box filter,
+ * created on first use and dropped with their chunk. At one pixel per tile, the deepest level gives the average color
+ * of each tile, as the minimap does.
+ * </p>
+ * <p>
+ * Zoomed map is rendered from chunks already at the target scale, so painting does not scale anything. Scaled chunks
+ * are composed from the {@link WorldTileCache} scaled tiles, or resized from the viewer chunk when the viewer has an
+ * overlay (see {@link #setOverlay(boolean)}). Tiles are placed on the rounded scaled map grid, so chunks join without
+ * gap whatever the scale. While zoom is animated, intermediate scales are drawn by stretching the full detail chunks
+ * instead (see {@link #renderStretched(Graphic, int, int, double)}), so scaled chunks are only rebuilt at the final
+ * scale.
+ * </p>
+ * <p>
+ * Chunk buffers, mipmaps and scaled chunks are bounded by their total size: once over budget, least recently drawn
+ * chunks out of the rendering area are disposed, and rendered again when visible.
+ * </p>
+ */
+public class WorldMapCache
+{
+    /** Chunk size in tile. */
+    public static final int CHUNK_SIZE = 16;
+    /** Default chunks budget in bytes. */
+    public static final long DEFAULT_BUDGET = 128L * 1024L * 1024L;
+    /** Bytes per cached pixel. */
+    private static final int BYTES_PER_PIXEL = 4;
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+    /** Map initial capacity. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Create the next mipmap, halving source size.
+     * 
+     * @param source The source buffer.
+     * @return The created mipmap.
+     */
+    private static ImageBuffer createMipmap(ImageBuffer source)
+    {
+        final Image surface = source.getSurface();
+        final int width = Math.max(1, (source.getWidth() + 1) / 2);
+        final int height = Math.max(1, (source.getHeight() + 1) / 2);
+        final ImageBuffer mipmap = new ImageBufferSwt(surface.getDevice(),
+                                                      ToolsSwt.resize(surface.getImageData(),
+                                                                      width,
+                                                                      height,
+                                                                      Resampling.BOX));
+        mipmap.prepare();
+        return mipmap;
+    }
+
+    /**
+     * Get the scaled map location of a tile border.
+     * 
+     * @param tile The tile index.
+     * @param size The tile size.
+     * @param scale The map scale.
+     * @return The scaled location.
+     */
+    private static int getScaled(int tile, int size, double scale)
+    {
+        return (int) Math.floor(tile * (double) size * scale);
+    }
+
+    /**
+     * Get the buffer size in bytes.
+     * 
+     * @param buffer The buffer (can be <code>null</code>).
+     * @return The buffer size in bytes, <code>0</code> if <code>null</code>.
+     */
+    private static long getSize(ImageBuffer buffer)
+    {
+        final long size;
+        if (buffer == null)
+        {
+            size = 0L;
+        }
+        else
+        {
+            size = (long) buffer.getWidth() * buffer.getHeight() * BYTES_PER_PIXEL;
+        }
+        return size;
+    }
+
+    /** Camera reference. */
+    private final Camera camera;
+    /** Map reference. */
+    private final MapTile map;
+    /** Map viewer reference. */
+    private final MapTileViewer mapViewer;
+    /** Scaled tiles cache. */
+    private final WorldTileCache tiles;
+    /** Created chunks size in bytes by chunk index, in drawing order. */
+    private final Map<Integer, Long> resident = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    /** Chunks buffer, <code>null</code> if not created. */
+    private ImageBuffer[] chunks = new ImageBuffer[0];
+    /** Chunks mipmaps, indexed by level minus one, <code>null</code> if not created. */
+    private ImageBuffer[][] mipmaps = new ImageBuffer[0][];
+    /** Chunks valid state. */
+    private boolean[] valid = new boolean[0];
+    /** Scaled chunks buffer, <code>null</code> if not created. */
+    private ImageBuffer[] scaled = new ImageBuffer[0];
+    /** Scaled chunks valid state. */
+    private boolean[] scaledValid = new boolean[0];
+    /** Scale of scaled chunks. */
+    private double scale = 1.0;
+    /** Viewer overlay flag. */
+    private boolean overlay;
+    /** Number of horizontal chunks. */
+    private int columns;
+    /** Number of vertical chunks. */
+    private int rows;
+    /** Cached tile width. */
+    private int tileWidth;
+    /** Cached tile height. */
+    private int tileHeight;
+    /** Cached sheets surface. */
+    private ImageBuffer[] sheets = new ImageBuffer[0];
+    /** Chunks budget in bytes. */
+    private long budget = DEFAULT_BUDGET;
+    /** Created chunks size in bytes. */
+    private long size;
+
+    /**
+     * Create the map cache.
+     * 
+     * @param services The services reference.
+     */
+    public WorldMapCache(Services services)
+    {
+        camera = services.get(Camera.class);
+        map = services.get(MapTile.class);
+        mapViewer = map.getFeature(MapTileViewer.class);
+        tiles = new WorldTileCache(map);
+    }
+
+    /**
+     * Set the viewer overlay state. When enabled, scaled chunks are resized from the viewer chunks instead of being
+     * composed from the scaled tiles, as the overlay is only rendered by the viewer.
+     * 
+     * @param overlay <code>true</code> if viewer renders an overlay, <code>false</code> else.
+     */
+    public void setOverlay(boolean overlay)
+    {
+        this.overlay = overlay;
+        invalidate();
+    }
+
+    /**
+     * Get the scaled tiles cache.
+     * 
+     * @return The scaled tiles cache.
+     */
+    public WorldTileCache getTiles()
+    {
+        return tiles;
+    }
+
+    /**
+     * Set the chunks budget, applied on next rendering.
+     * 
+     * @param budget The chunks budget in bytes (positive).
+     */
+    public void setBudget(long budget)
+    {
+        Check.superiorOrEqual(budget, 0L);
+
+        this.budget = budget;
+    }
+
+    /**
+     * Get the created chunks size, including mipmaps and scaled chunks.
+     * 
+     * @return The chunks size in bytes.
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Invalidate the chunk containing the tile.
+     * 
+     * @param tile The changed tile (can be <code>null</code>).
+     */
+    public void invalidateTile(Tile tile)
+    {
+        if (tile != null)
+        {
+            final int cx = tile.getInTileX() / CHUNK_SIZE;
+            final int cy = tile.getInTileY() / CHUNK_SIZE;
+            if (cx < columns && cy < rows)
+            {
+                valid[cy * columns + cx] = false;
+                scaledValid[cy * columns + cx] = false;
+            }
+        }
+    }
+
+    /**
+     * Invalidate the chunks overlapping a tile area.
+     * 
+     * @param tx The horizontal tile location.
+     * @param ty The vertical tile location.
+     * @param width The area width in tile.
+     * @param height The area height in tile.
+     */
+    public void invalidateArea(int tx, int ty, int width, int height)
+    {
+        final int minX = Math.max(0, tx / CHUNK_SIZE);
+        final int minY = Math.max(0, ty / CHUNK_SIZE);
+        final int maxX = Math.min(columns - 1, (tx + width - 1) / CHUNK_SIZE);
+        final int maxY = Math.min(rows - 1, (ty + height - 1) / CHUNK_SIZE);
+        for (int cy = minY; cy <= maxY; cy++)
+        {
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                valid[cy * columns + cx] = false;
+                scaledValid[cy * columns + cx] = false;
+            }
+        }
+    }
+
+    /**
+     * Invalidate all chunks.
+     */
+    public void invalidate()
+    {
+        Arrays.fill(valid, false);
+        Arrays.fill(scaledValid, false);
+    }
+
+    /**
+     * Render the visible chunks at a scale, on an output at screen resolution.
+     * Camera view is restored to the rendering area once done.
+     * 
+     * @param g The graphic output.
+     * @param width The rendering area width, in world pixel.
+     * @param height The rendering area height, in world pixel.
+     * @param scale The rendering scale (strictly positive).
+     */
+    public void render(Graphic g, int width, int height, double scale)
+    {
+        if (Double.compare(scale, 1.0) == 0)
+        {
+            render(g, width, height, 0);
+        }
+        else
+        {
+            updateLayout();
+            if (Double.compare(scale, this.scale) != 0)
+            {
+                this.scale = scale;
+                Arrays.fill(scaledValid, false);
+            }
+
+            final int chunkWidth = CHUNK_SIZE * tileWidth;
+            final int chunkHeight = CHUNK_SIZE * tileHeight;
+            final double x = camera.getX();
+            final double y = camera.getY();
+            final int minX = Math.max(0, (int) Math.floor(x / chunkWidth));
+            final int minY = Math.max(0, (int) Math.floor(y / chunkHeight));
+            final int maxX = Math.min(columns - 1, (int) Math.floor((x + width) / chunkWidth));
+            final int maxY = Math.min(rows - 1, (int) Math.floor((y + height) / chunkHeight));
+
+            boolean moved = false;
+            for (int cy = minY; cy <= maxY; cy++)
+            {
+                for (int cx = minX; cx <= maxX; cx++)
+                {
+                    final int index = cy * columns + cx;
+                    if (!scaledValid[index])
+                    {
+                        moved |= renderScaledChunk(cx, cy);
+                    }
+                }
+            }
+            if (moved)
+            {
+                camera.setView(0, 0, width, height, height);
+                camera.setLimits(map);
+                camera.teleport(x, y);
+            }
+
+            final int originX = (int) Math.floor(camera.getViewpointX(0.0) * scale);
+            final int originY = (int) Math.floor(camera.getViewpointY(0.0) * scale);
+            for (int cy = minY; cy <= maxY; cy++)
+            {
+                final int top = getScaled(Math.min((cy + 1) * CHUNK_SIZE, map.getInTileHeight()), tileHeight);
+                for (int cx = minX; cx <= maxX; cx++)
+                {
+                    final int left = getScaled(cx * CHUNK_SIZE, tileWidth);
+                    g.drawImage(scaled[cy * columns + cx], originX + left, originY - top);
+                    account(cy * columns + cx);
+                }
+            }
+            evict(minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Render the visible full detail chunks stretched to a scale, on an output at screen resolution. Scaled chunks are
+     * kept as is, suited to transient scales such as a zoom animation.
+     * Camera view is restored to the rendering area once done.
+     * 
+     * @param g The graphic output.
+     * @param width The rendering area width, in world pixel.
+     * @param height The rendering area height, in world pixel.
+     * @param scale The rendering scale (strictly positive).
+     */
+    public void renderStretched(Graphic g, int width, int height, double scale)
+    {
+        updateLayout();
+
+        final int chunkWidth = CHUNK_SIZE * tileWidth;
+        final int chunkHeight = CHUNK_SIZE * tileHeight;
+        final double x = camera.getX();
+        final double y = camera.getY();
+        final int minX = Math.max(0, (int) Math.floor(x / chunkWidth));
+        final int minY = Math.max(0, (int) Math.floor(y / chunkHeight));
+        final int maxX = Math.min(columns - 1, (int) Math.floor((x + width) / chunkWidth));
+        final int maxY = Math.min(rows - 1, (int) Math.floor((y + height) / chunkHeight));
+
+        boolean moved = false;
+        for (int cy = minY; cy <= maxY; cy++)
+        {
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                if (!valid[cy * columns + cx])
+                {
+                    renderChunk(cx, cy);
+                    moved = true;
+                }
+            }
+        }
+        if (moved)
+        {
+            camera.setView(0, 0, width, height, height);
+            camera.setLimits(map);
+            camera.teleport(x, y);
+        }
+
+        final int originX = (int) Math.floor(camera.getViewpointX(0.0) * scale);
+        final int originY = (int) Math.floor(camera.getViewpointY(0.0) * scale);
+        for (int cy = minY; cy <= maxY; cy++)
+        {
+            final int top = getScaled(Math.min((cy + 1) * CHUNK_SIZE, map.getInTileHeight()), tileHeight, scale);
+            final int bottom = getScaled(cy * CHUNK_SIZE, tileHeight, scale);
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                final int left = getScaled(cx * CHUNK_SIZE, tileWidth, scale);
+                final int right = getScaled(Math.min((cx + 1) * CHUNK_SIZE, map.getInTileWidth()), tileWidth, scale);
+                final ImageBuffer chunk = chunks[cy * columns + cx];
+                g.drawImage(chunk,
+                            originX + left,
+                            originY - top,
+                            originX + right,
+                            originY - bottom,
+                            0,
+                            0,
+                            chunk.getWidth(),
+                            chunk.getHeight());
+                account(cy * columns + cx);
+            }
+        }
+        evict(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Render the visible chunks, rendering again invalidated ones.
+     * Camera view is restored to the rendering area once done.
+     * 
+     * @param g The graphic output.
+     * @param width The rendering area width.
+     * @param height The rendering area height.
+     */
+    public void render(Graphic g, int width, int height)
+    {
+        render(g, width, height, 0);
+    }
+
+    /**
+     * Render the visible chunks at a level of detail, rendering again invalidated ones.
+     * Camera view is restored to the rendering area once done.
+     * 
+     * @param g The graphic output, its resolution divided by <code>2^level</code>.
+     * @param width The rendering area width.
+     * @param height The rendering area height.
+     * @param level The level of detail (<code>0</code> for full detail).
+     */
+    public void render(Graphic g, int width, int height, int level)
+    {
+        updateLayout();
+
+        final int chunkWidth = CHUNK_SIZE * tileWidth;
+        final int chunkHeight = CHUNK_SIZE * tileHeight;
+        final double x = camera.getX();
+        final double y = camera.getY();
+        final int minX = Math.max(0, (int) Math.floor(x / chunkWidth));
+        final int minY = Math.max(0, (int) Math.floor(y / chunkHeight));
+        final int maxX = Math.min(columns - 1, (int) Math.floor((x + width) / chunkWidth));
+        final int maxY = Math.min(rows - 1, (int) Math.floor((y + height) / chunkHeight));
+
+        boolean moved = false;
+        for (int cy = minY; cy <= maxY; cy++)
+        {
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                if (!valid[cy * columns + cx])
+                {
+                    renderChunk(cx, cy);
+                    moved = true;
+                }
+            }
+        }
+        if (moved)
+        {
+            camera.setView(0, 0, width, height, height);
+            camera.setLimits(map);
+            camera.teleport(x, y);
+        }
+
+        for (int cy = minY; cy <= maxY; cy++)
+        {
+            for (int cx = minX; cx <= maxX; cx++)
+            {
+                final ImageBuffer chunk = getMipmap(cy * columns + cx, level);
+                final int vx = (int) Math.floor(camera.getViewpointX(cx * (double) chunkWidth)) >> level;
+                final int vy = (int) Math.floor(camera.getViewpointY(cy * (double) chunkHeight));
+                g.drawImage(chunk, vx, (vy >> level) - chunk.getHeight());
+                account(cy * columns + cx);
+            }
+        }
+        evict(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Dispose all chunks.
+     */
+    public void dispose()
+    {
+        for (int i = 0; i < chunks.length; i++)
+        {
+            if (chunks[i] != null)
+            {
+                chunks[i].dispose();
+            }
+            disposeMipmaps(i);
+        }
+        for (final ImageBuffer chunk : scaled)
+        {
+            if (chunk != null)
+            {
+                chunk.dispose();
+            }
+        }
+        tiles.clear();
+        resident.clear();
+        size = 0L;
+        chunks = new ImageBuffer[0];
+        mipmaps = new ImageBuffer[0][];
+        scaled = new ImageBuffer[0];
+        scaledValid = new boolean[0];
+        valid = new boolean[0];
+        columns = 0;
+        rows = 0;
+    }
+
+    /**
+     * Reset chunks if map layout changed, invalidate them with scaled tiles if sheets changed.
+     */
+    private void updateLayout()
+    {
+        final boolean sheetsChanged = updateSheets();
+        final int newColumns = (int) Math.ceil(map.getInTileWidth() / (double) CHUNK_SIZE);
+        final int newRows = (int) Math.ceil(map.getInTileHeight() / (double) CHUNK_SIZE);
+        if (newColumns != columns
+            || newRows != rows
+            || map.getTileWidth() != tileWidth
+            || map.getTileHeight() != tileHeight)
+        {
+            dispose();
+            columns = newColumns;
+            rows = newRows;
+            tileWidth = map.getTileWidth();
+            tileHeight = map.getTileHeight();
+            chunks = new ImageBuffer[columns * rows];
+            mipmaps = new ImageBuffer[columns * rows][];
+            scaled = new ImageBuffer[columns * rows];
+            scaledValid = new boolean[columns * rows];
+            valid = new boolean[columns * rows];
+        }
+        else if (sheetsChanged)
+        {
+            invalidate();
+            tiles.clear();
+        }
+    }
+
+    /**
+     * Update the cached sheets surface, compared by identity as a reloaded sheet has a new surface.
+     * 
+     * @return <code>true</code> if a sheet has been added, removed or reloaded, <code>false</code> else.
+     */
+    private boolean updateSheets()
+    {
+        final int number = map.getSheetsNumber();
+        boolean changed = number != sheets.length;
+        if (changed)
+        {
+            sheets = new ImageBuffer[number];
+        }
+        for (int i = 0; i < number; i++)
+        {
+            final SpriteTiled sheet = map.getSheet(i);
+            final ImageBuffer surface = sheet.getSurface();
+            if (sheets[i] != surface)
+            {
+                sheets[i] = surface;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Update the chunk size, including its mipmaps and scaled chunk, and mark it as last drawn.
+     * 
+     * @param index The chunk index.
+     */
+    private void account(int index)
+    {
+        long current = getSize(chunks[index]) + getSize(scaled[index]);
+        if (mipmaps[index] != null)
+        {
+            for (final ImageBuffer mipmap : mipmaps[index])
+            {
+                current += getSize(mipmap);
+            }
+        }
+        final Long previous = resident.put(Integer.valueOf(index), Long.valueOf(current));
+        if (previous != null)
+        {
+            size -= previous.longValue();
+        }
+        size += current;
+    }
+
+    /**
+     * Dispose least recently drawn chunks out of the rendering area until chunks fit in their budget.
+     * 
+     * @param minX The first visible horizontal chunk index.
+     * @param minY The first visible vertical chunk index.
+     * @param maxX The last visible horizontal chunk index.
+     * @param maxY The last visible vertical chunk index.
+     */
+    private void evict(int minX, int minY, int maxX, int maxY)
+    {
+        final Iterator<Map.Entry<Integer, Long>> iterator = resident.entrySet().iterator();
+        while (size > budget && iterator.hasNext())
+        {
+            final Map.Entry<Integer, Long> entry = iterator.next();
+            final int index = entry.getKey().intValue();
+            final int cx = index % columns;
+            final int cy = index / columns;
+            if (cx < minX || cx > maxX || cy < minY || cy > maxY)
+            {
+                if (chunks[index] != null)
+                {
+                    chunks[index].dispose();
+                    chunks[index] = null;
+                }
+                disposeMipmaps(index);
+                disposeScaled(index);
+                valid[index] = false;
+                scaledValid[index] = false;
+                size -= entry.getValue().longValue();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Render chunk with the map viewer, by moving camera on it.
+     * 
+     * @param cx The horizontal chunk index.
+     * @param cy The vertical chunk index.
+     */
+    private void renderChunk(int cx, int cy)
+    {
+        final int index = cy * columns + cx;
+        final int tx = cx * CHUNK_SIZE;
+        final int ty = cy * CHUNK_SIZE;
+        final int width = Math.min(CHUNK_SIZE, map.getInTileWidth() - tx) * tileWidth;
+        final int height = Math.min(CHUNK_SIZE, map.getInTileHeight() - ty) * tileHeight;
+
+        if (chunks[index] == null)
+        {
+            chunks[index] = Graphics.createImageBuffer(width, height);
+        }
+
+        camera.setView(0, 0, width, height, height);
+        camera.setLimits(map);
+        camera.teleport(tx * (double) tileWidth, ty * (double) tileHeight);
+
+        disposeMipmaps(index);
+
+        final Graphic g = chunks[index].createGraphic();
+        g.setColor(ColorRgba.BLUE);
+        g.drawRect(0, 0, width, height, true);
+        mapViewer.render(g);
+        g.dispose();
+
+        valid[index] = true;
+    }
+
+    /**
+     * Render scaled chunk, from scaled tiles or from the viewer chunk if overlay.
+     * 
+     * @param cx The horizontal chunk index.
+     * @param cy The vertical chunk index.
+     * @return <code>true</code> if camera has been moved, <code>false</code> else.
+     */
+    private boolean renderScaledChunk(int cx, int cy)
+    {
+        final int index = cy * columns + cx;
+        final int tx = cx * CHUNK_SIZE;
+        final int ty = cy * CHUNK_SIZE;
+        final int ex = Math.min(tx + CHUNK_SIZE, map.getInTileWidth());
+        final int ey = Math.min(ty + CHUNK_SIZE, map.getInTileHeight());
+        final int left = getScaled(tx, tileWidth);
+        final int top = getScaled(ey, tileHeight);
+        final int width = Math.max(1, getScaled(ex, tileWidth) - left);
+        final int height = Math.max(1, top - getScaled(ty, tileHeight));
+
+        boolean moved = false;
+        if (overlay)
+        {
+            if (!valid[index])
+            {
+                renderChunk(cx, cy);
+                moved = true;
+            }
+            final Image surface = chunks[index].getSurface();
+            final Resampling resampling;
+            if (scale > 1.0)
+            {
+                resampling = Resampling.NEAREST;
+            }
+            else
+            {
+                resampling = Resampling.BOX;
+            }
+            disposeScaled(index);
+            scaled[index] = new ImageBufferSwt(surface.getDevice(),
+                                               ToolsSwt.resize(surface.getImageData(), width, height, resampling));
+            scaled[index].prepare();
+        }
+        else
+        {
+            if (scaled[index] == null || scaled[index].getWidth() != width || scaled[index].getHeight() != height)
+            {
+                disposeScaled(index);
+                scaled[index] = Graphics.createImageBuffer(width, height);
+            }
+            final Graphic g = scaled[index].createGraphic();
+            g.setColor(ColorRgba.BLUE);
+            g.drawRect(0, 0, width, height, true);
+            for (int y = ty; y < ey; y++)
+            {
+                final int py = top - getScaled(y + 1, tileHeight);
+                final int th = getScaled(y + 1, tileHeight) - getScaled(y, tileHeight);
+                for (int x = tx; x < ex; x++)
+                {
+                    final Tile tile = map.getTile(x, y);
+                    final int px = getScaled(x, tileWidth) - left;
+                    final int tw = getScaled(x + 1, tileWidth) - getScaled(x, tileWidth);
+                    if (tile != null && tw > 0 && th > 0)
+                    {
+                        g.drawImage(tiles.get(tile.getNumber(), tw, th), px, py);
+                    }
+                }
+            }
+            g.dispose();
+        }
+        scaledValid[index] = true;
+        return moved;
+    }
+
+    /**
+     * Get the scaled map location of a tile border.
+     * 
+     * @param tile The tile index.
+     * @param size The tile size.
+     * @return The scaled location.
+     */
+    private int getScaled(int tile, int size)
+    {
+        return getScaled(tile, size, scale);
+    }
+
+    /**
+     * Dispose the scaled chunk if created.
+     * 
+     * @param index The chunk index.
+     */
+    private void disposeScaled(int index)
+    {
+        if (scaled[index] != null)
+        {
+            scaled[index].dispose();
+            scaled[index] = null;
+        }
+    }
+
+    /**
+     * Get the chunk mipmap, created from the previous level if needed.
+     * 
+     * @param index The chunk index.
+     * @param level The level of detail (<code>0</code> for the chunk itself).
+     * @return The chunk mipmap.
+     */
+    private ImageBuffer getMipmap(int index, int level)
+    {
+        final ImageBuffer mipmap;
+        if (level == 0)
+        {
+            mipmap = chunks[index];
+        }
+        else
+        {
+            if (mipmaps[index] == null)
+            {
+                mipmaps[index] = new ImageBuffer[level];
+            }
+            else if (mipmaps[index].length < level)
+            {
+                mipmaps[index] = Arrays.copyOf(mipmaps[index], level);
+            }
+            if (mipmaps[index][level - 1] == null)
+            {
+                mipmaps[index][level - 1] = createMipmap(getMipmap(index, level - 1));
+            }
+            mipmap = mipmaps[index][level - 1];
+        }
+        return mipmap;
+    }
+
+    /**
+     * Dispose the chunk mipmaps if created.
+     * 
+     * @param index The chunk index.
+     */
+    private void disposeMipmaps(int index)
+    {
+        if (mipmaps[index] != null)
+        {
+            for (final ImageBuffer mipmap : mipmaps[index])
+            {
+                if (mipmap != null)
+                {
+                    mipmap.dispose();
+                }
+            }
+            mipmaps[index] = null;
+        }
+    }
+}
@@ -51,7 +51,7 @@ public class WorldModel
     /** Handler persister reference. */
     private final HandlerPersister handlerPersister = services.create(HandlerPersisterEditor.class);
     /** Map reference. */
-    private final MapTileHelper map = services.create(MapTileHelper.class);
+    private final MapTileHelperEditor map = services.create(MapTileHelperEditor.class);
     /** Minimap reference. */
     private final Minimap minimap = new Minimap(map);
 
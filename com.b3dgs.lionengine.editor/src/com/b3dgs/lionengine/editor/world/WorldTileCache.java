@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+
+import com.b3dgs.lionengine.Check;
+import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
+import com.b3dgs.lionengine.graphic.drawable.SpriteTiled;
+import com.b3dgs.lionengine.swt.graphic.ImageBufferSwt;
+import com.b3dgs.lionengine.swt.graphic.Resampling;
+import com.b3dgs.lionengine.swt.graphic.ToolsSwt;
+
+/**
+ * Cache of map tiles scaled to a rendering size, bounded by the total size of the scaled tiles.
+ * <p>
+ * Tiles are keyed by sheet, tile in sheet and scaled size. They are extracted from their sheet and resized on first
+ * use, with {@link Resampling#NEAREST} when enlarged to keep pixel edges, {@link Resampling#BOX} else. Least recently
+ * used tiles are disposed once cache size exceeds its budget.
+ * </p>
+ */
+public class WorldTileCache
+{
+    /** Default cache budget in bytes. */
+    public static final long DEFAULT_BUDGET = 32L * 1024L * 1024L;
+    /** Bytes per cached pixel. */
+    private static final int BYTES_PER_PIXEL = 4;
+    /** Key field size in bits. */
+    private static final int KEY_BITS = 16;
+    /** Key field mask. */
+    private static final long KEY_MASK = 0xFFFFL;
+    /** Map load factor. */
+    private static final float LOAD_FACTOR = 0.75F;
+    /** Map initial capacity. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Get the tile key, each field stored on {@link #KEY_BITS}.
+     * 
+     * @param sheet The sheet number.
+     * @param tile The tile number in sheet.
+     * @param width The scaled width.
+     * @param height The scaled height.
+     * @return The tile key.
+     */
+    private static Long getKey(int sheet, int tile, int width, int height)
+    {
+        return Long.valueOf((sheet & KEY_MASK) << KEY_BITS * 3
+                            | (tile & KEY_MASK) << KEY_BITS * 2
+                            | (width & KEY_MASK) << KEY_BITS
+                            | height & KEY_MASK);
+    }
+
+    /**
+     * Get the tile size in bytes.
+     * 
+     * @param tile The tile buffer.
+     * @return The tile size in bytes.
+     */
+    private static long getSize(ImageBuffer tile)
+    {
+        return (long) tile.getWidth() * tile.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    /** Scaled tiles by key, in access order. */
+    private final Map<Long, ImageBuffer> tiles = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    /** Sheets data by sheet number. */
+    private final Map<Integer, ImageData> sheets = new HashMap<>();
+    /** Map reference. */
+    private final MapTile map;
+    /** Cache budget in bytes. */
+    private long budget = DEFAULT_BUDGET;
+    /** Current cache size in bytes. */
+    private long size;
+
+    /**
+     * Create the tile cache.
+     * 
+     * @param map The map reference.
+     */
+    public WorldTileCache(MapTile map)
+    {
+        super();
+
+        this.map = map;
+    }
+
+    /**
+     * Get the scaled tile, create it if missing.
+     * 
+     * @param number The tile number.
+     * @param width The scaled width (strictly positive).
+     * @param height The scaled height (strictly positive).
+     * @return The scaled tile, valid until next call.
+     */
+    public ImageBuffer get(int number, int width, int height)
+    {
+        final int tilesPerSheet = map.getTilesPerSheet();
+        final int sheet = number / tilesPerSheet;
+        final int tile = number % tilesPerSheet;
+        final Long key = getKey(sheet, tile, width, height);
+
+        ImageBuffer scaled = tiles.get(key);
+        if (scaled == null)
+        {
+            scaled = createTile(sheet, tile, width, height);
+            tiles.put(key, scaled);
+            size += getSize(scaled);
+            evict(key);
+        }
+        return scaled;
+    }
+
+    /**
+     * Set the cache budget, evicting tiles if exceeded.
+     * 
+     * @param budget The cache budget in bytes (positive).
+     */
+    public void setBudget(long budget)
+    {
+        Check.superiorOrEqual(budget, 0L);
+
+        this.budget = budget;
+        evict(null);
+    }
+
+    /**
+     * Get the current cache size.
+     * 
+     * @return The cache size in bytes.
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Dispose all tiles and forget sheets data.
+     */
+    public void clear()
+    {
+        for (final ImageBuffer tile : tiles.values())
+        {
+            tile.dispose();
+        }
+        tiles.clear();
+        sheets.clear();
+        size = 0L;
+    }
+
+    /**
+     * Extract tile from its sheet and resize it.
+     * 
+     * @param sheet The sheet number.
+     * @param tile The tile number in sheet.
+     * @param width The scaled width.
+     * @param height The scaled height.
+     * @return The scaled tile.
+     */
+    private ImageBuffer createTile(int sheet, int tile, int width, int height)
+    {
+        final SpriteTiled sprite = map.getSheet(sheet);
+        final ImageData data = sheets.computeIfAbsent(Integer.valueOf(sheet), key ->
+        {
+            final Image surface = sprite.getSurface().getSurface();
+            return surface.getImageData();
+        });
+
+        final int tw = map.getTileWidth();
+        final int th = map.getTileHeight();
+        final int horizontal = sprite.getTilesHorizontal();
+        final ImageData area = ToolsSwt.copy(data, tile % horizontal * tw, tile / horizontal * th, tw, th);
+
+        final Resampling resampling;
+        if (width >= tw && height >= th)
+        {
+            resampling = Resampling.NEAREST;
+        }
+        else
+        {
+            resampling = Resampling.BOX;
+        }
+        final ImageBuffer scaled = new ImageBufferSwt(ToolsSwt.getDisplay(),
+                                                      ToolsSwt.resize(area, width, height, resampling));
+        scaled.prepare();
+        return scaled;
+    }
+
+    /**
+     * Dispose least recently used tiles until cache fits in its budget.
+     * 
+     * @param current The current tile key, kept (can be <code>null</code>).
+     */
+    private void evict(Long current)
+    {
+        final Iterator<Map.Entry<Long, ImageBuffer>> iterator = tiles.entrySet().iterator();
+        while (size > budget && iterator.hasNext())
+        {
+            final Map.Entry<Long, ImageBuffer> entry = iterator.next();
+            if (!entry.getKey().equals(current))
+            {
+                size -= getSize(entry.getValue());
+                entry.getValue().dispose();
+                iterator.remove();
+            }
+        }
+    }
+}
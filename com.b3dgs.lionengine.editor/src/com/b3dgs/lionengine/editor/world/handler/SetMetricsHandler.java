@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world.handler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.eclipse.e4.core.di.annotations.Execute;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Shell;
+
+import com.b3dgs.lionengine.Verbose;
+import com.b3dgs.lionengine.editor.world.WorldModel;
+import com.b3dgs.lionengine.editor.world.view.WorldPart;
+import com.b3dgs.lionengine.swt.Metrics;
+
+/**
+ * Set rendering metrics handler. Enabling starts a new recording, disabling proposes to save it as CSV.
+ */
+public final class SetMetricsHandler
+{
+    /** Element ID. */
+    public static final String ID = "metrics";
+    /** CSV extension filter. */
+    private static final String EXTENSION = "*.csv";
+    /** Default file name. */
+    private static final String FILE_NAME = "metrics.csv";
+
+    /**
+     * Save the recorded metrics to a selected file.
+     * 
+     * @param shell The shell reference.
+     */
+    private static void save(Shell shell)
+    {
+        final FileDialog dialog = new FileDialog(shell, SWT.SAVE);
+        dialog.setFilterExtensions(new String[]
+        {
+            EXTENSION
+        });
+        dialog.setFileName(FILE_NAME);
+        dialog.setOverwrite(true);
+        final String path = dialog.open();
+        if (path != null)
+        {
+            try (Writer writer = Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8))
+            {
+                Metrics.dump(writer);
+            }
+            catch (final IOException exception)
+            {
+                Verbose.exception(exception);
+            }
+        }
+    }
+
+    /**
+     * Create handler.
+     */
+    public SetMetricsHandler()
+    {
+        super();
+    }
+
+    /**
+     * Execute the handler.
+     * 
+     * @param shell The shell reference.
+     */
+    @Execute
+    public void execute(Shell shell)
+    {
+        if (Metrics.isEnabled())
+        {
+            Metrics.setEnabled(false);
+            save(shell);
+        }
+        else
+        {
+            Metrics.clear();
+            Metrics.setEnabled(true);
+        }
+        final WorldPart part = WorldModel.INSTANCE.getServices().get(WorldPart.class);
+        part.update();
+    }
+}
@@ -19,6 +19,7 @@ package com.b3dgs.lionengine.editor.world.renderer;
 import com.b3dgs.lionengine.editor.utility.UtilWorld;
 import com.b3dgs.lionengine.editor.world.PaletteModel;
 import com.b3dgs.lionengine.editor.world.PaletteType;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.updater.WorldUpdater;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
@@ -46,6 +47,8 @@ public class WorldCursorRenderer implements WorldRenderListener
     private final WorldUpdater world;
     /** Palette model. */
     private final PaletteModel palette;
+    /** Last rendered tile, <code>null</code> if none. */
+    private Tile rendered;
 
     /**
      * Create the renderer.
@@ -104,6 +107,7 @@ public class WorldCursorRenderer implements WorldRenderListener
     @Override
     public void onRender(Graphic g, int width, int height, double scale, int tw, int th)
     {
+        rendered = null;
         if (palette.isPalette(PaletteType.POINTER_TILE))
         {
             final Tile tile = UtilWorld.getTile(map, camera, world.getMouseX(), world.getMouseY());
@@ -111,7 +115,18 @@ public class WorldCursorRenderer implements WorldRenderListener
             {
                 drawCursorTile(g, scale, tile, tw, th);
                 drawCursorPixel(g, scale);
+                rendered = tile;
             }
         }
     }
+
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        area.addTile(rendered);
+        if (palette.isPalette(PaletteType.POINTER_TILE))
+        {
+            area.addTile(UtilWorld.getTile(map, camera, world.getMouseX(), world.getMouseY()));
+        }
+    }
 }
@@ -16,28 +16,96 @@
  */
 package com.b3dgs.lionengine.editor.world.renderer;
 
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.updater.WorldUpdater;
+import com.b3dgs.lionengine.editor.world.updater.WorldZoomUpdater;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
-import com.b3dgs.lionengine.game.feature.tile.Tile;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.ImageBuffer;
 
 /**
  * Handle the grid rendering.
+ * <p>
+ * Grid lines are drawn once in a pattern covering the view plus one tile, kept until scale, tile size or view size
+ * change. Rendering is then a single blit, shifted by the grid origin computed from the camera. While zoom is
+ * animating, scale changes on each frame, so lines are drawn directly instead, and the pattern is only built for the
+ * reached zoom.
+ * </p>
  */
 public class WorldGridRenderer implements WorldRenderListener
 {
     /** Color of the grid. */
     private static final ColorRgba COLOR_GRID = new ColorRgba(96, 96, 96);
 
+    /**
+     * Get the pattern offset of the grid origin, in <code>]-cell, 0]</code>.
+     * 
+     * @param origin The grid origin location on view.
+     * @param cell The cell size on view.
+     * @return The pattern offset.
+     */
+    private static int getOffset(double origin, double cell)
+    {
+        final double modulo = origin % cell;
+        if (modulo > 0.0)
+        {
+            return (int) Math.floor(modulo - cell);
+        }
+        return (int) Math.floor(modulo);
+    }
+
+    /**
+     * Draw grid lines, starting with a line on the area origin.
+     * 
+     * @param g The graphic output.
+     * @param x The area horizontal origin.
+     * @param y The area vertical origin.
+     * @param width The area width.
+     * @param height The area height.
+     * @param cellWidth The cell width.
+     * @param cellHeight The cell height.
+     */
+    private static void drawLines(Graphic g,
+                                  int x,
+                                  int y,
+                                  int width,
+                                  int height,
+                                  double cellWidth,
+                                  double cellHeight)
+    {
+        g.setColor(COLOR_GRID);
+        for (double lx = 0.0; lx < width; lx += cellWidth)
+        {
+            final int px = x + (int) Math.floor(lx);
+            g.drawLine(px, y, px, y + height);
+        }
+        for (double ly = 0.0; ly < height; ly += cellHeight)
+        {
+            final int py = y + (int) Math.floor(ly);
+            g.drawLine(x, py, x + width, py);
+        }
+    }
+
     /** Map. */
     private final MapTile map;
     /** Camera. */
     private final Camera camera;
     /** Updater. */
     private final WorldUpdater world;
+    /** Zoom. */
+    private final WorldZoomUpdater zoom;
+    /** Grid pattern, <code>null</code> if not created. */
+    private ImageBuffer pattern;
+    /** Pattern scale. */
+    private double patternScale;
+    /** Pattern tile width. */
+    private int patternTileWidth;
+    /** Pattern tile height. */
+    private int patternTileHeight;
 
     /**
      * Create a world renderer with grid enabled.
@@ -49,101 +117,86 @@ public class WorldGridRenderer implements WorldRenderListener
         map = services.get(MapTile.class);
         camera = services.get(Camera.class);
         world = services.get(WorldUpdater.class);
-    }
-
-    /*
-     * WorldRenderListener
-     */
-
-    @Override
-    public void onRender(Graphic g, int width, int height, double scale, int ctw, int cth)
-    {
-        if (world.isGridEnabled() && map.isCreated())
-        {
-            final Tile tile = findTileInView();
-            if (tile != null)
-            {
-                final double widthScaled = camera.getWidth() * scale;
-                final double heightScaled = camera.getHeight() * scale;
-
-                g.setColor(COLOR_GRID);
-                renderHorizontalLines(g, tile, scale, widthScaled, heightScaled);
-                renderVerticalLines(g, tile, scale, widthScaled, heightScaled);
-            }
-        }
+        zoom = services.get(WorldZoomUpdater.class);
     }
 
     /**
-     * Render horizontal lines.
+     * Get the grid pattern, create it if needed.
      * 
-     * @param g The graphic output.
-     * @param tile The tile to render.
+     * @param width The rendering width.
+     * @param height The rendering height.
      * @param scale The scale value.
-     * @param widthScaled The width scaled.
-     * @param heightScaled The height scaled.
+     * @return The grid pattern.
      */
-    private void renderHorizontalLines(Graphic g, Tile tile, double scale, double widthScaled, double heightScaled)
+    private ImageBuffer getPattern(int width, int height, double scale)
     {
-        final double sx = camera.getViewpointX(tile.getX()) * scale;
-        final double tw = map.getTileWidth() * scale;
+        final int tw = map.getTileWidth();
+        final int th = map.getTileHeight();
+        final double cellWidth = tw * scale;
+        final double cellHeight = th * scale;
+        final int patternWidth = width + (int) Math.ceil(cellWidth) + 1;
+        final int patternHeight = height + (int) Math.ceil(cellHeight) + 1;
 
-        for (double x = sx; x < widthScaled; x += tw)
+        if (pattern == null
+            || Double.compare(patternScale, scale) != 0
+            || patternTileWidth != tw
+            || patternTileHeight != th
+            || pattern.getWidth() != patternWidth
+            || pattern.getHeight() != patternHeight)
         {
-            g.drawLine((int) Math.floor(x), 0, (int) Math.floor(x), (int) Math.floor(heightScaled));
-        }
-        for (double x = sx; x > 0; x -= tw)
-        {
-            g.drawLine((int) Math.floor(x), 0, (int) Math.floor(x), (int) Math.floor(heightScaled));
+            onDispose();
+            pattern = Graphics.createImageBuffer(patternWidth, patternHeight, ColorRgba.TRANSPARENT);
+            patternScale = scale;
+            patternTileWidth = tw;
+            patternTileHeight = th;
+
+            final Graphic g = pattern.createGraphic();
+            drawLines(g, 0, 0, patternWidth, patternHeight, cellWidth, cellHeight);
+            g.dispose();
         }
+        return pattern;
     }
 
-    /**
-     * Render verticals lines.
-     * 
-     * @param g The graphic output.
-     * @param tile The tile to render.
-     * @param scale The scale value.
-     * @param widthScaled The width scaled.
-     * @param heightScaled The height scaled.
+    /*
+     * WorldRenderListener
      */
-    private void renderVerticalLines(Graphic g, Tile tile, double scale, double widthScaled, double heightScaled)
-    {
-        final double sy = camera.getViewpointY(tile.getY()) * scale;
-        final double th = map.getTileHeight() * scale;
 
-        for (double y = sy; y < heightScaled; y += th)
-        {
-            g.drawLine(0, (int) Math.floor(y), (int) Math.floor(widthScaled), (int) Math.floor(y));
-        }
-        for (double y = sy; y > 0; y -= th)
+    @Override
+    public void onRender(Graphic g, int width, int height, double scale, int ctw, int cth)
+    {
+        if (world.isGridEnabled() && map.isCreated())
         {
-            g.drawLine(0, (int) Math.floor(y), (int) Math.floor(widthScaled), (int) Math.floor(y));
+            final double cellWidth = map.getTileWidth() * scale;
+            final double cellHeight = map.getTileHeight() * scale;
+
+            // World origin is a tile corner, crossed by grid lines
+            final int x = getOffset(camera.getViewpointX(0.0) * scale, cellWidth);
+            final int y = getOffset(camera.getViewpointY(0.0) * scale, cellHeight);
+
+            if (zoom.isAnimating())
+            {
+                drawLines(g, x, y, width - x, height - y, cellWidth, cellHeight);
+            }
+            else
+            {
+                g.drawImage(getPattern(width, height, scale), x, y);
+            }
         }
     }
 
-    /**
-     * Find a tile in view area.
-     * 
-     * @return The tile found, <code>null</code> if none.
-     */
-    private Tile findTileInView()
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
     {
-        final int tw = map.getTileWidth();
-        final int th = map.getTileHeight();
-        final int sx = (int) Math.floor(camera.getX()) / th;
-        final int sy = (int) Math.floor(camera.getY()) / tw;
+        // Nothing to do, grid only depends on camera and zoom
+    }
 
-        for (int ty = 0; ty <= camera.getHeight() / th + 1; ty++)
+    @Override
+    public void onDispose()
+    {
+        if (pattern != null)
         {
-            for (int tx = 0; tx <= camera.getWidth() / tw + 1; tx++)
-            {
-                final Tile tile = map.getTile(sx + tx, sy + ty);
-                if (tile != null)
-                {
-                    return tile;
-                }
-            }
+            pattern.dispose();
+            pattern = null;
         }
-        return null;
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world.renderer;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.game.feature.Services;
+import com.b3dgs.lionengine.graphic.ColorRgba;
+import com.b3dgs.lionengine.graphic.Graphic;
+import com.b3dgs.lionengine.graphic.Graphics;
+import com.b3dgs.lionengine.graphic.Text;
+import com.b3dgs.lionengine.graphic.TextStyle;
+import com.b3dgs.lionengine.swt.Metric;
+import com.b3dgs.lionengine.swt.Metrics;
+import com.b3dgs.lionengine.swt.MetricsFrame;
+import com.b3dgs.lionengine.swt.graphic.ToolsSwt;
+
+/**
+ * Handle the rendering metrics overlay, displayed on top left of the world when {@link Metrics} are enabled.
+ * <p>
+ * Overlay shows the last recorded frame and the average paint duration of the recorded history.
+ * </p>
+ */
+public class WorldMetricsRenderer implements WorldRenderListener
+{
+    /** Overlay background color. */
+    private static final ColorRgba COLOR_BACKGROUND = new ColorRgba(0, 0, 0, 160);
+    /** Overlay text color. */
+    private static final ColorRgba COLOR_TEXT = new ColorRgba(240, 240, 240, 255);
+    /** Overlay font. */
+    private static final String FONT = "Monospaced";
+    /** Overlay font size. */
+    private static final int FONT_SIZE = 14;
+    /** Overlay line height. */
+    private static final int LINE_HEIGHT = 14;
+    /** Overlay margin. */
+    private static final int MARGIN = 4;
+    /** Overlay width. */
+    private static final int WIDTH = 280;
+    /** Overlay lines. */
+    private static final int LINES = 3;
+    /** Overlay height. */
+    private static final int HEIGHT = LINES * LINE_HEIGHT + MARGIN * 2;
+    /** Nano seconds in a milli second. */
+    private static final double NANO_TO_MILLI = 1_000_000.0;
+
+    /**
+     * Get the average paint duration of the recorded frames.
+     * 
+     * @param frames The recorded frames.
+     * @return The average duration in milli seconds, <code>0</code> if no frame.
+     */
+    private static double getAverage(List<MetricsFrame> frames)
+    {
+        if (frames.isEmpty())
+        {
+            return 0.0;
+        }
+        long total = 0L;
+        for (final MetricsFrame frame : frames)
+        {
+            total += frame.getDuration();
+        }
+        return total / NANO_TO_MILLI / frames.size();
+    }
+
+    /** Overlay text, <code>null</code> if not created. */
+    private Text text;
+    /** Last rendering scale. */
+    private double scale = 1.0;
+    /** Overlay rendered flag. */
+    private boolean rendered;
+
+    /**
+     * Create the renderer.
+     * 
+     * @param services The services reference.
+     */
+    public WorldMetricsRenderer(Services services)
+    {
+        super();
+    }
+
+    /**
+     * Draw the overlay lines.
+     * 
+     * @param g The graphic output.
+     * @param frame The last recorded frame.
+     * @param average The average paint duration in milli seconds.
+     */
+    private void drawLines(Graphic g, MetricsFrame frame, double average)
+    {
+        if (text == null)
+        {
+            text = Graphics.createText(FONT, FONT_SIZE, TextStyle.NORMAL);
+        }
+        text.setColor(COLOR_TEXT);
+        text.draw(g,
+                  MARGIN,
+                  MARGIN,
+                  String.format(Locale.ENGLISH,
+                                "paint %.2f ms (avg %.2f ms)",
+                                Double.valueOf(frame.getDuration() / NANO_TO_MILLI),
+                                Double.valueOf(average)));
+        text.draw(g,
+                  MARGIN,
+                  MARGIN + LINE_HEIGHT,
+                  String.format(Locale.ENGLISH,
+                                "image %d line %d rect %d",
+                                Long.valueOf(frame.getCount(Metric.DRAW_IMAGE)),
+                                Long.valueOf(frame.getCount(Metric.DRAW_LINE)),
+                                Long.valueOf(frame.getCount(Metric.FILL_RECT))));
+        text.draw(g,
+                  MARGIN,
+                  MARGIN + LINE_HEIGHT * 2,
+                  String.format(Locale.ENGLISH,
+                                "handle +%d -%d cache %d/%d",
+                                Long.valueOf(frame.getCount(Metric.HANDLE_ALLOCATED)),
+                                Long.valueOf(frame.getCount(Metric.HANDLE_DISPOSED)),
+                                Long.valueOf(frame.getCount(Metric.IMAGE_CACHE_HIT)),
+                                Long.valueOf(frame.getCount(Metric.IMAGE_CACHE_MISS))));
+    }
+
+    /*
+     * WorldRenderListener
+     */
+
+    @Override
+    public void onRender(Graphic g, int width, int height, double scale, int tw, int th)
+    {
+        this.scale = scale;
+        rendered = false;
+        if (Metrics.isEnabled())
+        {
+            final MetricsFrame frame = Metrics.getLastFrame();
+            if (frame != null)
+            {
+                g.setColor(COLOR_BACKGROUND);
+                g.drawRect(0, 0, WIDTH, HEIGHT, true);
+                drawLines(g, frame, getAverage(Metrics.getFrames()));
+                rendered = true;
+            }
+        }
+    }
+
+    @Override
+    public void computeDirtyArea(WorldDirtyArea area)
+    {
+        if (rendered || Metrics.isEnabled())
+        {
+            area.addView(0, 0, (int) Math.ceil(WIDTH / scale), (int) Math.ceil(HEIGHT / scale));
+        }
+    }
+
+    @Override
+    public void onDispose()
+    {
+        if (text != null)
+        {
+            ToolsSwt.disposeText(text);
+            text = null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2013-2020 Byron 3D Games Studio (www.b3dgs.com) Pierre-Alexandre (contact@b3dgs.com)
+ * 
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.b3dgs.lionengine.editor.world.renderer;
+
+import java.util.function.Predicate;
+
+import org.eclipse.swt.widgets.Control;
+
+import com.b3dgs.lionengine.Check;
+
+/**
+ * Merge redraw requests into at most one redraw per frame, executed on the display thread.
+ * <p>
+ * First request of a frame schedules the redraw with {@link org.eclipse.swt.widgets.Display#timerExec(int, Runnable)},
+ * following requests until its execution are merged. Requested redraws are counted, and performed ones only when the
+ * action actually redraws.
+ * </p>
+ */
+public class WorldRedrawScheduler
+{
+    /** Default frame rate cap. */
+    public static final int DEFAULT_RATE = 60;
+    /** One second in milli. */
+    private static final int ONE_SECOND = 1000;
+    /** Nano to milli. */
+    private static final long NANO_TO_MILLI = 1_000_000L;
+
+    /** Redraw action, returning <code>true</code> if a redraw has been issued. */
+    private final Predicate<Control> action;
+    /** Scheduled tick. */
+    private final Runnable tick = this::tick;
+    /** Control to redraw. */
+    private Control control;
+    /** Frame duration in milli. */
+    private int frame;
+    /** Last issued redraw time in nano. */
+    private long last;
+    /** Pending redraw flag. */
+    private boolean pending;
+    /** Requested redraws. */
+    private long requested;
+    /** Issued redraws. */
+    private long performed;
+
+    /**
+     * Create scheduler.
+     * 
+     * @param action The redraw action, returning <code>true</code> if a redraw has been issued, <code>false</code> if
+     *            nothing needed to be redrawn.
+     */
+    public WorldRedrawScheduler(Predicate<Control> action)
+    {
+        this.action = action;
+        setRate(DEFAULT_RATE);
+    }
+
+    /**
+     * Request a redraw, merged with any pending one.
+     * 
+     * @param control The control to redraw.
+     */
+    public void request(Control control)
+    {
+        requested++;
+        this.control = control;
+        if (!pending && !control.isDisposed())
+        {
+            pending = true;
+            final long elapsed = (System.nanoTime() - last) / NANO_TO_MILLI;
+            final int delay = (int) Math.max(0L, frame - elapsed);
+            control.getDisplay().timerExec(delay, tick);
+        }
+    }
+
+    /**
+     * Set the frame rate cap.
+     * 
+     * @param rate The maximum number of redraw per second (strictly positive).
+     */
+    public final void setRate(int rate)
+    {
+        Check.superiorStrict(rate, 0);
+
+        frame = ONE_SECOND / rate;
+    }
+
+    /**
+     * Reset the redraw counters.
+     */
+    public void resetCounters()
+    {
+        requested = 0L;
+        performed = 0L;
+    }
+
+    /**
+     * Get the number of requested redraws.
+     * 
+     * @return The requested redraws.
+     */
+    public long getRequested()
+    {
+        return requested;
+    }
+
+    /**
+     * Get the number of performed redraws, requests with nothing to redraw excluded.
+     * 
+     * @return The performed redraws.
+     */
+    public long getPerformed()
+    {
+        return performed;
+    }
+
+    /**
+     * Perform pending redraw.
+     */
+    private void tick()
+    {
+        pending = false;
+        if (!control.isDisposed() && action.test(control))
+        {
+            last = System.nanoTime();
+            performed++;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.b3dgs.lionengine.editor.world.renderer;
 
 import com.b3dgs.lionengine.editor.Activator;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.graphic.Graphic;
 
 /**
@@ -38,4 +39,23 @@ public interface WorldRenderListener
      * @param th The current tile height.
      */
     void onRender(Graphic g, int width, int height, double scale, int tw, int th);
+
+    /**
+     * Called before a redraw is requested, to report the area changed since last rendering (area previously rendered
+     * and area that will be rendered). Default implementation invalidates the whole view.
+     * 
+     * @param area The dirty area to fill.
+     */
+    default void computeDirtyArea(WorldDirtyArea area)
+    {
+        area.invalidate();
+    }
+
+    /**
+     * Called when the rendered view is disposed, to release rendering resources.
+     */
+    default void onDispose()
+    {
+        // Nothing to do
+    }
 }
@@ -20,31 +20,67 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
+import org.eclipse.swt.events.DisposeEvent;
+import org.eclipse.swt.events.DisposeListener;
 import org.eclipse.swt.events.PaintEvent;
 import org.eclipse.swt.events.PaintListener;
 import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Control;
 
+import com.b3dgs.lionengine.editor.ObjectRepresentation;
 import com.b3dgs.lionengine.editor.utility.UtilExtension;
 import com.b3dgs.lionengine.editor.world.Selection;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
 import com.b3dgs.lionengine.editor.world.updater.WorldZoomUpdater;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Handler;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
-import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
+import com.b3dgs.lionengine.geom.Rectangle;
 import com.b3dgs.lionengine.graphic.ColorRgba;
 import com.b3dgs.lionengine.graphic.Graphic;
 import com.b3dgs.lionengine.graphic.Graphics;
 import com.b3dgs.lionengine.graphic.ImageBuffer;
 import com.b3dgs.lionengine.graphic.Transform;
+import com.b3dgs.lionengine.swt.Metrics;
 
 /**
  * World paint listener, rendering the current world.
+ * <p>
+ * World is rendered in a back buffer kept between paints, only recreated when its size changes (canvas resized or
+ * zoom changed). Buffer is released when the rendered control is disposed.
+ * </p>
+ * <p>
+ * Input events only repaint the area reported to {@link WorldDirtyArea} by the interactions, the {@link Selection} and
+ * the {@link WorldRenderListener}, see {@link #redraw(Control)}.
+ * </p>
+ * <p>
+ * Redraw requests are merged by a {@link WorldRedrawScheduler}, limiting repaints to its frame rate.
+ * </p>
+ * <p>
+ * Each paint ends a {@link Metrics} frame with its duration, when metrics are enabled.
+ * </p>
+ * <p>
+ * At low zoom, the back buffer resolution follows the {@link WorldZoomUpdater#getLevel()} level of detail: map is drawn
+ * from the {@link WorldMapCache} mipmaps and objects as simple markers, only the visible ones being drawn.
+ * Else, back buffer is at screen resolution: map is drawn from the {@link WorldMapCache} scaled chunks, and only
+ * objects and selection are scaled while drawn, so the viewport is never scaled as a whole. During zoom animation,
+ * map chunks are stretched until the final scale is reached.
+ * </p>
+ * <p>
+ * Each paint performs a {@link WorldZoomUpdater#animate()} step, requesting the next frame until zoom is reached.
+ * </p>
  */
-public class WorldRenderer implements PaintListener
+public class WorldRenderer implements PaintListener, DisposeListener
 {
     /** Color of the selection area. */
     private static final ColorRgba COLOR_MOUSE_SELECTION = new ColorRgba(240, 240, 240, 96);
+    /** Color of the object markers. */
+    private static final ColorRgba COLOR_MARKER = new ColorRgba(240, 96, 96, 192);
+    /** Redraw margin in pixel, covering scaled rendering rounding. */
+    private static final int REDRAW_MARGIN = 2;
 
     /**
      * Render world background.
@@ -69,14 +105,26 @@ public class WorldRenderer implements PaintListener
     private final Camera camera;
     /** Map reference. */
     private final MapTile map;
-    /** Map viewer reference. */
-    private final MapTileViewer mapViewer;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
     /** Handler object. */
     private final Handler handler;
     /** Selection handler. */
     private final Selection selection;
     /** World zoom. */
     private final WorldZoomUpdater zoom;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
+    /** Redraw scheduler. */
+    private final WorldRedrawScheduler scheduler = new WorldRedrawScheduler(this::redrawDirty);
+    /** Back buffer, <code>null</code> if not created. */
+    private ImageBuffer buffer;
+    /** Back buffer graphic, <code>null</code> if not created. */
+    private Graphic gbuffer;
+    /** Paint graphic, kept between paints to reuse its colors, <code>null</code> if not created. */
+    private Graphic gscreen;
+    /** Native scale transform, kept between paints, <code>null</code> if not created. */
+    private org.eclipse.swt.graphics.Transform scaling;
 
     /**
      * Create a world renderer with grid enabled.
@@ -89,10 +137,11 @@ public class WorldRenderer implements PaintListener
         this.partService = partService;
         camera = services.get(Camera.class);
         map = services.get(MapTile.class);
-        mapViewer = map.getFeature(MapTileViewer.class);
+        mapCache = services.get(WorldMapCache.class);
         handler = services.get(Handler.class);
         selection = services.get(Selection.class);
         zoom = services.get(WorldZoomUpdater.class);
+        dirty = services.get(WorldDirtyArea.class);
 
         UtilExtension.clearCache();
 
@@ -107,41 +156,210 @@ public class WorldRenderer implements PaintListener
         }
     }
 
+    /**
+     * Request the control redraw, merged with pending requests until next scheduled frame.
+     * 
+     * @param control The control to redraw.
+     */
+    public void redraw(Control control)
+    {
+        scheduler.request(control);
+    }
+
+    /**
+     * Get the redraw scheduler.
+     * 
+     * @return The redraw scheduler.
+     */
+    public WorldRedrawScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
     /**
      * Render the world and its components.
      * 
-     * @param g The graphic output.
-     * @param width The buffer width.
-     * @param height The buffer height.
+     * @param g The graphic output, its resolution divided by <code>2^level</code>.
+     * @param width The world view width.
+     * @param height The world view height.
+     * @param level The level of detail (<code>0</code> for full detail).
      */
-    protected void render(Graphic g, int width, int height)
+    protected void render(Graphic g, int width, int height, int level)
     {
         camera.setView(0, 0, width, height, height);
         camera.setLimits(map);
 
         renderBackground(g, width, height);
-        renderMap(g, width, height);
+        renderMap(g, width, height, level);
         handler.update(1.0);
-        handler.render(g);
+        if (level == 0)
+        {
+            handler.render(g);
+        }
+        else
+        {
+            renderMarkers(g, width, height, level);
+        }
+
+        selection.render(g, COLOR_MOUSE_SELECTION, level);
+    }
 
+    /**
+     * Render the world and its components at screen resolution.
+     * 
+     * @param g The graphic output, at screen resolution.
+     * @param width The world view width.
+     * @param height The world view height.
+     * @param scale The zoom scale.
+     */
+    protected void renderScaled(Graphic g, int width, int height, double scale)
+    {
+        camera.setView(0, 0, width, height, height);
+        camera.setLimits(map);
+
+        final int screenWidth = (int) Math.ceil(width * scale);
+        final int screenHeight = (int) Math.ceil(height * scale);
+        renderBackground(g, screenWidth, screenHeight);
+        g.setColor(ColorRgba.BLUE);
+        g.drawRect(0, 0, screenWidth, screenHeight, true);
+        if (map.getSheetsNumber() > 0 && zoom.isAnimating())
+        {
+            mapCache.renderStretched(g, width, height, scale);
+        }
+        else if (map.getSheetsNumber() > 0)
+        {
+            mapCache.render(g, width, height, scale);
+        }
+        handler.update(1.0);
+
+        final GC gc = (GC) g.getGraphic();
+        if (scaling == null)
+        {
+            scaling = new org.eclipse.swt.graphics.Transform(gc.getDevice());
+        }
+        scaling.setElements((float) scale, 0.0F, 0.0F, (float) scale, 0.0F, 0.0F);
+        gc.setTransform(scaling);
+        handler.render(g);
         selection.render(g, COLOR_MOUSE_SELECTION);
+        gc.setTransform(null);
     }
 
     /**
-     * Render the map.
+     * Render the map from its chunks cache.
      * 
-     * @param g The graphic output.
+     * @param g The graphic output, its resolution divided by <code>2^level</code>.
      * @param areaX The horizontal rendering area.
      * @param areaY The vertical rendering area.
+     * @param level The level of detail (<code>0</code> for full detail).
      */
-    protected void renderMap(Graphic g, int areaX, int areaY)
+    protected void renderMap(Graphic g, int areaX, int areaY, int level)
     {
         g.setColor(ColorRgba.BLUE);
         g.drawRect(0, 0, areaX, areaY, true);
 
         if (map.getSheetsNumber() > 0)
         {
-            mapViewer.render(g);
+            mapCache.render(g, areaX, areaY, level);
+        }
+    }
+
+    /**
+     * Render the visible objects as markers of their area, at least one pixel large.
+     * 
+     * @param g The graphic output, its resolution divided by <code>2^level</code>.
+     * @param width The world view width.
+     * @param height The world view height.
+     * @param level The level of detail.
+     */
+    private void renderMarkers(Graphic g, int width, int height, int level)
+    {
+        g.setColor(COLOR_MARKER);
+        for (final ObjectRepresentation object : handler.get(ObjectRepresentation.class))
+        {
+            final Rectangle rectangle = object.getRectangle();
+            final int x = (int) Math.floor(rectangle.getX());
+            final int y = (int) Math.floor(rectangle.getY());
+            if (x + rectangle.getWidth() >= 0 && y + rectangle.getHeight() >= 0 && x < width && y < height)
+            {
+                g.drawRect(x >> level,
+                           y >> level,
+                           Math.max(1, rectangle.getWidth() >> level),
+                           Math.max(1, rectangle.getHeight() >> level),
+                           true);
+            }
+        }
+    }
+
+    /**
+     * Redraw the control, limited to the area changed since last rendering.
+     * Whole control is redrawn on full invalidation, nothing is redrawn if nothing changed.
+     * 
+     * @param control The control to redraw.
+     * @return <code>true</code> if a redraw has been issued, <code>false</code> else.
+     */
+    private boolean redrawDirty(Control control)
+    {
+        boolean redrawn = false;
+        if (!control.isDisposed())
+        {
+            selection.computeDirtyArea(dirty);
+            for (final WorldRenderListener listener : listeners)
+            {
+                listener.computeDirtyArea(dirty);
+            }
+
+            if (dirty.isFull())
+            {
+                control.redraw();
+                redrawn = true;
+            }
+            else if (!dirty.isEmpty())
+            {
+                final double scale = zoom.getScale();
+                final int x = (int) Math.floor(dirty.getX() * scale) - REDRAW_MARGIN;
+                final int y = (int) Math.floor(dirty.getY() * scale) - REDRAW_MARGIN;
+                final int width = (int) Math.ceil(dirty.getWidth() * scale) + REDRAW_MARGIN * 2;
+                final int height = (int) Math.ceil(dirty.getHeight() * scale) + REDRAW_MARGIN * 2;
+                control.redraw(x, y, width, height, false);
+                redrawn = true;
+            }
+            dirty.reset();
+        }
+        return redrawn;
+    }
+
+    /**
+     * Get the back buffer graphic, create or resize back buffer if needed.
+     * 
+     * @param width The required width.
+     * @param height The required height.
+     * @return The back buffer graphic.
+     */
+    private Graphic getBufferGraphic(int width, int height)
+    {
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height)
+        {
+            disposeBuffer();
+            buffer = Graphics.createImageBuffer(width, height);
+            gbuffer = buffer.createGraphic();
+        }
+        return gbuffer;
+    }
+
+    /**
+     * Dispose back buffer if created.
+     */
+    private void disposeBuffer()
+    {
+        if (gbuffer != null)
+        {
+            gbuffer.dispose();
+            gbuffer = null;
+        }
+        if (buffer != null)
+        {
+            buffer.dispose();
+            buffer = null;
         }
     }
 
@@ -152,28 +370,86 @@ public class WorldRenderer implements PaintListener
     @Override
     public void paintControl(PaintEvent paintEvent)
     {
+        final long start = System.nanoTime();
+        final Control control = (Control) paintEvent.widget;
+        if (zoom.animate())
+        {
+            redraw(control);
+        }
+        final Rectangle area = control.getClientArea();
         final double scale = zoom.getScale();
-        final int width = (int) Math.ceil(paintEvent.width / scale);
-        final int height = (int) Math.ceil(paintEvent.height / scale);
+        final int level = zoom.getLevel();
+        final double bufferScale = scale * (1 << level);
+        final int width = (int) Math.ceil(area.width / scale);
+        final int height = (int) Math.ceil(area.height / scale);
 
-        final ImageBuffer buffer = Graphics.createImageBuffer(width, height);
-        final Graphic gbuffer = buffer.createGraphic();
-        render(gbuffer, width, height);
-        gbuffer.dispose();
+        if (level == 0)
+        {
+            final Graphic gbuffer = getBufferGraphic(area.width, area.height);
+            final GC clip = (GC) gbuffer.getGraphic();
+            clip.setClipping(paintEvent.x, paintEvent.y, paintEvent.width, paintEvent.height);
+            renderScaled(gbuffer, width, height, scale);
+        }
+        else
+        {
+            final Graphic gbuffer = getBufferGraphic((int) Math.ceil(area.width / bufferScale),
+                                                     (int) Math.ceil(area.height / bufferScale));
+            final GC clip = (GC) gbuffer.getGraphic();
+            clip.setClipping((int) Math.floor(paintEvent.x / bufferScale),
+                             (int) Math.floor(paintEvent.y / bufferScale),
+                             (int) Math.ceil(paintEvent.width / bufferScale) + 1,
+                             (int) Math.ceil(paintEvent.height / bufferScale) + 1);
+            render(gbuffer, width, height, level);
+        }
 
-        final GC gc = paintEvent.gc;
-        final Graphic g = Graphics.createGraphic();
-        g.setGraphic(gc);
+        if (gscreen == null)
+        {
+            gscreen = Graphics.createGraphic();
+        }
+        final Graphic g = gscreen;
+        g.setGraphic(paintEvent.gc);
 
-        transform.scale(scale, scale);
-        g.drawImage(buffer, transform, 0, 0);
-        buffer.dispose();
+        if (level == 0)
+        {
+            g.drawImage(buffer, 0, 0);
+        }
+        else
+        {
+            transform.scale(bufferScale, bufferScale);
+            g.drawImage(buffer, transform, 0, 0);
+        }
 
         final int tw = (int) Math.ceil(map.getTileWidth() * scale);
         final int th = (int) Math.ceil(map.getTileHeight() * scale);
         for (final WorldRenderListener listener : listeners)
         {
-            listener.onRender(g, paintEvent.width, paintEvent.height, scale, tw, th);
+            listener.onRender(g, area.width, area.height, scale, tw, th);
+        }
+        Metrics.endFrame(System.nanoTime() - start);
+    }
+
+    /*
+     * DisposeListener
+     */
+
+    @Override
+    public void widgetDisposed(DisposeEvent event)
+    {
+        disposeBuffer();
+        mapCache.dispose();
+        if (gscreen != null)
+        {
+            gscreen.dispose();
+            gscreen = null;
+        }
+        if (scaling != null)
+        {
+            scaling.dispose();
+            scaling = null;
+        }
+        for (final WorldRenderListener listener : listeners)
+        {
+            listener.onDispose();
         }
     }
 }
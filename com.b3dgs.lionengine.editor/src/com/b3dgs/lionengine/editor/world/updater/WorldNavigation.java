@@ -17,6 +17,7 @@
 package com.b3dgs.lionengine.editor.world.updater;
 
 import com.b3dgs.lionengine.editor.world.PaletteModel;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.editor.world.PaletteType;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
@@ -65,6 +66,8 @@ public class WorldNavigation implements WorldMouseMoveListener, WorldKeyboardLis
     private final WorldZoomUpdater zoom;
     /** Palette model. */
     private final PaletteModel palette;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
 
     /**
      * Create the world navigation.
@@ -77,6 +80,7 @@ public class WorldNavigation implements WorldMouseMoveListener, WorldKeyboardLis
         map = services.get(MapTile.class);
         zoom = services.get(WorldZoomUpdater.class);
         palette = services.get(PaletteModel.class);
+        dirty = services.get(WorldDirtyArea.class);
     }
 
     /*
@@ -89,6 +93,7 @@ public class WorldNavigation implements WorldMouseMoveListener, WorldKeyboardLis
         if (click > 0 && palette.isPalette(PaletteType.HAND))
         {
             camera.moveLocation(1.0, oldMx - (double) mx, my - (double) oldMy);
+            dirty.invalidate();
         }
     }
 
@@ -104,6 +109,10 @@ public class WorldNavigation implements WorldMouseMoveListener, WorldKeyboardLis
         final double scale = zoom.getScale();
         final int speedX = map.getTileWidth() * GRID_MOVEMENT_SENSIBILITY;
         final int speedY = map.getTileHeight() * GRID_MOVEMENT_SENSIBILITY;
-        camera.moveLocation(1.0, vx * speedX / scale, vy * speedY / scale);
+        if (Double.compare(vx, 0.0) != 0 || Double.compare(vy, 0.0) != 0)
+        {
+            camera.moveLocation(1.0, vx * speedX / scale, vy * speedY / scale);
+            dirty.invalidate();
+        }
     }
 }
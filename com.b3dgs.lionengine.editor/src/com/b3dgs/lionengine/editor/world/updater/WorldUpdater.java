@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.KeyEvent;
 import org.eclipse.swt.events.KeyListener;
 import org.eclipse.swt.events.MouseEvent;
@@ -28,6 +29,10 @@ import org.eclipse.swt.events.MouseMoveListener;
 import org.eclipse.swt.events.MouseWheelListener;
 
 import com.b3dgs.lionengine.editor.utility.UtilExtension;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
+import com.b3dgs.lionengine.editor.world.WorldJournal;
+import com.b3dgs.lionengine.editor.world.WorldMapCache;
+import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 import com.b3dgs.lionengine.game.feature.tile.map.collision.MapTileCollisionRenderer;
@@ -35,6 +40,9 @@ import com.b3dgs.lionengine.game.feature.tile.map.viewer.MapTileViewer;
 
 /**
  * World updater, update the current world.
+ * <p>
+ * Edits are undone with <code>Ctrl+Z</code>, and redone with <code>Ctrl+Y</code> or <code>Ctrl+Shift+Z</code>.
+ * </p>
  */
 public class WorldUpdater implements KeyListener, MouseListener, MouseMoveListener, MouseWheelListener
 {
@@ -50,6 +58,10 @@ public class WorldUpdater implements KeyListener, MouseListener, MouseMoveListen
     private final Collection<WorldKeyboardListener> keyListeners = new ArrayList<>();
     /** Map collision renderer. */
     private final MapTileCollisionRenderer mapCollisionRenderer;
+    /** Map cache. */
+    private final WorldMapCache mapCache;
+    /** Edits journal. */
+    private final WorldJournal journal;
     /** Zoom handler. */
     private final WorldZoomUpdater zoom;
     /** Map reference. */
@@ -77,6 +89,11 @@ public class WorldUpdater implements KeyListener, MouseListener, MouseMoveListen
         map = services.get(MapTile.class);
         mapCollisionRenderer = map.getFeature(MapTileCollisionRenderer.class);
         gridEnabled = true;
+        services.add(new WorldDirtyArea(services.get(Camera.class)));
+        mapCache = new WorldMapCache(services);
+        services.add(mapCache);
+        journal = new WorldJournal(services);
+        services.add(journal);
 
         UtilExtension.clearCache();
         for (final WorldMouseClickListener listener : UtilExtension.get(WorldMouseClickListener.class,
@@ -188,6 +205,7 @@ public class WorldUpdater implements KeyListener, MouseListener, MouseMoveListen
             mapCollisionRenderer.clearCollisionDraw();
             map.getFeature(MapTileViewer.class).removeRenderer(mapCollisionRenderer);
         }
+        mapCache.setOverlay(collisionsEnabled);
     }
 
     /**
@@ -345,6 +363,17 @@ public class WorldUpdater implements KeyListener, MouseListener, MouseMoveListen
     @Override
     public void keyPressed(KeyEvent keyEvent)
     {
+        if ((keyEvent.stateMask & SWT.MOD1) != 0)
+        {
+            if (keyEvent.keyCode == 'z' && (keyEvent.stateMask & SWT.SHIFT) == 0)
+            {
+                journal.undo();
+            }
+            else if (keyEvent.keyCode == 'y' || keyEvent.keyCode == 'z')
+            {
+                journal.redo();
+            }
+        }
         for (final WorldKeyboardListener listener : keyListeners)
         {
             listener.onKeyPushed(Integer.valueOf(keyEvent.keyCode));
@@ -17,12 +17,21 @@
 package com.b3dgs.lionengine.editor.world.updater;
 
 import com.b3dgs.lionengine.UtilMath;
+import com.b3dgs.lionengine.editor.world.WorldDirtyArea;
 import com.b3dgs.lionengine.game.feature.Camera;
 import com.b3dgs.lionengine.game.feature.Services;
 import com.b3dgs.lionengine.game.feature.tile.map.MapTile;
 
 /**
  * Handle the world zoom capability.
+ * <p>
+ * Below {@link #LEVEL_SCALE}, world is rendered with a lower level of detail (see {@link #getLevel()}), each level
+ * halving the rendering resolution, down to one pixel per tile.
+ * </p>
+ * <p>
+ * Mouse wheel zoom is animated: displayed scale ({@link #getScale()}) moves toward the zoom value on each
+ * {@link #animate()}, keeping the scrolled location under the cursor.
+ * </p>
  */
 public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScrollListener
 {
@@ -31,18 +40,34 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     /** Maximum zoom value. */
     public static final int ZOOM_MAX = 900;
     /** Minimum zoom value. */
-    public static final int ZOOM_MIN = 25;
+    public static final int ZOOM_MIN = 5;
+    /** Scale from which a lower level of detail is used. */
+    public static final double LEVEL_SCALE = 0.5;
+    /** Part of the remaining scale reached on each animation step. */
+    private static final double ANIMATION_SPEED = 0.4;
+    /** Remaining scale under which animation ends. */
+    private static final double ANIMATION_EPSILON = 0.005;
 
     /** Camera reference. */
     private final Camera camera;
     /** Map reference. */
     private final MapTile map;
+    /** Dirty area. */
+    private final WorldDirtyArea dirty;
     /** Zoom level in percent. */
     private int zoomPercent;
+    /** Displayed scale. */
+    private double scale = 1.0;
     /** Old scale. */
     private double oldScale;
+    /** Last scroll horizontal location. */
+    private int anchorX;
+    /** Last scroll vertical location. */
+    private int anchorY;
     /** Zoom enabled flag. */
     private boolean enabled;
+    /** Animated flag. */
+    private boolean animated = true;
 
     /**
      * Create the world zoom.
@@ -53,6 +78,7 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     {
         camera = services.get(Camera.class);
         map = services.get(MapTile.class);
+        dirty = services.get(WorldDirtyArea.class);
         zoomPercent = ZOOM_DEFAULT;
         enabled = true;
     }
@@ -87,7 +113,7 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     public void zoom(int step)
     {
         final int tw = map.getTileWidth();
-        final double scale = getScale();
+        final double scale = zoomPercent / 100.0;
         final double next;
         if (zoomPercent < 100)
         {
@@ -109,6 +135,53 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     public void setPercent(int percent)
     {
         zoomPercent = UtilMath.clamp(percent, ZOOM_MIN, ZOOM_MAX);
+        scale = zoomPercent / 100.0;
+    }
+
+    /**
+     * Set the mouse wheel zoom animation state.
+     * 
+     * @param animated <code>true</code> to animate, <code>false</code> to apply zoom at once.
+     */
+    public void setAnimated(boolean animated)
+    {
+        this.animated = animated;
+    }
+
+    /**
+     * Move the displayed scale toward the zoom value, keeping the last scrolled location under the cursor.
+     * 
+     * @return <code>true</code> if displayed scale changed, <code>false</code> if zoom value already reached.
+     */
+    public boolean animate()
+    {
+        final double target = zoomPercent / 100.0;
+        final boolean changed = Double.compare(scale, target) != 0;
+        if (changed)
+        {
+            oldScale = scale;
+            if (Math.abs(target - scale) < ANIMATION_EPSILON)
+            {
+                scale = target;
+            }
+            else
+            {
+                scale += (target - scale) * ANIMATION_SPEED;
+            }
+            updateScrollToCursor(anchorX, anchorY);
+            dirty.invalidate();
+        }
+        return changed;
+    }
+
+    /**
+     * Check if displayed scale is still moving toward the zoom value (see {@link #animate()}).
+     * 
+     * @return <code>true</code> if animating, <code>false</code> if zoom value reached.
+     */
+    public boolean isAnimating()
+    {
+        return Double.compare(scale, zoomPercent / 100.0) != 0;
     }
 
     /**
@@ -122,13 +195,32 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     }
 
     /**
-     * Get the zoom scale.
+     * Get the displayed zoom scale, which may not have reached the zoom value yet (see {@link #animate()}).
      * 
-     * @return The zoom scale.
+     * @return The displayed zoom scale.
      */
     public double getScale()
     {
-        return zoomPercent / 100.0;
+        return scale;
+    }
+
+    /**
+     * Get the level of detail of the current zoom, where rendering resolution is divided by <code>2^level</code>.
+     * Level is <code>0</code> above {@link #LEVEL_SCALE}, each next level starts at half the previous level scale, and
+     * it is limited to one pixel per tile.
+     * 
+     * @return The level of detail (<code>0</code> for full detail).
+     */
+    public int getLevel()
+    {
+        final double scale = getScale();
+        final int tileSize = Math.min(map.getTileWidth(), map.getTileHeight());
+        int level = 0;
+        while (scale <= LEVEL_SCALE / (1 << level) && 2 << level <= tileSize)
+        {
+            level++;
+        }
+        return level;
     }
 
     /**
@@ -174,7 +266,7 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
     {
         if (enabled)
         {
-            oldScale = getScale();
+            final double current = scale;
             if (UtilMath.getSign(value) > 0)
             {
                 zoomIn();
@@ -183,7 +275,18 @@ public class WorldZoomUpdater implements WorldMouseClickListener, WorldMouseScro
             {
                 zoomOut();
             }
-            updateScrollToCursor(mx, my);
+            if (animated)
+            {
+                scale = current;
+                anchorX = mx;
+                anchorY = my;
+            }
+            else
+            {
+                oldScale = current;
+                updateScrollToCursor(mx, my);
+            }
+            dirty.invalidate();
         }
     }
 }
@@ -28,7 +28,6 @@ import org.eclipse.swt.events.KeyAdapter;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseWheelListener;
-import org.eclipse.swt.events.PaintListener;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -67,7 +66,7 @@ public class WorldPart implements WorldView, Focusable
      * @param renderer The renderer reference.
      * @return The created part.
      */
-    public static Canvas createPart(Composite parent, WorldUpdater updater, PaintListener renderer)
+    public static Canvas createPart(Composite parent, WorldUpdater updater, WorldRenderer renderer)
     {
         final GridLayout layout = new GridLayout(1, false);
         layout.marginHeight = 1;
@@ -83,47 +82,35 @@ public class WorldPart implements WorldView, Focusable
         composite.addKeyListener(updater);
 
         composite.addPaintListener(renderer);
+        composite.addDisposeListener(renderer);
         composite.addMouseListener(new MouseAdapter()
         {
             @Override
             public void mouseUp(MouseEvent event)
             {
-                update(composite);
+                renderer.redraw(composite);
             }
 
             @Override
             public void mouseDown(MouseEvent event)
             {
-                update(composite);
+                renderer.redraw(composite);
             }
         });
-        composite.addMouseMoveListener(event -> update(composite));
-        composite.addMouseWheelListener(event -> update(composite));
+        composite.addMouseMoveListener(event -> renderer.redraw(composite));
+        composite.addMouseWheelListener(event -> renderer.redraw(composite));
         composite.addKeyListener(new KeyAdapter()
         {
             @Override
             public void keyPressed(org.eclipse.swt.events.KeyEvent event)
             {
-                update(composite);
+                renderer.redraw(composite);
             }
         });
 
         return composite;
     }
 
-    /**
-     * Update and redraw composite if not disposed.
-     * 
-     * @param composite The composite to redraw.
-     */
-    private static void update(Composite composite)
-    {
-        if (!composite.isDisposed())
-        {
-            composite.redraw();
-        }
-    }
-
     /** Part service. */
     private final EPartService partService;
     /** Composite. */